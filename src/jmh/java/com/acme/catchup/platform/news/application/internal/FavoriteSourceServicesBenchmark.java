@@ -0,0 +1,106 @@
+package com.acme.catchup.platform.news.application.internal;
+
+import com.acme.catchup.platform.CatchUpPlatformApplication;
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByNewsApiKeyAndSourceIdQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceCommandService;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceQueryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * FavoriteSourceServicesBenchmark
+ * @summary
+ * Measures the favorite source query and command services end to end, through the Spring context,
+ * against an embedded H2 database (see application-benchmark.properties).
+ * The query benchmarks run with and without the query cache, and against tables of 10^4 to 10^6 favorite sources,
+ * so the lookups by News API Key, and by News API Key and source ID, show whether their latency grows with the table:
+ * they are served by the indexes that lead with the News API Key, so it should not.
+ * The favorite sources of the other News API Keys are inserted with SQL, with ids far above the ones of the sequence.
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FavoriteSourceServicesBenchmark {
+    private static final String NEWS_API_KEY = "0123456789abcdef0123456789abcdef";
+    private static final int SOURCES_PER_KEY = 100;
+    private static final long SEEDED_ID_OFFSET = 1_000_000_000L;
+
+    @Param({"none", "caffeine"})
+    public String cacheType;
+
+    @Param({"10000", "100000", "1000000"})
+    public int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private FavoriteSourceCommandService favoriteSourceCommandService;
+    private FavoriteSourceQueryService favoriteSourceQueryService;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CatchUpPlatformApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .properties("spring.cache.type=" + cacheType)
+                .run();
+        favoriteSourceCommandService = context.getBean(FavoriteSourceCommandService.class);
+        favoriteSourceQueryService = context.getBean(FavoriteSourceQueryService.class);
+        favoriteSourceCommandService.handle(new CreateFavoriteSourcesCommand(NEWS_API_KEY,
+                IntStream.range(0, SOURCES_PER_KEY).mapToObj(i -> "source-" + i).toList()));
+        seedOtherNewsApiKeys(context.getBean(JdbcTemplate.class));
+    }
+
+    /**
+     * Fills the table up to tableSize favorite sources, with the same source IDs for other News API Keys.
+     * @param jdbcTemplate the JdbcTemplate of the embedded database.
+     */
+    private void seedOtherNewsApiKeys(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into api_keys (news_api_key) select 'seed-key-' || x from system_range(1, ?)",
+                tableSize / SOURCES_PER_KEY - 1);
+        jdbcTemplate.update("""
+                insert into favorite_sources (id, api_key_id, source_key_id, created_at, updated_at)
+                select ? + row_number() over (order by k.id, s.id), k.id, s.id, current_timestamp, current_timestamp
+                from api_keys k cross join source_keys s
+                where k.news_api_key like 'seed-key-%'
+                """, SEEDED_ID_OFFSET);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<FavoriteSourceSummary> getAllFavoriteSourcesByNewsApiKey() {
+        return favoriteSourceQueryService.handle(new GetAllFavoriteSourcesByNewsApiKeyQuery(NEWS_API_KEY));
+    }
+
+    @Benchmark
+    public Optional<FavoriteSourceSummary> getFavoriteSourceByNewsApiKeyAndSourceId() {
+        return favoriteSourceQueryService.handle(new GetFavoriteSourceByNewsApiKeyAndSourceIdQuery(NEWS_API_KEY, "source-42"));
+    }
+
+    @Benchmark
+    public Optional<FavoriteSource> createFavoriteSource() {
+        return favoriteSourceCommandService.handle(new CreateFavoriteSourceCommand("benchmark-key", "source-" + sequence.incrementAndGet()));
+    }
+}
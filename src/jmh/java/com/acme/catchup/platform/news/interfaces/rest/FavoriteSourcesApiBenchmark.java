@@ -0,0 +1,91 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.CatchUpPlatformApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * FavoriteSourcesApiBenchmark
+ * @summary
+ * Measures the favorite sources API over HTTP, served by Spring MVC on JPA or, with the reactive profile, by WebFlux on R2DBC,
+ * against an embedded H2 database (see application-benchmark.properties).
+ * Each operation is a burst of concurrent requests for the favorite sources of a News API Key, sent at once
+ * and completed when all of them are answered, without the query cache.
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FavoriteSourcesApiBenchmark {
+    private static final String NEWS_API_KEY = "0123456789abcdef0123456789abcdef";
+    private static final int SOURCES_PER_KEY = 100;
+
+    @Param({"servlet", "reactive"})
+    public String stack;
+
+    @Param({"64", "256"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest getAllFavoriteSourcesRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        var database = "api-" + stack + "-" + concurrency;
+        var profiles = stack.equals("reactive") ? new String[]{"benchmark", "reactive"} : new String[]{"benchmark"};
+        context = new SpringApplicationBuilder(CatchUpPlatformApplication.class)
+                .profiles(profiles)
+                // The reactive repositories need the schema of the migrations, with its id tables, in a database of their own per trial
+                .run("--server.port=0", "--spring.cache.type=none",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///" + database + "?options=MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.flyway.enabled=true",
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect");
+        var baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/favorite-sources";
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        var sourceIds = IntStream.range(0, SOURCES_PER_KEY).mapToObj(i -> "\"source-" + i + "\"").toList();
+        var response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"newsApiKey\":\"" + NEWS_API_KEY + "\",\"sourceIds\":[" + String.join(",", sourceIds) + "]}"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 201) throw new IllegalStateException("The favorite sources could not be created: " + response.statusCode());
+        getAllFavoriteSourcesRequest = HttpRequest.newBuilder(URI.create(baseUrl + "?newsApiKey=" + NEWS_API_KEY)).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getAllFavoriteSourcesByNewsApiKey() {
+        var responses = IntStream.range(0, concurrency)
+                .mapToObj(i -> httpClient.sendAsync(getAllFavoriteSourcesRequest, HttpResponse.BodyHandlers.ofByteArray()))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(responses).join();
+        var bytes = 0;
+        for (var response : responses) {
+            var httpResponse = (HttpResponse<?>) response.join();
+            if (httpResponse.statusCode() != 200) throw new IllegalStateException("Unexpected status " + httpResponse.statusCode());
+            bytes += ((byte[]) httpResponse.body()).length;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,132 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.CatchUpPlatformApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * FavoriteSourcesQueryPathBenchmark
+ * @summary
+ * Measures the GET endpoints of the favorite sources API over HTTP, one request at a time, with and without open-in-view,
+ * against an embedded H2 database (see application-benchmark.properties), without the query cache.
+ * It reports how long a request held pooled JDBC connections on average, and how many times it took one, from the Hikari
+ * metrics, as the connectionHeldMicros and connectionUses secondary results.
+ * Run it with -prof gc for the allocations per request.
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FavoriteSourcesQueryPathBenchmark {
+    private static final String NEWS_API_KEY = "0123456789abcdef0123456789abcdef";
+    private static final int SOURCES_PER_KEY = 100;
+    private static final Pattern FIRST_ID = Pattern.compile("\"id\":(\\d+)");
+
+    @Param({"true", "false"})
+    public boolean openInView;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest getAllFavoriteSourcesRequest;
+    private HttpRequest getFavoriteSourceByIdRequest;
+    private long requests;
+
+    /**
+     * The use of the pooled JDBC connections per request over the measurement iterations, reported by JMH next to the time
+     * per request. JMH sums the events of the iterations, so they are only set at the end of the last one.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ConnectionUsage {
+        public double connectionHeldMicros;
+        public double connectionUses;
+
+        private int measurementIterations;
+        private Timer connectionUsage;
+        private long requestsBefore;
+        private double heldMicrosBefore;
+        private long usesBefore;
+
+        @Setup(Level.Iteration)
+        public void setUp(FavoriteSourcesQueryPathBenchmark benchmark, IterationParams iteration) {
+            if (iteration.getType() != IterationType.MEASUREMENT || measurementIterations++ > 0) return;
+            connectionUsage = benchmark.context.getBean(MeterRegistry.class).find("hikaricp.connections.usage").timer();
+            requestsBefore = benchmark.requests;
+            heldMicrosBefore = connectionUsage == null ? 0 : connectionUsage.totalTime(TimeUnit.MICROSECONDS);
+            usesBefore = connectionUsage == null ? 0 : connectionUsage.count();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown(FavoriteSourcesQueryPathBenchmark benchmark, IterationParams iteration) {
+            if (iteration.getType() != IterationType.MEASUREMENT || measurementIterations < iteration.getCount()) return;
+            var requests = benchmark.requests - requestsBefore;
+            if (connectionUsage == null || requests == 0) return;
+            connectionHeldMicros = (connectionUsage.totalTime(TimeUnit.MICROSECONDS) - heldMicrosBefore) / requests;
+            connectionUses = (double) (connectionUsage.count() - usesBefore) / requests;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        var database = "query-path-" + openInView;
+        context = new SpringApplicationBuilder(CatchUpPlatformApplication.class)
+                .profiles("benchmark")
+                .run("--server.port=0", "--spring.cache.type=none",
+                        "--spring.jpa.open-in-view=" + openInView,
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.flyway.enabled=true",
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect");
+        var baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/favorite-sources";
+        httpClient = HttpClient.newHttpClient();
+        var sourceIds = IntStream.range(0, SOURCES_PER_KEY).mapToObj(i -> "\"source-" + i + "\"").toList();
+        var response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"newsApiKey\":\"" + NEWS_API_KEY + "\",\"sourceIds\":[" + String.join(",", sourceIds) + "]}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) throw new IllegalStateException("The favorite sources could not be created: " + response.statusCode());
+        var id = FIRST_ID.matcher(response.body()).results().findFirst().orElseThrow().group(1);
+        getAllFavoriteSourcesRequest = HttpRequest.newBuilder(URI.create(baseUrl + "?newsApiKey=" + NEWS_API_KEY)).GET().build();
+        getFavoriteSourceByIdRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getAllFavoriteSourcesByNewsApiKey(ConnectionUsage connectionUsage) throws Exception {
+        return send(getAllFavoriteSourcesRequest);
+    }
+
+    @Benchmark
+    public int getFavoriteSourceById(ConnectionUsage connectionUsage) throws Exception {
+        return send(getFavoriteSourceByIdRequest);
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        var response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        requests++;
+        if (response.statusCode() != 200) throw new IllegalStateException("Unexpected status " + response.statusCode());
+        return response.body().length;
+    }
+}
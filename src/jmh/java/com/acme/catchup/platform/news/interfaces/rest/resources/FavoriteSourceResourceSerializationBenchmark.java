@@ -0,0 +1,100 @@
+package com.acme.catchup.platform.news.interfaces.rest.resources;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * FavoriteSourceResourceSerializationBenchmark
+ * @summary
+ * Measures the Jackson serialization of favorite source resource lists, as returned by the favorite sources endpoints,
+ * in each wire format, and with the gzip compression of the responses above the minimum size.
+ * The sizes of the serialized and compressed lists are reported as the bytes and compressedBytes secondary results.
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FavoriteSourceResourceSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private List<FavoriteSourceResource> favoriteSourceResources;
+    private ObjectWriter objectWriter;
+
+    /**
+     * The sizes of the serialized and compressed list, reported by JMH next to the time of the serialization.
+     * JMH sums the events of the iterations, so they are only set at the end of the last one.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long bytes;
+        public long compressedBytes;
+
+        private int measurementIterations;
+
+        @TearDown(Level.Iteration)
+        public void tearDown(FavoriteSourceResourceSerializationBenchmark benchmark, IterationParams iteration) throws IOException {
+            if (iteration.getType() != IterationType.MEASUREMENT || ++measurementIterations < iteration.getCount()) return;
+            bytes = benchmark.toBytes().length;
+            compressedBytes = benchmark.toCompressedBytes().length;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        favoriteSourceResources = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new FavoriteSourceResource(id, "0123456789abcdef0123456789abcdef", "source-" + id,
+                        new NewsSourceResource("Source " + id, "Breaking news, analysis and opinion from Source " + id + ".",
+                                "https://source-" + id + ".example.com", "general", "en", "us")))
+                .toList();
+        var objectMapper = new ObjectMapper(switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        });
+        objectWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, FavoriteSourceResource.class));
+    }
+
+    @Benchmark
+    public byte[] serialize(Sizes sizes) throws IOException {
+        return toBytes();
+    }
+
+    @Benchmark
+    public byte[] serializeAndCompress(Sizes sizes) throws IOException {
+        return toCompressedBytes();
+    }
+
+    private byte[] toBytes() throws IOException {
+        return objectWriter.writeValueAsBytes(favoriteSourceResources);
+    }
+
+    private byte[] toCompressedBytes() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(bytes)) {
+            objectWriter.writeValue(gzip, favoriteSourceResources);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,42 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FavoriteSourceAssemblersBenchmark
+ * @summary
+ * Measures the assemblers between the favorite source resources, commands and entities.
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FavoriteSourceAssemblersBenchmark {
+    private FavoriteSource favoriteSource;
+    private CreateFavoriteSourceResource createFavoriteSourceResource;
+
+    @Setup
+    public void setUp() {
+        favoriteSource = new FavoriteSource(new CreateFavoriteSourceCommand("0123456789abcdef0123456789abcdef", "bbc-news"));
+        createFavoriteSourceResource = new CreateFavoriteSourceResource("0123456789abcdef0123456789abcdef", "bbc-news");
+    }
+
+    @Benchmark
+    public FavoriteSourceResource toResourceFromEntity() {
+        return FavoriteSourceResourceFromEntityAssembler.toResourceFromEntity(favoriteSource);
+    }
+
+    @Benchmark
+    public CreateFavoriteSourceCommand toCommandFromResource() {
+        return CreateFavoriteSourceCommandFromResourceAssembler.toCommandFromResource(createFavoriteSourceResource);
+    }
+}
@@ -0,0 +1,87 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.jpa.strategy;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.encryptorcode.pluralize.Pluralize.pluralize;
+
+/**
+ * SnakeCasePhysicalNamingStrategyBenchmark
+ * @summary
+ * Measures the conversion of logical identifiers to physical table and column names.
+ * The bootstrap benchmarks name 4096 identifiers, drawn from 1024 distinct camel case names as entities share column names,
+ * with a new strategy each time as at bootstrap, against the regular expression strategy the memoized one replaced.
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnakeCasePhysicalNamingStrategyBenchmark {
+    private static final String[] WORDS = {"favorite", "source", "news", "api", "key", "created", "updated", "at", "id", "outbox",
+            "message", "event", "type", "payload", "attempts", "headline", "article", "published", "url", "title", "author",
+            "category", "language", "country", "description", "shard", "placement", "target", "version", "count", "name", "status"};
+
+    private final SnakeCasePhysicalNamingStrategy strategy = new SnakeCasePhysicalNamingStrategy();
+    private Identifier tableName;
+    private Identifier columnName;
+    private Identifier[] identifiers;
+
+    @Setup
+    public void setUp() {
+        tableName = Identifier.toIdentifier("FavoriteSource");
+        columnName = Identifier.toIdentifier("newsApiKey");
+
+        var random = new Random(42);
+        var names = new Identifier[1024];
+        for (int i = 0; i < names.length; i++) {
+            var name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+            for (int words = random.nextInt(3); words >= 0; words--) {
+                var word = WORDS[random.nextInt(WORDS.length)];
+                name.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            }
+            names[i] = Identifier.toIdentifier(name.toString());
+        }
+        identifiers = new Identifier[4096];
+        for (int i = 0; i < identifiers.length; i++) identifiers[i] = names[random.nextInt(names.length)];
+    }
+
+    @Benchmark
+    public void toPhysicalTableName(Blackhole blackhole) {
+        blackhole.consume(strategy.toPhysicalTableName(tableName, null));
+    }
+
+    @Benchmark
+    public void toPhysicalColumnName(Blackhole blackhole) {
+        blackhole.consume(strategy.toPhysicalColumnName(columnName, null));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void bootstrapNames(Blackhole blackhole) {
+        var bootstrapStrategy = new SnakeCasePhysicalNamingStrategy();
+        for (var identifier : identifiers) {
+            blackhole.consume(bootstrapStrategy.toPhysicalTableName(identifier, null));
+            blackhole.consume(bootstrapStrategy.toPhysicalColumnName(identifier, null));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void bootstrapNamesWithRegex(Blackhole blackhole) {
+        for (var identifier : identifiers) {
+            blackhole.consume(toSnakeCaseWithRegex(Identifier.toIdentifier(pluralize(identifier.getText()))));
+            blackhole.consume(toSnakeCaseWithRegex(identifier));
+        }
+    }
+
+    private static Identifier toSnakeCaseWithRegex(Identifier identifier) {
+        return Identifier.toIdentifier(identifier.getText().replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase());
+    }
+}
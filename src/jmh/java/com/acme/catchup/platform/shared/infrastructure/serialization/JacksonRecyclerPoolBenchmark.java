@@ -0,0 +1,61 @@
+package com.acme.catchup.platform.shared.infrastructure.serialization;
+
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JacksonRecyclerPoolBenchmark
+ * @summary
+ * Measures the Jackson serialization of a favorite source resource list on a new virtual thread, as a request is served
+ * with the virtual-threads profile, with the buffers recycled per thread (the Jackson default) or through a shared pool.
+ * Run with -prof gc to compare the allocations.
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonRecyclerPoolBenchmark {
+    @Param({"thread-local", "shared"})
+    public String recyclerPool;
+
+    private List<FavoriteSourceResource> favoriteSourceResources;
+    private ObjectWriter objectWriter;
+
+    @Setup
+    public void setUp() {
+        favoriteSourceResources = LongStream.rangeClosed(1, 100)
+                .mapToObj(id -> new FavoriteSourceResource(id, "0123456789abcdef0123456789abcdef", "source-" + id))
+                .toList();
+        var objectMapper = new ObjectMapper();
+        objectMapper.getFactory().setRecyclerPool(recyclerPool.equals("shared")
+                ? JsonRecyclerPools.sharedConcurrentDequePool()
+                : JsonRecyclerPools.threadLocalPool());
+        objectWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, FavoriteSourceResource.class));
+    }
+
+    @Benchmark
+    public byte[] serializeOnVirtualThread() throws InterruptedException {
+        var result = new byte[1][];
+        Thread.ofVirtual().start(() -> {
+            try {
+                result[0] = objectWriter.writeValueAsBytes(favoriteSourceResources);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).join();
+        return result[0];
+    }
+}
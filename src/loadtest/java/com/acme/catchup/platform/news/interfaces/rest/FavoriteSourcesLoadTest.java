@@ -0,0 +1,233 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.CatchUpPlatformApplication;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourcesResultResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * FavoriteSourcesLoadTest
+ * @summary
+ * Load tests the favorite sources API over HTTP, served by Spring MVC on JPA, on platform or virtual threads (the virtual-threads
+ * profile), or, with the reactive profile, by WebFlux on R2DBC,
+ * against an embedded H2 database (see application-loadtest.properties).
+ * It seeds the favorite sources of the workload, then sends a mix of reads and creations at a fixed arrival rate, whether or not
+ * the previous requests are answered, and measures each request from the time it was due, so a slow server is not hidden by
+ * a client that waits for it. The results are written to target/loadtest-result.json and compared with the baseline:
+ * the run exits with status 1, failing the build, when they regress past the tolerance.
+ * @since 1.0.0
+ */
+public final class FavoriteSourcesLoadTest {
+    private static final Path RESULT = Path.of("target", "loadtest-result.json");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .build();
+
+    private final LoadTestWorkload workload;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final AtomicLong createdSources = new AtomicLong();
+    private final List<Long> seededIds = new ArrayList<>();
+    private String baseUrl;
+
+    private FavoriteSourcesLoadTest(LoadTestWorkload workload) {
+        this.workload = workload;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var settings = LoadTestSettings.parse(args);
+        var result = new FavoriteSourcesLoadTest(settings.workload()).run();
+        print(result);
+        Files.createDirectories(RESULT.getParent());
+        OBJECT_MAPPER.writeValue(RESULT.toFile(), result);
+
+        if (settings.updateBaseline()) {
+            OBJECT_MAPPER.writeValue(settings.baseline().toFile(), result);
+            System.out.println("Baseline written to " + settings.baseline());
+            System.exit(0);
+        }
+        if (!Files.exists(settings.baseline())) {
+            System.out.println("No baseline at " + settings.baseline() + ": run with -Dloadtest.update-baseline=true to write it");
+            System.exit(1);
+        }
+        var baseline = OBJECT_MAPPER.readValue(settings.baseline().toFile(), LoadTestResult.class);
+        var regressions = result.regressionsFrom(baseline, settings.tolerance(), settings.tailTolerance());
+        if (regressions.isEmpty()) {
+            System.out.println("No regression from the baseline");
+            System.exit(0);
+        }
+        System.out.printf("Regressions from the baseline, with tolerances of %s and %s on the tails:%n", settings.tolerance(), settings.tailTolerance());
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        System.exit(1);
+    }
+
+    private LoadTestResult run() throws Exception {
+        var profiles = workload.stack().equals("servlet") ? new String[]{"loadtest"} : new String[]{"loadtest", workload.stack()};
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CatchUpPlatformApplication.class).profiles(profiles).run("--server.port=0");
+             var httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build()) {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/favorite-sources";
+            seed(httpClient);
+            drive(httpClient, workload.warmup());
+            return drive(httpClient, workload.duration());
+        }
+    }
+
+    private void seed(HttpClient httpClient) throws Exception {
+        var sourceIds = IntStream.range(0, workload.sourcesPerKey()).mapToObj(FavoriteSourcesLoadTest::seededSourceId).toList();
+        for (int key = 0; key < workload.keys(); key++) {
+            var body = OBJECT_MAPPER.writeValueAsString(Map.of("newsApiKey", newsApiKey(key), "sourceIds", sourceIds));
+            var response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 201)
+                throw new IllegalStateException("The favorite sources could not be seeded: " + response.statusCode());
+            OBJECT_MAPPER.readValue(response.body(), CreateFavoriteSourcesResultResource.class).created().stream()
+                    .map(FavoriteSourceResource::id)
+                    .forEach(seededIds::add);
+        }
+    }
+
+    private LoadTestResult drive(HttpClient httpClient, Duration length) {
+        var histograms = new EnumMap<Operation, Histogram>(Operation.class);
+        var requests = new EnumMap<Operation, LongAdder>(Operation.class);
+        var errors = new EnumMap<Operation, LongAdder>(Operation.class);
+        for (var operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(3));
+            requests.put(operation, new LongAdder());
+            errors.put(operation, new LongAdder());
+        }
+        var interval = TimeUnit.SECONDS.toNanos(1) / workload.rate();
+        var start = System.nanoTime();
+        var end = start + length.toNanos();
+        var responses = new ArrayList<CompletableFuture<?>>();
+        for (long due = start; due < end; due += interval) {
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime())
+                LockSupport.parkNanos(wait);
+            var operation = nextOperation();
+            var sent = due;
+            requests.get(operation).increment();
+            responses.add(httpClient.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        if (failure != null || response.statusCode() != operation.expectedStatus) {
+                            errors.get(operation).increment();
+                        } else {
+                            histograms.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent));
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        var elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        var operations = new LinkedHashMap<String, LoadTestResult.OperationResult>();
+        var all = new Histogram(3);
+        long allRequests = 0;
+        long allErrors = 0;
+        for (var operation : Operation.values()) {
+            var histogram = histograms.get(operation);
+            all.add(histogram);
+            allRequests += requests.get(operation).sum();
+            allErrors += errors.get(operation).sum();
+            operations.put(operation.name, operationResult(requests.get(operation).sum(), errors.get(operation).sum(), histogram, elapsedSeconds));
+        }
+        operations.put(LoadTestResult.ALL_OPERATIONS, operationResult(allRequests, allErrors, all, elapsedSeconds));
+        return new LoadTestResult(workload, operations);
+    }
+
+    private static LoadTestResult.OperationResult operationResult(long requests, long errors, Histogram histogram, double elapsedSeconds) {
+        return new LoadTestResult.OperationResult(
+                requests,
+                errors,
+                histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private Operation nextOperation() {
+        if (random.nextDouble() < workload.writeRatio()) return Operation.CREATE;
+        var reads = Operation.values().length - 1;
+        return Operation.values()[random.nextInt(reads)];
+    }
+
+    private HttpRequest request(Operation operation) {
+        var key = newsApiKey(random.nextInt(workload.keys()));
+        var builder = switch (operation) {
+            case GET_ALL_BY_NEWS_API_KEY -> HttpRequest.newBuilder(URI.create(baseUrl + "?newsApiKey=" + key));
+            case GET_PAGE_BY_NEWS_API_KEY -> HttpRequest.newBuilder(URI.create(baseUrl + "?newsApiKey=" + key + "&limit=20"));
+            case GET_BY_ID -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + seededIds.get(random.nextInt(seededIds.size()))));
+            case GET_BY_NEWS_API_KEY_AND_SOURCE_ID -> HttpRequest.newBuilder(URI.create(baseUrl + "?newsApiKey=" + key
+                    + "&sourceId=" + seededSourceId(random.nextInt(workload.sourcesPerKey()))));
+            case CREATE -> HttpRequest.newBuilder(URI.create(baseUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"newsApiKey\":\"" + key + "\",\"sourceId\":\"created-"
+                            + createdSources.incrementAndGet() + "\"}"));
+        };
+        return builder.timeout(REQUEST_TIMEOUT).build();
+    }
+
+    private static String newsApiKey(int key) {
+        return "%032x".formatted(key);
+    }
+
+    private static String seededSourceId(int source) {
+        return "source-" + source;
+    }
+
+    private static void print(LoadTestResult result) {
+        System.out.println(result.workload());
+        System.out.printf("%-40s %9s %7s %10s %10s %10s %10s %10s%n", "Operation", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        result.operations().forEach((name, operation) -> System.out.printf("%-40s %9d %7d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+                name, operation.requests(), operation.errors(), operation.throughput(), operation.p50(), operation.p99(), operation.p999(), operation.max()));
+    }
+
+    /**
+     * The operations of the workload: the reads first, all equally likely, then the creation.
+     */
+    private enum Operation {
+        GET_ALL_BY_NEWS_API_KEY("GET ?newsApiKey", 200),
+        GET_PAGE_BY_NEWS_API_KEY("GET ?newsApiKey&limit=20", 200),
+        GET_BY_ID("GET /{id}", 200),
+        GET_BY_NEWS_API_KEY_AND_SOURCE_ID("GET ?newsApiKey&sourceId", 200),
+        CREATE("POST", 201);
+
+        private final String name;
+        private final int expectedStatus;
+
+        Operation(String name, int expectedStatus) {
+            this.name = name;
+            this.expectedStatus = expectedStatus;
+        }
+    }
+}
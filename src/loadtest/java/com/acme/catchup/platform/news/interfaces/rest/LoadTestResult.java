@@ -0,0 +1,106 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadTestResult
+ * @summary
+ * The LoadTestResult record holds the results of a load test run, per operation and for all of them,
+ * and compares them with the results of a baseline run of the same workload.
+ * @param workload the load put on the favorite sources API.
+ * @param operations the results per operation, and for all of them under {@link #ALL_OPERATIONS}.
+ * @since 1.0.0
+ */
+public record LoadTestResult(LoadTestWorkload workload, Map<String, OperationResult> operations) {
+    /**
+     * The name of the results of all operations together.
+     */
+    public static final String ALL_OPERATIONS = "all";
+
+    /**
+     * Latencies within this many milliseconds of the baseline never regress: below it, the differences are noise.
+     */
+    private static final double LATENCY_SLACK_MILLIS = 1.0;
+
+    /**
+     * A latency percentile is only compared when this many requests at least are slower than it, as it is noise otherwise.
+     */
+    private static final int MIN_REQUESTS_OVER_PERCENTILE = 10;
+
+    public LoadTestResult {
+        if (workload == null)
+            throw new IllegalArgumentException("Workload cannot be null");
+        if (operations == null || !operations.containsKey(ALL_OPERATIONS))
+            throw new IllegalArgumentException("Operations must hold the results of all operations");
+    }
+
+    /**
+     * Compares the results with those of a baseline run.
+     * A latency percentile regresses when it is over the baseline by more than the tolerance, the throughput when it is under it
+     * by more than the tolerance, and the errors when there are more of them, in proportion, than in the baseline.
+     * The p99 and p999 latencies vary more from run to run than the median, so they have a tolerance of their own, and they are
+     * only compared when enough requests were sent to measure them.
+     * @param baseline the results of the baseline run, of the same workload.
+     * @param tolerance how much worse than the baseline the median latency and the throughput may be, as a fraction of the baseline.
+     * @param tailTolerance how much worse than the baseline the p99 and p999 latencies may be, as a fraction of the baseline.
+     * @return the regressions found, empty when there are none.
+     */
+    public List<String> regressionsFrom(LoadTestResult baseline, double tolerance, double tailTolerance) {
+        if (!workload.equals(baseline.workload()))
+            throw new IllegalArgumentException("The baseline was run with another workload: " + baseline.workload());
+        var regressions = new ArrayList<String>();
+        baseline.operations().forEach((name, expected) -> {
+            var actual = operations.get(name);
+            if (actual == null) return;
+            checkLatency(regressions, name, "p50", 50, actual.p50(), expected.p50(), actual.requests(), tolerance);
+            checkLatency(regressions, name, "p99", 99, actual.p99(), expected.p99(), actual.requests(), tailTolerance);
+            checkLatency(regressions, name, "p999", 99.9, actual.p999(), expected.p999(), actual.requests(), tailTolerance);
+            if (actual.throughput() < expected.throughput() * (1 - tolerance))
+                regressions.add("%s throughput %.1f/s, baseline %.1f/s".formatted(name, actual.throughput(), expected.throughput()));
+            if (actual.errorRate() > expected.errorRate())
+                regressions.add("%s errors %.2f%%, baseline %.2f%%".formatted(name, actual.errorRate() * 100, expected.errorRate() * 100));
+        });
+        return regressions;
+    }
+
+    private static void checkLatency(List<String> regressions, String name, String label, double percentile, double actual,
+                                     double expected, long requests, double tolerance) {
+        if (requests * (100 - percentile) / 100 < MIN_REQUESTS_OVER_PERCENTILE) return;
+        if (actual > expected * (1 + tolerance) && actual - expected > LATENCY_SLACK_MILLIS)
+            regressions.add("%s %s %.3f ms, baseline %.3f ms".formatted(name, label, actual, expected));
+    }
+
+    /**
+     * OperationResult
+     * @summary
+     * The OperationResult record holds the results of the requests of an operation, measured from the time they were due to be
+     * sent, so that the requests delayed by the previous ones are not left out.
+     * @param requests the number of requests sent.
+     * @param errors the number of requests that failed or were answered with an unexpected status.
+     * @param throughput the requests answered as expected, per second.
+     * @param p50 the median latency, in milliseconds.
+     * @param p99 the 99th percentile latency, in milliseconds.
+     * @param p999 the 99.9th percentile latency, in milliseconds.
+     * @param max the maximum latency, in milliseconds.
+     * @since 1.0.0
+     */
+    public record OperationResult(long requests, long errors, double throughput, double p50, double p99, double p999, double max) {
+        public OperationResult {
+            if (requests < 0 || errors < 0 || errors > requests)
+                throw new IllegalArgumentException("Errors must be between 0 and the number of requests");
+        }
+
+        /**
+         * Gets the share of the requests that failed.
+         * @return the share of the requests that failed, between 0 and 1.
+         */
+        @JsonIgnore
+        public double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+
+/**
+ * LoadTestSettings
+ * @summary
+ * The LoadTestSettings record holds the settings of a load test run, given as --name=value arguments
+ * (see the loadtest profile of the pom).
+ * @param workload the load put on the favorite sources API.
+ * @param baseline the file of the results the run is compared with.
+ * @param tolerance how much worse than the baseline the median latency and the throughput may be, as a fraction of the baseline.
+ * @param tailTolerance how much worse than the baseline the p99 and p999 latencies may be, as a fraction of the baseline.
+ * @param updateBaseline whether the results of the run replace the baseline instead of being compared with it.
+ * @since 1.0.0
+ */
+public record LoadTestSettings(LoadTestWorkload workload, Path baseline, double tolerance, double tailTolerance,
+                               boolean updateBaseline) {
+    public LoadTestSettings {
+        if (workload == null)
+            throw new IllegalArgumentException("Workload cannot be null");
+        if (baseline == null)
+            throw new IllegalArgumentException("Baseline cannot be null");
+        if (tolerance < 0 || tailTolerance < 0)
+            throw new IllegalArgumentException("Tolerances must not be negative");
+    }
+
+    /**
+     * Parses the settings of a load test run.
+     * @param args the --name=value arguments; the ones missing take their default value.
+     * @return the settings of the run.
+     */
+    public static LoadTestSettings parse(String... args) {
+        var values = new HashMap<String, String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0)
+                throw new IllegalArgumentException("Arguments must be --name=value: " + arg);
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        var workload = new LoadTestWorkload(
+                values.getOrDefault("stack", "servlet"),
+                Integer.parseInt(values.getOrDefault("keys", "200")),
+                Integer.parseInt(values.getOrDefault("sources-per-key", "50")),
+                Integer.parseInt(values.getOrDefault("rate", "50")),
+                Duration.parse(values.getOrDefault("warmup", "PT30S")),
+                Duration.parse(values.getOrDefault("duration", "PT60S")),
+                Double.parseDouble(values.getOrDefault("write-ratio", "0.1")));
+        return new LoadTestSettings(
+                workload,
+                Path.of(values.getOrDefault("baseline", "src/loadtest/resources/loadtest-baseline.json")),
+                Double.parseDouble(values.getOrDefault("tolerance", "0.25")),
+                Double.parseDouble(values.getOrDefault("tail-tolerance", "1.0")),
+                Boolean.parseBoolean(values.getOrDefault("update-baseline", "false")));
+    }
+}
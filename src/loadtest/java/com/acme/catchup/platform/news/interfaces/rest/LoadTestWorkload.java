@@ -0,0 +1,37 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import java.time.Duration;
+
+/**
+ * LoadTestWorkload
+ * @summary
+ * The LoadTestWorkload record describes the load a load test puts on the favorite sources API: the data seeded before it starts,
+ * and the requests sent at a fixed arrival rate, whether or not the previous ones are answered.
+ * @param stack servlet for Spring MVC on JPA, virtual-threads for Spring MVC on JPA with the virtual-threads profile,
+ *              or reactive for WebFlux on R2DBC.
+ * @param keys the number of News API Keys seeded.
+ * @param sourcesPerKey the number of favorite sources seeded per News API Key.
+ * @param rate the arrival rate, in requests per second.
+ * @param warmup how long requests are sent before they are measured.
+ * @param duration how long requests are measured.
+ * @param writeRatio the share of the requests that create a favorite source, the others reading them.
+ * @since 1.0.0
+ */
+public record LoadTestWorkload(String stack, int keys, int sourcesPerKey, int rate, Duration warmup, Duration duration, double writeRatio) {
+    public LoadTestWorkload {
+        if (!"servlet".equals(stack) && !"virtual-threads".equals(stack) && !"reactive".equals(stack))
+            throw new IllegalArgumentException("Stack must be servlet, virtual-threads or reactive");
+        if (keys <= 0)
+            throw new IllegalArgumentException("Keys must be positive");
+        if (sourcesPerKey <= 0)
+            throw new IllegalArgumentException("Sources per key must be positive");
+        if (rate <= 0)
+            throw new IllegalArgumentException("Rate must be positive");
+        if (warmup == null || warmup.isNegative())
+            throw new IllegalArgumentException("Warmup must not be negative");
+        if (duration == null || duration.isNegative() || duration.isZero())
+            throw new IllegalArgumentException("Duration must be positive");
+        if (writeRatio < 0 || writeRatio > 1)
+            throw new IllegalArgumentException("Write ratio must be between 0 and 1");
+    }
+}
@@ -1,19 +1,26 @@
 package com.acme.catchup.platform;
 
+import com.acme.catchup.platform.shared.infrastructure.aot.CatchUpPlatformRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * CatchUpPlatformApplication
  * @summary
  * CatchUpPlatformApplication is the main class that represents the entry point of the application.
  * It is responsible for starting the Spring Boot application.
- * It also enables JPA auditing.
+ * It also enables JPA auditing, caching and scheduling, and imports the runtime hints of the native image.
  * @since 1.0.0
  */
 @EnableJpaAuditing
+@EnableCaching
+@EnableScheduling
 @SpringBootApplication
+@ImportRuntimeHints(CatchUpPlatformRuntimeHints.class)
 public class CatchUpPlatformApplication {
 
     public static void main(String[] args) {
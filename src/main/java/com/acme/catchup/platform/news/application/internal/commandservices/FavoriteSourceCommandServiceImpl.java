@@ -1,11 +1,21 @@
 package com.acme.catchup.platform.news.application.internal.commandservices;
 
+import com.acme.catchup.platform.news.domain.exceptions.FavoriteSourceAlreadyExistsException;
 import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
 import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
 import com.acme.catchup.platform.news.domain.services.FavoriteSourceCommandService;
+import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceExistenceFilter;
 import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceRepository;
+import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceUniqueIndex;
+import com.acme.catchup.platform.shared.infrastructure.persistence.routing.ReadYourWrites;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,24 +23,69 @@ import java.util.Optional;
  * @summary
  * The FavoriteSourceCommandServiceImpl class is responsible for handling the favorite source commands.
  * It implements the FavoriteSourceCommandService interface.
+ * Creating a favorite source evicts the cached favorite sources of its News API Key, and their version, once the
+ * transaction commits (see TransactionAwareCachingConfiguration), so no query reads them before the commit after the eviction.
+ * Duplicates are detected by the unique index on News API Key and source ID when the insert is flushed;
+ * the violations of any other constraint are not duplicates, and are rethrown.
+ * Commands are handled in a transaction, so the domain events of the created favorite sources are stored in the outbox atomically.
+ * Writes are recorded per News API Key, so the queries that follow them read from the primary.
+ * The created favorite sources are added to the existence filter, and a batch only looks up the source IDs the filter
+ * reports as possibly existing, skipping the database when there are none.
  * @see FavoriteSourceCommandService
  * @since 1.0.0
  */
 @Service
 public class FavoriteSourceCommandServiceImpl implements FavoriteSourceCommandService {
     private final FavoriteSourceRepository favoriteSourceRepository;
+    private final ReadYourWrites readYourWrites;
+    private final FavoriteSourceExistenceFilter favoriteSourceExistenceFilter;
 
-    public FavoriteSourceCommandServiceImpl(FavoriteSourceRepository favoriteSourceRepository) {
+    public FavoriteSourceCommandServiceImpl(FavoriteSourceRepository favoriteSourceRepository, ReadYourWrites readYourWrites,
+                                            FavoriteSourceExistenceFilter favoriteSourceExistenceFilter) {
         this.favoriteSourceRepository = favoriteSourceRepository;
+        this.readYourWrites = readYourWrites;
+        this.favoriteSourceExistenceFilter = favoriteSourceExistenceFilter;
     }
 
     // @inheritdoc
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = {"favoriteSourcesByNewsApiKey", "favoriteSourcesVersionByNewsApiKey"}, key = "#command.newsApiKey()")
     public Optional<FavoriteSource> handle(CreateFavoriteSourceCommand command) {
-        if (favoriteSourceRepository.existsByNewsApiKeyAndSourceId(command.newsApiKey(), command.sourceId()))
-            throw new IllegalArgumentException("Favorite source with same source ID already exists for this API key");
         var favoriteSource = new FavoriteSource(command);
-        var createdFavoriteSource = favoriteSourceRepository.save(favoriteSource);
-        return Optional.of(createdFavoriteSource);
+        readYourWrites.recordWrite(command.newsApiKey());
+        favoriteSourceExistenceFilter.add(command.newsApiKey(), List.of(command.sourceId()));
+        try {
+            var createdFavoriteSource = favoriteSourceRepository.saveAndFlush(favoriteSource);
+            return Optional.of(createdFavoriteSource);
+        } catch (DataIntegrityViolationException e) {
+            if (FavoriteSourceUniqueIndex.isViolatedBy(e)) throw new FavoriteSourceAlreadyExistsException(e);
+            throw e;
+        }
+    }
+
+    // @inheritdoc
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {"favoriteSourcesByNewsApiKey", "favoriteSourcesVersionByNewsApiKey"}, key = "#command.newsApiKey()")
+    public List<FavoriteSource> handle(CreateFavoriteSourcesCommand command) {
+        var sourceIds = new LinkedHashSet<>(command.sourceIds());
+        var possiblyExistingSourceIds = sourceIds.stream()
+                .filter(sourceId -> favoriteSourceExistenceFilter.mightContain(command.newsApiKey(), sourceId))
+                .toList();
+        if (!possiblyExistingSourceIds.isEmpty())
+            favoriteSourceRepository.findSourceIdsByNewsApiKeyAndSourceIdIn(command.newsApiKey(), possiblyExistingSourceIds)
+                    .forEach(sourceIds::remove);
+        var favoriteSources = sourceIds.stream()
+                .map(sourceId -> new FavoriteSource(new CreateFavoriteSourceCommand(command.newsApiKey(), sourceId)))
+                .toList();
+        if (!favoriteSources.isEmpty()) readYourWrites.recordWrite(command.newsApiKey());
+        favoriteSourceExistenceFilter.add(command.newsApiKey(), sourceIds);
+        try {
+            return favoriteSourceRepository.saveAllAndFlush(favoriteSources);
+        } catch (DataIntegrityViolationException e) {
+            if (FavoriteSourceUniqueIndex.isViolatedBy(e)) throw new FavoriteSourceAlreadyExistsException(e);
+            throw e;
+        }
     }
 }
@@ -0,0 +1,130 @@
+package com.acme.catchup.platform.news.application.internal.commandservices;
+
+import com.acme.catchup.platform.news.domain.exceptions.FavoriteSourceAlreadyExistsException;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.domain.model.commands.ImportFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesImportProgress;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceCommandService;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceImportCommandService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * FavoriteSourceImportCommandServiceImpl
+ * @summary
+ * The FavoriteSourceImportCommandServiceImpl class is responsible for handling the import favorite sources commands.
+ * It implements the FavoriteSourceImportCommandService interface.
+ * Every chunk, of at most catchup.import.chunk-size rows, is committed as a create favorite sources command by the
+ * FavoriteSourceCommandService, in its own transaction, which also evicts the cached favorite sources of its News API Key.
+ * The import itself runs outside of any transaction, so the chunks committed stay committed when a later one fails,
+ * and the offset of its progress is that of the first row not committed.
+ * @see FavoriteSourceImportCommandService
+ * @see FavoriteSourceCommandService
+ * @since 1.0.0
+ */
+@Service
+public class FavoriteSourceImportCommandServiceImpl implements FavoriteSourceImportCommandService {
+    private final FavoriteSourceCommandService favoriteSourceCommandService;
+    private final int chunkSize;
+
+    public FavoriteSourceImportCommandServiceImpl(FavoriteSourceCommandService favoriteSourceCommandService,
+                                                  @Value("${catchup.import.chunk-size}") int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > CreateFavoriteSourcesCommand.MAX_SOURCE_IDS)
+            throw new IllegalArgumentException("catchup.import.chunk-size must be between 1 and " + CreateFavoriteSourcesCommand.MAX_SOURCE_IDS);
+        this.favoriteSourceCommandService = favoriteSourceCommandService;
+        this.chunkSize = chunkSize;
+    }
+
+    // @inheritdoc
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void handle(ImportFavoriteSourcesCommand command, Consumer<FavoriteSourcesImportProgress> progressConsumer) {
+        var favoriteSourcesImport = new FavoriteSourcesImport(command.offset());
+        var rows = command.rows();
+        var row = 0L;
+        FavoriteSourcesImportProgress progress;
+        try {
+            while (rows.hasNext()) {
+                var createFavoriteSourceCommand = rows.next();
+                if (++row <= command.offset()) continue;
+                var chunkProgress = favoriteSourcesImport.add(createFavoriteSourceCommand);
+                if (chunkProgress != null) progressConsumer.accept(chunkProgress);
+            }
+            progress = favoriteSourcesImport.complete();
+        } catch (IllegalArgumentException e) {
+            progress = favoriteSourcesImport.fail("Row " + (row + 1) + " is not a valid favorite source");
+        } catch (FavoriteSourceAlreadyExistsException | TransientDataAccessException e) {
+            progress = favoriteSourcesImport.fail("Favorite sources could not be committed, retry from the offset");
+        }
+        progressConsumer.accept(progress);
+    }
+
+    /**
+     * FavoriteSourcesImport
+     * @summary
+     * The FavoriteSourcesImport class gathers the rows of an import in chunks of consecutive rows of the same News API Key,
+     * up to the chunk size, and commits every chunk as a create favorite sources command.
+     * It counts the rows committed from the start of the file, and the favorite sources they created.
+     */
+    private final class FavoriteSourcesImport {
+        private final List<String> sourceIds = new ArrayList<>();
+        private String newsApiKey;
+        private long offset;
+        private long created;
+        private long skipped;
+
+        FavoriteSourcesImport(long offset) {
+            this.offset = offset;
+        }
+
+        /**
+         * Adds a row to the chunk, committing the chunk first when it is of another News API Key, and after when it is full.
+         * As the chunk is committed as soon as it is full, at most one chunk is committed per row.
+         * @param command the create favorite source command of the row.
+         * @return the progress after the chunk committed, or null if none was.
+         */
+        FavoriteSourcesImportProgress add(CreateFavoriteSourceCommand command) {
+            FavoriteSourcesImportProgress progress = null;
+            if (!sourceIds.isEmpty() && !command.newsApiKey().equals(newsApiKey)) progress = commit();
+            newsApiKey = command.newsApiKey();
+            sourceIds.add(command.sourceId());
+            if (sourceIds.size() == chunkSize) progress = commit();
+            return progress;
+        }
+
+        /**
+         * Commits the last chunk.
+         * @return the progress of the completed import.
+         */
+        FavoriteSourcesImportProgress complete() {
+            if (!sourceIds.isEmpty()) commit();
+            return new FavoriteSourcesImportProgress(offset, created, skipped, true, null);
+        }
+
+        /**
+         * Ends the import before the end of the file, without committing the chunk.
+         * @param error why the import ends.
+         * @return the progress of the failed import.
+         */
+        FavoriteSourcesImportProgress fail(String error) {
+            return new FavoriteSourcesImportProgress(offset, created, skipped, false, error);
+        }
+
+        private FavoriteSourcesImportProgress commit() {
+            var createdFavoriteSources = favoriteSourceCommandService.handle(new CreateFavoriteSourcesCommand(newsApiKey, sourceIds));
+            offset += sourceIds.size();
+            created += createdFavoriteSources.size();
+            skipped += sourceIds.size() - createdFavoriteSources.size();
+            sourceIds.clear();
+            return new FavoriteSourcesImportProgress(offset, created, skipped, false, null);
+        }
+    }
+}
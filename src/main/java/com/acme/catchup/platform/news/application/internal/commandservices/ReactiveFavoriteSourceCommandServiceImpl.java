@@ -0,0 +1,126 @@
+package com.acme.catchup.platform.news.application.internal.commandservices;
+
+import com.acme.catchup.platform.news.domain.exceptions.FavoriteSourceAlreadyExistsException;
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.news.domain.services.ReactiveFavoriteSourceCommandService;
+import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceExistenceFilter;
+import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceUniqueIndex;
+import com.acme.catchup.platform.news.infrastructure.persistence.r2dbc.ReactiveFavoriteSourceRepository;
+import com.acme.catchup.platform.shared.infrastructure.outbox.ReactiveOutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * ReactiveFavoriteSourceCommandServiceImpl
+ * @summary
+ * The ReactiveFavoriteSourceCommandServiceImpl class is responsible for handling the favorite source commands through R2DBC.
+ * It implements the ReactiveFavoriteSourceCommandService interface, for the reactive profile.
+ * The ids of the favorite sources and of their outbox messages are allocated first; then the favorite sources and the
+ * FavoriteSourceCreatedEvent outbox messages are inserted in one R2DBC transaction, so the events are stored atomically,
+ * and consumed by the same outbox worker as the ones stored through JPA.
+ * The transaction manager is not a bean, so the JPA one stays the transaction manager of the @Transactional services.
+ * Duplicates are detected by the unique index on News API Key and source ID; the violations of any other constraint are not duplicates.
+ * Once committed, the cached favorite sources of the News API Key and their version are evicted, as the JPA query service caches them.
+ * The created favorite sources are added to the existence filter before they are inserted, and again once committed,
+ * and a batch only looks up the source IDs the filter reports as possibly existing.
+ * @see ReactiveFavoriteSourceCommandService
+ * @since 1.0.0
+ */
+@Service
+@Profile("reactive")
+public class ReactiveFavoriteSourceCommandServiceImpl implements ReactiveFavoriteSourceCommandService {
+    private final ReactiveFavoriteSourceRepository favoriteSourceRepository;
+    private final ReactiveOutboxMessageRepository outboxMessageRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final FavoriteSourceExistenceFilter favoriteSourceExistenceFilter;
+
+    public ReactiveFavoriteSourceCommandServiceImpl(ReactiveFavoriteSourceRepository favoriteSourceRepository,
+                                                    ReactiveOutboxMessageRepository outboxMessageRepository,
+                                                    DatabaseClient databaseClient, CacheManager cacheManager, ObjectMapper objectMapper,
+                                                    FavoriteSourceExistenceFilter favoriteSourceExistenceFilter) {
+        this.favoriteSourceRepository = favoriteSourceRepository;
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(databaseClient.getConnectionFactory()));
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.favoriteSourceExistenceFilter = favoriteSourceExistenceFilter;
+    }
+
+    // @inheritdoc
+    @Override
+    public Mono<FavoriteSource> handle(CreateFavoriteSourceCommand command) {
+        return create(command.newsApiKey(), List.of(command.sourceId())).map(List::getFirst);
+    }
+
+    // @inheritdoc
+    @Override
+    public Mono<List<FavoriteSource>> handle(CreateFavoriteSourcesCommand command) {
+        var sourceIds = new LinkedHashSet<>(command.sourceIds());
+        var possiblyExistingSourceIds = sourceIds.stream()
+                .filter(sourceId -> favoriteSourceExistenceFilter.mightContain(command.newsApiKey(), sourceId))
+                .toList();
+        var existingSourceIds = possiblyExistingSourceIds.isEmpty() ? Flux.<String>empty()
+                : favoriteSourceRepository.findSourceIdsByNewsApiKeyAndSourceIdIn(command.newsApiKey(), possiblyExistingSourceIds);
+        return existingSourceIds
+                .doOnNext(sourceIds::remove)
+                .then(Mono.defer(() -> sourceIds.isEmpty() ? Mono.just(List.<FavoriteSource>of()) : create(command.newsApiKey(), List.copyOf(sourceIds))));
+    }
+
+    /**
+     * Creates favorite sources for a News API Key, with their FavoriteSourceCreatedEvent outbox messages.
+     * @param newsApiKey the News API Key.
+     * @param sourceIds the source IDs, not empty and without repetitions.
+     * @return the created favorite sources, in the order of the source IDs.
+     */
+    private Mono<List<FavoriteSource>> create(String newsApiKey, List<String> sourceIds) {
+        var now = new Date();
+        favoriteSourceExistenceFilter.add(newsApiKey, sourceIds);
+        return Flux.fromIterable(sourceIds)
+                .concatMap(sourceId -> Mono.zip(
+                        favoriteSourceRepository.nextId().map(id -> new FavoriteSource(id, newsApiKey, sourceId, now, now)),
+                        outboxMessageRepository.nextId()))
+                .collectList()
+                .flatMap(creations -> Flux.fromIterable(creations)
+                        .concatMap(creation -> favoriteSourceRepository.insert(creation.getT1())
+                                .then(outboxMessageRepository.insert(creation.getT2(), FavoriteSourceCreatedEvent.class.getName(),
+                                        toPayload(creation.getT1()), now)))
+                        .then(Mono.fromSupplier(() -> creations.stream().map(Tuple2::getT1).toList()))
+                        .as(transactionalOperator::transactional))
+                .onErrorMap(e -> e instanceof DataIntegrityViolationException violation && FavoriteSourceUniqueIndex.isViolatedBy(violation),
+                        FavoriteSourceAlreadyExistsException::new)
+                .doOnSuccess(favoriteSources -> {
+                    favoriteSourceExistenceFilter.add(newsApiKey, sourceIds);
+                    for (var cacheName : List.of("favoriteSourcesByNewsApiKey", "favoriteSourcesVersionByNewsApiKey")) {
+                        var cache = cacheManager.getCache(cacheName);
+                        if (cache != null) cache.evict(newsApiKey);
+                    }
+                });
+    }
+
+    private String toPayload(FavoriteSource favoriteSource) {
+        try {
+            return objectMapper.writeValueAsString(new FavoriteSourceCreatedEvent(favoriteSource.getNewsApiKey(), favoriteSource.getSourceId()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Favorite source created event cannot be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.acme.catchup.platform.news.application.internal.eventhandlers;
+
+import com.acme.catchup.platform.news.domain.exceptions.TooManyChangeSubscribersException;
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceChangesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceChange;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceChangeQueryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FavoriteSourceChangeHub
+ * @summary
+ * The FavoriteSourceChangeHub class fans the changes of the favorite sources of every News API Key out to its subscribers, in process.
+ * It implements the FavoriteSourceChangeQueryService interface, and publishes the favorite sources added as the
+ * FavoriteSourceCreatedEventConsumer implementations receive them, and the articles found by the FavoriteSourceHeadlinesPoller,
+ * so a change reaches every subscriber of the News API Key without a query per subscriber.
+ * <ul>
+ * <li>Every subscriber has a bounded buffer. A subscriber whose buffer is full when a change or a heartbeat is published is evicted:
+ * its subscription completes once the buffered changes are sent, and the other subscribers are not held back.</li>
+ * <li>The last changes of every News API Key are kept, also for a while after its last subscriber leaves, so a subscriber
+ * resumes after the id of the last change it received. When the changes after that id are no longer known, or would not fit
+ * in its buffer, it receives a RESYNC change instead, to read the favorite sources again.</li>
+ * <li>Ids are unique within the run of the instance, so an id from another run or instance is answered with a RESYNC change.</li>
+ * </ul>
+ * A slot is reserved when the changes are subscribed to, not when they are requested, so concurrent subscriptions never
+ * exceed the maximum number of subscribers; the ones beyond it receive a TooManyChangeSubscribersException error.
+ * As the outbox delivers events at least once, a favorite source may be reported as added more than once.
+ * With several instances, the favorite sources added reach the subscribers of the instance that drains their events.
+ * @see FavoriteSourceChangeQueryService
+ * @see FavoriteSourceHeadlinesPoller
+ * @since 1.0.0
+ */
+@Service
+public class FavoriteSourceChangeHub implements FavoriteSourceChangeQueryService, FavoriteSourceCreatedEventConsumer {
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+    private final int subscriberBufferSize;
+    private final int replaySize;
+    private final Duration replayRetention;
+    private final int maxSubscribers;
+    private final Duration maxConnectionAge;
+    private final Counter evictions;
+
+    public FavoriteSourceChangeHub(MeterRegistry meterRegistry,
+                                   @Value("${catchup.changes.subscriber-buffer-size}") int subscriberBufferSize,
+                                   @Value("${catchup.changes.replay-size}") int replaySize,
+                                   @Value("${catchup.changes.replay-retention}") Duration replayRetention,
+                                   @Value("${catchup.changes.max-subscribers}") int maxSubscribers,
+                                   @Value("${catchup.changes.max-connection-age}") Duration maxConnectionAge) {
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.replaySize = replaySize;
+        this.replayRetention = replayRetention;
+        this.maxSubscribers = maxSubscribers;
+        this.maxConnectionAge = maxConnectionAge;
+        Gauge.builder("catchup.changes.subscribers", subscribers, AtomicInteger::get)
+                .description("Subscribers to the changes of favorite sources")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("catchup.changes.evictions")
+                .description("Subscribers to the changes of favorite sources evicted for falling behind")
+                .register(meterRegistry);
+    }
+
+    // @inheritdoc
+    @Override
+    public Flux<FavoriteSourceChange> handle(GetFavoriteSourceChangesByNewsApiKeyQuery query) {
+        return Flux.defer(() -> {
+            if (subscribers.incrementAndGet() > maxSubscribers) {
+                subscribers.decrementAndGet();
+                return Flux.error(new TooManyChangeSubscribersException(maxSubscribers));
+            }
+            var subscriber = new Subscriber(subscriberBufferSize);
+            topics.compute(query.newsApiKey(), (newsApiKey, topic) -> {
+                var subscribed = topic == null ? new Topic(newsApiKey, sequence.get()) : topic;
+                subscribed.subscribe(subscriber, query.lastEventId());
+                return subscribed;
+            });
+            return subscriber.changes.asFlux()
+                    .take(maxConnectionAge)
+                    .doFinally(signal -> unsubscribe(query.newsApiKey(), subscriber));
+        });
+    }
+
+    // @inheritdoc
+    @Override
+    public void consume(List<FavoriteSourceCreatedEvent> events) {
+        var sourceIdsByNewsApiKey = new LinkedHashMap<String, List<String>>();
+        for (var event : events)
+            sourceIdsByNewsApiKey.computeIfAbsent(event.newsApiKey(), newsApiKey -> new ArrayList<>()).add(event.sourceId());
+        sourceIdsByNewsApiKey.forEach((newsApiKey, sourceIds) ->
+                publish(newsApiKey, FavoriteSourceChange.Type.SOURCES_ADDED, sourceIds, List.of()));
+    }
+
+    /**
+     * Publishes the new articles of the favorite sources of a News API Key to its subscribers.
+     * @param newsApiKey the News API Key.
+     * @param articles the new articles.
+     */
+    public void publishArticles(String newsApiKey, List<Article> articles) {
+        publish(newsApiKey, FavoriteSourceChange.Type.ARTICLES_PUBLISHED, List.of(), articles);
+    }
+
+    /**
+     * Gets the News API Keys that have subscribers.
+     * @return the News API Keys.
+     */
+    public Set<String> findSubscribedNewsApiKeys() {
+        var newsApiKeys = new HashSet<String>();
+        topics.forEach((newsApiKey, topic) -> {
+            if (topic.hasSubscribers()) newsApiKeys.add(newsApiKey);
+        });
+        return newsApiKeys;
+    }
+
+    /**
+     * Sends a heartbeat to every subscriber, evicting those whose buffer is full,
+     * and forgets the changes of the News API Keys without subscribers for longer than the replay retention.
+     */
+    @Scheduled(fixedDelayString = "${catchup.changes.heartbeat-interval}")
+    public void heartbeat() {
+        var now = System.nanoTime();
+        topics.forEach((newsApiKey, topic) -> {
+            topic.heartbeat();
+            topics.computeIfPresent(newsApiKey, (key, current) -> current.isExpired(now) ? null : current);
+        });
+    }
+
+    private void publish(String newsApiKey, FavoriteSourceChange.Type type, List<String> sourceIds, List<Article> articles) {
+        var topic = topics.get(newsApiKey);
+        if (topic != null) topic.publish(type, sourceIds, articles);
+    }
+
+    private void unsubscribe(String newsApiKey, Subscriber subscriber) {
+        var topic = topics.get(newsApiKey);
+        if (topic != null && topic.unsubscribe(subscriber)) subscribers.decrementAndGet();
+    }
+
+    private String idOf(long changeSequence) {
+        return run + "-" + changeSequence;
+    }
+
+    /**
+     * Parses the sequence of a change id of this run.
+     * @return the sequence, or -1 if the id is not one of this run.
+     */
+    private long sequenceOf(String id) {
+        var separator = id.lastIndexOf('-');
+        if (separator < 0 || !id.substring(0, separator).equals(run)) return -1;
+        try {
+            return Long.parseLong(id.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Topic
+     * @summary
+     * The Topic class holds the subscribers and the last changes of a News API Key.
+     * Its changes are published, replayed and heartbeats sent under its lock, so every subscriber receives them once and in order.
+     */
+    private final class Topic {
+        private final String newsApiKey;
+        private final Deque<FavoriteSourceChange> replay = new ArrayDeque<>();
+        private final Set<Subscriber> topicSubscribers = new LinkedHashSet<>();
+        private long replayedAfter;
+        private long lastSequence;
+        private long idleSince = System.nanoTime();
+
+        Topic(String newsApiKey, long createdAfter) {
+            this.newsApiKey = newsApiKey;
+            this.replayedAfter = createdAfter;
+            this.lastSequence = createdAfter;
+        }
+
+        synchronized void publish(FavoriteSourceChange.Type type, List<String> sourceIds, List<Article> articles) {
+            lastSequence = sequence.incrementAndGet();
+            var change = new FavoriteSourceChange(idOf(lastSequence), type, newsApiKey, sourceIds, articles);
+            replay.addLast(change);
+            if (replay.size() > replaySize) replayedAfter = sequenceOf(replay.removeFirst().id());
+            offerToAll(change);
+        }
+
+        synchronized void subscribe(Subscriber subscriber, String lastEventId) {
+            if (lastEventId != null) {
+                var lastSeen = sequenceOf(lastEventId);
+                var missed = replay.stream().filter(change -> sequenceOf(change.id()) > lastSeen).toList();
+                if (lastSeen < replayedAfter || lastSeen > sequence.get() || missed.size() > subscriberBufferSize) {
+                    subscriber.offer(new FavoriteSourceChange(idOf(lastSequence),
+                            FavoriteSourceChange.Type.RESYNC, newsApiKey, List.of(), List.of()));
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+            topicSubscribers.add(subscriber);
+        }
+
+        synchronized boolean unsubscribe(Subscriber subscriber) {
+            var removed = topicSubscribers.remove(subscriber);
+            if (removed && topicSubscribers.isEmpty()) idleSince = System.nanoTime();
+            return removed;
+        }
+
+        synchronized void heartbeat() {
+            if (!topicSubscribers.isEmpty())
+                offerToAll(new FavoriteSourceChange(null, FavoriteSourceChange.Type.HEARTBEAT, newsApiKey, List.of(), List.of()));
+        }
+
+        synchronized boolean hasSubscribers() {
+            return !topicSubscribers.isEmpty();
+        }
+
+        synchronized boolean isExpired(long now) {
+            return topicSubscribers.isEmpty() && now - idleSince > replayRetention.toNanos();
+        }
+
+        /**
+         * Offers a change to every subscriber, evicting those whose buffer is full.
+         * Emitting may run the subscribers, which may unsubscribe, so a copy of the subscribers is iterated.
+         */
+        private void offerToAll(FavoriteSourceChange change) {
+            for (var subscriber : List.copyOf(topicSubscribers)) {
+                if (subscriber.offer(change) || !unsubscribe(subscriber)) continue;
+                subscribers.decrementAndGet();
+                evictions.increment();
+                subscriber.close();
+            }
+        }
+    }
+
+    /**
+     * Subscriber
+     * @summary
+     * The Subscriber class buffers the changes for a subscriber until it requests them, up to the size of its buffer.
+     */
+    private static final class Subscriber {
+        private final Sinks.Many<FavoriteSourceChange> changes;
+
+        Subscriber(int bufferSize) {
+            this.changes = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(bufferSize));
+        }
+
+        boolean offer(FavoriteSourceChange change) {
+            return changes.tryEmitNext(change).isSuccess();
+        }
+
+        void close() {
+            changes.tryEmitComplete();
+        }
+    }
+}
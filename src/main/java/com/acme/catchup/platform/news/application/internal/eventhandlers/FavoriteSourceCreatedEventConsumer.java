@@ -0,0 +1,22 @@
+package com.acme.catchup.platform.news.application.internal.eventhandlers;
+
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+
+import java.util.List;
+
+/**
+ * FavoriteSourceCreatedEventConsumer
+ * @summary
+ * The FavoriteSourceCreatedEventConsumer interface represents the follow-up work done after favorite sources are created.
+ * Its implementations receive the events in batches, from a background worker, after the creation is committed.
+ * Since events are delivered at least once, it must tolerate receiving the same event again.
+ * @see FavoriteSourceCreatedOutboxWorker
+ * @since 1.0.0
+ */
+public interface FavoriteSourceCreatedEventConsumer {
+    /**
+     * Consumes a batch of favorite source created events.
+     * @param events the events, in the order they were raised.
+     */
+    void consume(List<FavoriteSourceCreatedEvent> events);
+}
@@ -0,0 +1,44 @@
+package com.acme.catchup.platform.news.application.internal.eventhandlers;
+
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.shared.infrastructure.outbox.OutboxMessage;
+import com.acme.catchup.platform.shared.infrastructure.outbox.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * FavoriteSourceCreatedEventHandler
+ * @summary
+ * The FavoriteSourceCreatedEventHandler class is responsible for handling the FavoriteSourceCreatedEvent domain event.
+ * It stores the event in the outbox, within the transaction that creates the favorite source.
+ * @see FavoriteSourceCreatedOutboxWorker
+ * @since 1.0.0
+ */
+@Service
+public class FavoriteSourceCreatedEventHandler {
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    public FavoriteSourceCreatedEventHandler(OutboxMessageRepository outboxMessageRepository, ObjectMapper objectMapper) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Handles the favorite source created event.
+     * @param event the favorite source created event.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(FavoriteSourceCreatedEvent event) {
+        try {
+            outboxMessageRepository.save(new OutboxMessage(FavoriteSourceCreatedEvent.class.getName(), objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Favorite source created event cannot be serialized", e);
+        }
+    }
+}
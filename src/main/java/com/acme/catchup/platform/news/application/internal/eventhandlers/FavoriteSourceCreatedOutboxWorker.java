@@ -0,0 +1,131 @@
+package com.acme.catchup.platform.news.application.internal.eventhandlers;
+
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.news.infrastructure.persistence.sharding.FavoriteSourceShards;
+import com.acme.catchup.platform.shared.infrastructure.outbox.OutboxMessage;
+import com.acme.catchup.platform.shared.infrastructure.outbox.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * FavoriteSourceCreatedOutboxWorker
+ * @summary
+ * The FavoriteSourceCreatedOutboxWorker class drains the favorite source created events from the outbox in the background.
+ * Every poll, it claims a batch of messages in a short transaction, leasing them, then hands their events to the
+ * FavoriteSourceCreatedEventConsumer implementations with no transaction nor row lock held, and deletes them once consumed.
+ * When a consumer fails, the batch is attempted again once its lease ends, up to the configured maximum attempts;
+ * a worker that stops while consuming leaves its batch to be claimed again the same way.
+ * Messages whose events cannot be deserialized, or whose attempts are exhausted, are dead: they are logged, counted
+ * as catchup.outbox.dead.messages, and left in the outbox without holding back the messages after them.
+ * With sharding, the outbox of every shard is drained, each in its own transactions.
+ * @see FavoriteSourceCreatedEventConsumer
+ * @since 1.0.0
+ */
+@Service
+public class FavoriteSourceCreatedOutboxWorker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FavoriteSourceCreatedOutboxWorker.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final List<FavoriteSourceCreatedEventConsumer> consumers;
+    private final ObjectMapper objectMapper;
+    private final FavoriteSourceShards favoriteSourceShards;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deadMessages;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration leaseDuration;
+
+    public FavoriteSourceCreatedOutboxWorker(OutboxMessageRepository outboxMessageRepository,
+                                             List<FavoriteSourceCreatedEventConsumer> consumers,
+                                             ObjectMapper objectMapper,
+                                             FavoriteSourceShards favoriteSourceShards,
+                                             PlatformTransactionManager transactionManager,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${catchup.outbox.batch-size}") int batchSize,
+                                             @Value("${catchup.outbox.max-attempts}") int maxAttempts,
+                                             @Value("${catchup.outbox.lease-duration}") Duration leaseDuration) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.consumers = consumers;
+        this.objectMapper = objectMapper;
+        this.favoriteSourceShards = favoriteSourceShards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deadMessages = Counter.builder("catchup.outbox.dead.messages")
+                .description("Outbox messages left unconsumed, as their events cannot be deserialized or their attempts are exhausted")
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /**
+     * Drains a batch of favorite source created events from the outbox.
+     */
+    @Scheduled(fixedDelayString = "${catchup.outbox.poll-interval}")
+    public void drain() {
+        favoriteSourceShards.forEach(this::drainBatch);
+    }
+
+    private void drainBatch() {
+        var batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.messages().isEmpty()) return;
+        try {
+            consumers.forEach(consumer -> consumer.consume(batch.events()));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Favorite source created events could not be consumed, they will be retried", e);
+            batch.messages().stream().filter(message -> message.getAttempts() >= maxAttempts).forEach(message -> registerDead(message, e));
+            return;
+        }
+        var ids = batch.messages().stream().map(OutboxMessage::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.deleteAllByIdInBatch(ids));
+    }
+
+    private Batch claimBatch() {
+        var messages = outboxMessageRepository.findAllClaimableByEventType(
+                FavoriteSourceCreatedEvent.class.getName(), maxAttempts, new Date(), Limit.of(batchSize));
+        var leasedUntil = Date.from(Instant.now().plus(leaseDuration));
+        var claimedMessages = new ArrayList<OutboxMessage>(messages.size());
+        var events = new ArrayList<FavoriteSourceCreatedEvent>(messages.size());
+        for (var message : messages) {
+            message.lease(leasedUntil);
+            try {
+                events.add(objectMapper.readValue(message.getPayload(), FavoriteSourceCreatedEvent.class));
+                claimedMessages.add(message);
+            } catch (JsonProcessingException e) {
+                message.markDead(maxAttempts);
+                registerDead(message, e);
+            }
+        }
+        return new Batch(claimedMessages, events);
+    }
+
+    private void registerDead(OutboxMessage message, Exception cause) {
+        LOGGER.error("Outbox message {} is dead after {} attempts, it is left in the outbox", message.getId(), message.getAttempts(), cause);
+        deadMessages.increment();
+    }
+
+    /**
+     * Batch
+     * @summary
+     * Batch is a record class that represents the outbox messages claimed by the worker, with their events.
+     * @param messages - the claimed outbox messages.
+     * @param events - the events of the messages, in the same order.
+     */
+    private record Batch(List<OutboxMessage> messages, List<FavoriteSourceCreatedEvent> events) {
+    }
+}
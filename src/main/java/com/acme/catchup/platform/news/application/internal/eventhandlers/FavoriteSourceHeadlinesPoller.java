@@ -0,0 +1,111 @@
+package com.acme.catchup.platform.news.application.internal.eventhandlers;
+
+import com.acme.catchup.platform.news.domain.model.queries.GetHeadlinesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+import com.acme.catchup.platform.news.domain.services.HeadlineQueryService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * FavoriteSourceHeadlinesPoller
+ * @summary
+ * The FavoriteSourceHeadlinesPoller class polls the headlines of the News API Keys that have subscribers to their changes,
+ * and publishes the articles that were not in the previous poll to the FavoriteSourceChangeHub.
+ * The headlines are fetched once per News API Key and poll, however many subscribers it has, so they spend the budget of the key
+ * with the news provider once per poll. The first poll of a News API Key only records its articles.
+ * The polls run on virtual threads, with at most max-concurrency News API Keys polled at a time, and a poll is skipped
+ * while the previous one runs, so the scheduler is not held.
+ * @see FavoriteSourceChangeHub
+ * @since 1.0.0
+ */
+@Service
+public class FavoriteSourceHeadlinesPoller {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FavoriteSourceHeadlinesPoller.class);
+
+    private final FavoriteSourceChangeHub favoriteSourceChangeHub;
+    private final HeadlineQueryService headlineQueryService;
+    private final int maxConcurrency;
+    private final Map<String, Set<String>> lastArticleUrls = new ConcurrentHashMap<>();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FavoriteSourceHeadlinesPoller(FavoriteSourceChangeHub favoriteSourceChangeHub,
+                                         HeadlineQueryService headlineQueryService,
+                                         @Value("${catchup.changes.headlines-max-concurrency}") int maxConcurrency) {
+        this.favoriteSourceChangeHub = favoriteSourceChangeHub;
+        this.headlineQueryService = headlineQueryService;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Starts polling the headlines of the News API Keys that have subscribers, unless the previous poll still runs.
+     */
+    @Scheduled(fixedDelayString = "${catchup.changes.headlines-poll-interval}")
+    public void poll() {
+        if (!polling.compareAndSet(false, true)) return;
+        executor.execute(() -> {
+            try {
+                pollSubscribedNewsApiKeys();
+            } finally {
+                polling.set(false);
+            }
+        });
+    }
+
+    private void pollSubscribedNewsApiKeys() {
+        var newsApiKeys = favoriteSourceChangeHub.findSubscribedNewsApiKeys();
+        lastArticleUrls.keySet().retainAll(newsApiKeys);
+        var permits = new Semaphore(maxConcurrency);
+        var polls = newsApiKeys.stream()
+                .map(newsApiKey -> CompletableFuture.runAsync(() -> pollWithPermit(newsApiKey, permits), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(polls).join();
+    }
+
+    private void pollWithPermit(String newsApiKey, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            pollHeadlines(newsApiKey);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Headlines could not be polled for a News API Key", e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void pollHeadlines(String newsApiKey) {
+        var articles = headlineQueryService.handle(new GetHeadlinesByNewsApiKeyQuery(newsApiKey)).articles();
+        var articleUrls = articles.stream().map(Article::url).collect(Collectors.toSet());
+        var previousArticleUrls = lastArticleUrls.put(newsApiKey, articleUrls);
+        if (previousArticleUrls == null) return;
+        var newArticles = articles.stream().filter(article -> !previousArticleUrls.contains(article.url())).toList();
+        if (!newArticles.isEmpty()) favoriteSourceChangeHub.publishArticles(newsApiKey, newArticles);
+    }
+
+    /**
+     * Stops the executor of the polls.
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,30 @@
+package com.acme.catchup.platform.news.application.internal.eventhandlers;
+
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.news.domain.services.NewsSourceCatalogue;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * NewsSourceCatalogueRefresher
+ * @summary
+ * The NewsSourceCatalogueRefresher class refreshes the news source catalogue when favorite sources unknown to it are created,
+ * so their details are available before they are first requested.
+ * @see NewsSourceCatalogue
+ * @since 1.0.0
+ */
+@Service
+public class NewsSourceCatalogueRefresher implements FavoriteSourceCreatedEventConsumer {
+    private final NewsSourceCatalogue newsSourceCatalogue;
+
+    public NewsSourceCatalogueRefresher(NewsSourceCatalogue newsSourceCatalogue) {
+        this.newsSourceCatalogue = newsSourceCatalogue;
+    }
+
+    // @inheritdoc
+    @Override
+    public void consume(List<FavoriteSourceCreatedEvent> events) {
+        newsSourceCatalogue.refreshIfAbsent(events.stream().map(FavoriteSourceCreatedEvent::sourceId).toList());
+    }
+}
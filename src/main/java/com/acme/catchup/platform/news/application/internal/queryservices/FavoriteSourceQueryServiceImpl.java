@@ -1,47 +1,121 @@
 package com.acme.catchup.platform.news.application.internal.queryservices;
 
-import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
 import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
 import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByIdQuery;
 import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByNewsApiKeyAndSourceIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesPageByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesVersionByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.ReloadFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.StreamFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion;
 import com.acme.catchup.platform.news.domain.services.FavoriteSourceQueryService;
+import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceExistenceFilter;
 import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceRepository;
+import com.acme.catchup.platform.shared.infrastructure.persistence.routing.ReadYourWrites;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * FavoriteSourceQueryServiceImpl
  * @summary
  * The FavoriteSourceQueryServiceImpl class is responsible for handling the favorite source queries.
  * It implements the FavoriteSourceQueryService interface.
+ * The favorite sources are selected as FavoriteSourceSummary projections, so the queries neither load entities nor keep
+ * snapshots of them for dirty checking, and the transactions end before the results are serialized.
+ * Results are cached per query; empty results for single favorite source lookups are not cached,
+ * so a newly created favorite source is visible without evicting those entries.
+ * The version of the favorite sources of a News API Key is cached next to them, and a reload replaces the cached ones.
+ * Queries run in read-only transactions. Those by News API Key go to a replica when replica routing is enabled,
+ * unless the News API Key was just written. Lookups by ID stay on the primary, as the ID of a favorite source is
+ * only known from its creation, and is typically read right after it.
+ * Lookups by News API Key and source ID of favorite sources missing from the existence filter, when it is enabled,
+ * return empty without running a query.
  * @see FavoriteSourceQueryService
  * @since 1.0.0
  */
 @Service
 public class FavoriteSourceQueryServiceImpl implements FavoriteSourceQueryService {
     private final FavoriteSourceRepository favoriteSourceRepository;
+    private final ReadYourWrites readYourWrites;
+    private final FavoriteSourceExistenceFilter favoriteSourceExistenceFilter;
 
-    public FavoriteSourceQueryServiceImpl(FavoriteSourceRepository favoriteSourceRepository) {
+    public FavoriteSourceQueryServiceImpl(FavoriteSourceRepository favoriteSourceRepository, ReadYourWrites readYourWrites,
+                                          FavoriteSourceExistenceFilter favoriteSourceExistenceFilter) {
         this.favoriteSourceRepository = favoriteSourceRepository;
+        this.readYourWrites = readYourWrites;
+        this.favoriteSourceExistenceFilter = favoriteSourceExistenceFilter;
     }
 
     // @inheritdoc
     @Override
-    public List<FavoriteSource> handle(GetAllFavoriteSourcesByNewsApiKeyQuery query) {
-        return favoriteSourceRepository.findAllByNewsApiKey(query.newsApiKey());
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "favoriteSourcesByNewsApiKey", key = "#query.newsApiKey()")
+    public List<FavoriteSourceSummary> handle(GetAllFavoriteSourcesByNewsApiKeyQuery query) {
+        return readYourWrites.read(query.newsApiKey(), () -> favoriteSourceRepository.findAllByNewsApiKey(query.newsApiKey()));
     }
 
     // @inheritdoc
     @Override
-    public Optional<FavoriteSource> handle(GetFavoriteSourceByIdQuery query) {
-        return favoriteSourceRepository.findById(query.id());
+    @Transactional(readOnly = true)
+    @Caching(put = @CachePut(cacheNames = "favoriteSourcesByNewsApiKey", key = "#query.newsApiKey()"),
+            evict = @CacheEvict(cacheNames = "favoriteSourcesVersionByNewsApiKey", key = "#query.newsApiKey()"))
+    public List<FavoriteSourceSummary> handle(ReloadFavoriteSourcesByNewsApiKeyQuery query) {
+        return ReadYourWrites.onPrimary(() -> favoriteSourceRepository.findAllByNewsApiKey(query.newsApiKey()));
     }
 
     // @inheritdoc
     @Override
-    public Optional<FavoriteSource> handle(GetFavoriteSourceByNewsApiKeyAndSourceIdQuery query) {
-        return favoriteSourceRepository.findByNewsApiKeyAndSourceId(query.newsApiKey(), query.sourceId());
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "favoriteSourceById", key = "#query.id()", unless = "#result == null")
+    public Optional<FavoriteSourceSummary> handle(GetFavoriteSourceByIdQuery query) {
+        return ReadYourWrites.onPrimary(() -> favoriteSourceRepository.findSummaryById(query.id()));
+    }
+
+    // @inheritdoc
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "favoriteSourceByNewsApiKeyAndSourceId", key = "{#query.newsApiKey(), #query.sourceId()}", unless = "#result == null")
+    public Optional<FavoriteSourceSummary> handle(GetFavoriteSourceByNewsApiKeyAndSourceIdQuery query) {
+        if (!favoriteSourceExistenceFilter.mightContain(query.newsApiKey(), query.sourceId())) return Optional.empty();
+        return readYourWrites.read(query.newsApiKey(),
+                () -> favoriteSourceRepository.findByNewsApiKeyAndSourceId(query.newsApiKey(), query.sourceId()));
+    }
+
+    // @inheritdoc
+    @Override
+    @Transactional(readOnly = true)
+    public List<FavoriteSourceSummary> handle(GetFavoriteSourcesPageByNewsApiKeyQuery query) {
+        return readYourWrites.read(query.newsApiKey(), () -> favoriteSourceRepository.findAllByNewsApiKeyAndIdGreaterThanOrderByIdAsc(
+                query.newsApiKey(), query.afterId(), Limit.of(query.limit())));
+    }
+
+    // @inheritdoc
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(StreamFavoriteSourcesByNewsApiKeyQuery query, Consumer<FavoriteSourceSummary> consumer) {
+        readYourWrites.read(query.newsApiKey(), () -> {
+            try (var favoriteSources = favoriteSourceRepository.streamAllByNewsApiKeyAndIdGreaterThan(query.newsApiKey(), query.afterId())) {
+                favoriteSources.forEach(consumer);
+            }
+            return null;
+        });
+    }
+
+    // @inheritdoc
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "favoriteSourcesVersionByNewsApiKey", key = "#query.newsApiKey()")
+    public FavoriteSourcesVersion handle(GetFavoriteSourcesVersionByNewsApiKeyQuery query) {
+        return readYourWrites.read(query.newsApiKey(), () -> favoriteSourceRepository.findVersionByNewsApiKey(query.newsApiKey()));
     }
 }
@@ -0,0 +1,120 @@
+package com.acme.catchup.platform.news.application.internal.queryservices;
+
+import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetHeadlinesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
+import com.acme.catchup.platform.news.domain.model.valueobjects.Headlines;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceQueryService;
+import com.acme.catchup.platform.news.domain.services.HeadlineQueryService;
+import com.acme.catchup.platform.news.domain.services.NewsArticleProvider;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * HeadlineQueryServiceImpl
+ * @summary
+ * The HeadlineQueryServiceImpl class is responsible for handling the headline queries.
+ * It implements the HeadlineQueryService interface.
+ * The favorite sources are sorted and batched into as few calls to the news provider as it allows, so users sharing a News API Key
+ * issue identical calls that the provider can coalesce. The batches are fetched concurrently, on virtual threads, with at most
+ * max-concurrency fetches in flight per query and a timeout per fetch, which starts once the fetch holds its permit.
+ * A fetch that times out is interrupted, and one not started yet when its future completes is skipped, so it neither holds
+ * a permit nor spends quota. Sources whose fetch fails or times out are reported and
+ * left out, so the headlines are partial rather than failed. The articles are merged, deduplicated by URL and sorted newest first.
+ * @see HeadlineQueryService
+ * @since 1.0.0
+ */
+@Service
+public class HeadlineQueryServiceImpl implements HeadlineQueryService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlineQueryServiceImpl.class);
+    private static final Comparator<Article> NEWEST_FIRST =
+            Comparator.comparing(Article::publishedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final FavoriteSourceQueryService favoriteSourceQueryService;
+    private final NewsArticleProvider newsArticleProvider;
+    private final int maxConcurrency;
+    private final Duration sourceTimeout;
+    private final int maxArticles;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public HeadlineQueryServiceImpl(FavoriteSourceQueryService favoriteSourceQueryService,
+                                    NewsArticleProvider newsArticleProvider,
+                                    @Value("${catchup.headlines.max-concurrency}") int maxConcurrency,
+                                    @Value("${catchup.headlines.source-timeout}") Duration sourceTimeout,
+                                    @Value("${catchup.headlines.max-articles}") int maxArticles) {
+        this.favoriteSourceQueryService = favoriteSourceQueryService;
+        this.newsArticleProvider = newsArticleProvider;
+        this.maxConcurrency = maxConcurrency;
+        this.sourceTimeout = sourceTimeout;
+        this.maxArticles = maxArticles;
+    }
+
+    // @inheritdoc
+    @Override
+    public Headlines handle(GetHeadlinesByNewsApiKeyQuery query) {
+        var sourceIds = favoriteSourceQueryService.handle(new GetAllFavoriteSourcesByNewsApiKeyQuery(query.newsApiKey()))
+                .stream().map(FavoriteSourceSummary::sourceId).distinct().sorted().toList();
+        var batchSize = Math.max(1, newsArticleProvider.getMaxSourcesPerRequest());
+        var permits = new Semaphore(maxConcurrency);
+        var fetches = new LinkedHashMap<List<String>, CompletableFuture<List<Article>>>();
+        for (int from = 0; from < sourceIds.size(); from += batchSize) {
+            var batch = sourceIds.subList(from, Math.min(from + batchSize, sourceIds.size()));
+            var fetch = new CompletableFuture<List<Article>>();
+            var task = executor.submit(() -> fetchTopHeadlines(query.newsApiKey(), batch, permits, fetch));
+            fetch.whenComplete((articles, e) -> {
+                if (e != null) task.cancel(true);
+            });
+            fetches.put(batch, fetch);
+        }
+
+        var articlesByUrl = new LinkedHashMap<String, Article>();
+        var failedSourceIds = new ArrayList<String>();
+        fetches.forEach((batch, fetch) -> {
+            try {
+                fetch.join().forEach(article -> articlesByUrl.putIfAbsent(article.url(), article));
+            } catch (CompletionException | CancellationException e) {
+                LOGGER.debug("Top headlines of sources {} could not be fetched", batch, e);
+                failedSourceIds.addAll(batch);
+            }
+        });
+        var articles = articlesByUrl.values().stream().sorted(NEWEST_FIRST).limit(maxArticles).toList();
+        return new Headlines(articles, failedSourceIds);
+    }
+
+    private void fetchTopHeadlines(String newsApiKey, List<String> sourceIds, Semaphore permits, CompletableFuture<List<Article>> fetch) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fetch.completeExceptionally(new CancellationException("Interrupted while waiting to fetch the top headlines"));
+            return;
+        }
+        try {
+            if (fetch.isDone()) return;
+            fetch.orTimeout(sourceTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            fetch.complete(newsArticleProvider.fetchTopHeadlines(newsApiKey, sourceIds).stream()
+                    .filter(article -> article.url() != null)
+                    .toList());
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Stops the executor of the fetches.
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
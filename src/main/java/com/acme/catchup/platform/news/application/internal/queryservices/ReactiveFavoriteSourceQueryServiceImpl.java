@@ -0,0 +1,78 @@
+package com.acme.catchup.platform.news.application.internal.queryservices;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByNewsApiKeyAndSourceIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesPageByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesVersionByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.StreamFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion;
+import com.acme.catchup.platform.news.domain.services.ReactiveFavoriteSourceQueryService;
+import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceExistenceFilter;
+import com.acme.catchup.platform.news.infrastructure.persistence.r2dbc.ReactiveFavoriteSourceRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveFavoriteSourceQueryServiceImpl
+ * @summary
+ * The ReactiveFavoriteSourceQueryServiceImpl class is responsible for handling the favorite source queries through R2DBC.
+ * It implements the ReactiveFavoriteSourceQueryService interface, for the reactive profile.
+ * Queries read the primary and are not cached: each one holds a connection only while its rows are read,
+ * and no thread while it waits for them.
+ * Lookups by News API Key and source ID of favorite sources missing from the existence filter do not query the database.
+ * @see ReactiveFavoriteSourceQueryService
+ * @since 1.0.0
+ */
+@Service
+@Profile("reactive")
+public class ReactiveFavoriteSourceQueryServiceImpl implements ReactiveFavoriteSourceQueryService {
+    private final ReactiveFavoriteSourceRepository favoriteSourceRepository;
+    private final FavoriteSourceExistenceFilter favoriteSourceExistenceFilter;
+
+    public ReactiveFavoriteSourceQueryServiceImpl(ReactiveFavoriteSourceRepository favoriteSourceRepository,
+                                                  FavoriteSourceExistenceFilter favoriteSourceExistenceFilter) {
+        this.favoriteSourceRepository = favoriteSourceRepository;
+        this.favoriteSourceExistenceFilter = favoriteSourceExistenceFilter;
+    }
+
+    // @inheritdoc
+    @Override
+    public Flux<FavoriteSource> handle(GetAllFavoriteSourcesByNewsApiKeyQuery query) {
+        return favoriteSourceRepository.findAllByNewsApiKey(query.newsApiKey());
+    }
+
+    // @inheritdoc
+    @Override
+    public Mono<FavoriteSource> handle(GetFavoriteSourceByIdQuery query) {
+        return favoriteSourceRepository.findById(query.id());
+    }
+
+    // @inheritdoc
+    @Override
+    public Mono<FavoriteSource> handle(GetFavoriteSourceByNewsApiKeyAndSourceIdQuery query) {
+        if (!favoriteSourceExistenceFilter.mightContain(query.newsApiKey(), query.sourceId())) return Mono.empty();
+        return favoriteSourceRepository.findByNewsApiKeyAndSourceId(query.newsApiKey(), query.sourceId());
+    }
+
+    // @inheritdoc
+    @Override
+    public Flux<FavoriteSource> handle(GetFavoriteSourcesPageByNewsApiKeyQuery query) {
+        return favoriteSourceRepository.findAllByNewsApiKeyAndIdGreaterThanOrderByIdAsc(query.newsApiKey(), query.afterId(), query.limit());
+    }
+
+    // @inheritdoc
+    @Override
+    public Flux<FavoriteSource> handle(StreamFavoriteSourcesByNewsApiKeyQuery query) {
+        return favoriteSourceRepository.findAllByNewsApiKeyAndIdGreaterThanOrderByIdAsc(query.newsApiKey(), query.afterId());
+    }
+
+    // @inheritdoc
+    @Override
+    public Mono<FavoriteSourcesVersion> handle(GetFavoriteSourcesVersionByNewsApiKeyQuery query) {
+        return favoriteSourceRepository.findVersionByNewsApiKey(query.newsApiKey());
+    }
+}
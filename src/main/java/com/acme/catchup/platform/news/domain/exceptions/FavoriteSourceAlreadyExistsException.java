@@ -0,0 +1,17 @@
+package com.acme.catchup.platform.news.domain.exceptions;
+
+/**
+ * FavoriteSourceAlreadyExistsException
+ * @summary
+ * FavoriteSourceAlreadyExistsException is thrown when a favorite source with the same source ID already exists for a News API Key.
+ * @since 1.0.0
+ */
+public class FavoriteSourceAlreadyExistsException extends RuntimeException {
+    /**
+     * Constructor.
+     * @param cause the persistence exception reporting the duplicate favorite source.
+     */
+    public FavoriteSourceAlreadyExistsException(Throwable cause) {
+        super("Favorite source with same source ID already exists for this API key", cause);
+    }
+}
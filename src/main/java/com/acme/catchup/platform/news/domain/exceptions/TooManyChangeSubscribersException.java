@@ -0,0 +1,18 @@
+package com.acme.catchup.platform.news.domain.exceptions;
+
+/**
+ * TooManyChangeSubscribersException
+ * @summary
+ * TooManyChangeSubscribersException is thrown when a subscription to the changes of favorite sources is refused,
+ * as the maximum number of subscribers is reached.
+ * @since 1.0.0
+ */
+public class TooManyChangeSubscribersException extends RuntimeException {
+    /**
+     * Constructor.
+     * @param maxSubscribers the maximum number of subscribers.
+     */
+    public TooManyChangeSubscribersException(int maxSubscribers) {
+        super("The maximum of " + maxSubscribers + " subscribers to favorite source changes is reached");
+    }
+}
@@ -2,6 +2,7 @@
 package com.acme.catchup.platform.news.domain.model.aggregates;
 
 import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -17,43 +18,104 @@ import java.util.Date;
  * @summary
  * The FavoriteSource class is an aggregate root that represents a favorite news source.
  * It is responsible for handling the CreateFavoriteSourceCommand command.
+ * Its identifier is allocated from a pooled sequence, so Hibernate can batch its inserts.
+ * Its News API Key and source ID are stored as the ids of their entries in the api_keys and source_keys dictionaries,
+ * which keeps its rows and indexes compact, and are restored from them when it is loaded.
+ * The pair of News API Key and source ID is unique, and its index serves the lookups by News API Key.
+ * The index on News API Key and id serves the listings by News API Key ordered by id,
+ * and the one on News API Key and update date serves the version of the favorite sources of a News API Key.
  * @since 1.0.0
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "uk_favorite_sources_api_key_id_source_key_id", columnList = "apiKeyId, sourceKeyId", unique = true),
+        @Index(name = "ix_favorite_sources_api_key_id_id", columnList = "apiKeyId, id"),
+        @Index(name = "ix_favorite_sources_api_key_id_updated_at", columnList = "apiKeyId, updatedAt")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class FavoriteSource extends AbstractAggregateRoot<FavoriteSource> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "favoriteSourceSequence")
+    @SequenceGenerator(name = "favoriteSourceSequence", sequenceName = "favorite_source_seq", allocationSize = 50)
     @Getter
     private Long id;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private int apiKeyId;
+
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private int sourceKeyId;
+
+    @Transient
     @Getter
     private String newsApiKey;
 
-    @Column(nullable = false)
+    @Transient
     @Getter
     private String sourceId;
 
     @Column(nullable = false, updatable = false)
     @CreatedDate
+    @Getter
     private Date createdAt;
 
     @Column(nullable = false)
     @LastModifiedDate
+    @Getter
     private Date updatedAt;
 
     protected FavoriteSource() {}
 
     /**
      * @summary Constructor.
-     * It creates a new FavoriteSource instance based on the CreateFavoriteSourceCommand command.
+     * It creates a new FavoriteSource instance based on the CreateFavoriteSourceCommand command,
+     * and registers the FavoriteSourceCreatedEvent domain event, published when the instance is saved.
      * @param command - the CreateFavoriteSourceCommand command
      */
     public FavoriteSource(CreateFavoriteSourceCommand command) {
         this.newsApiKey = command.newsApiKey();
         this.sourceId = command.sourceId();
+        this.registerEvent(new FavoriteSourceCreatedEvent(this.newsApiKey, this.sourceId));
+    }
+
+    /**
+     * @summary Constructor.
+     * It restores a FavoriteSource stored without JPA, such as by the reactive repository, with its id and dates.
+     * No domain event is registered: the ones of a new favorite source are stored by whoever stores it.
+     * @param id - the id of the favorite source
+     * @param newsApiKey - the News API Key of the favorite source
+     * @param sourceId - the source ID of the favorite source
+     * @param createdAt - the creation date of the favorite source
+     * @param updatedAt - the update date of the favorite source
+     */
+    public FavoriteSource(Long id, String newsApiKey, String sourceId, Date createdAt, Date updatedAt) {
+        this.id = id;
+        this.newsApiKey = newsApiKey;
+        this.sourceId = sourceId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
     }
 
+    /**
+     * Sets the ids of the dictionary entries of the News API Key and source ID, before the favorite source is inserted.
+     * @param apiKeyId - the id of the News API Key
+     * @param sourceKeyId - the id of the source ID
+     */
+    public void assignDictionaryIds(int apiKeyId, int sourceKeyId) {
+        this.apiKeyId = apiKeyId;
+        this.sourceKeyId = sourceKeyId;
+    }
+
+    /**
+     * Sets the News API Key and source ID of the dictionary entries, once the favorite source is loaded.
+     * @param newsApiKey - the News API Key
+     * @param sourceId - the source ID
+     */
+    public void restoreDictionaryValues(String newsApiKey, String sourceId) {
+        this.newsApiKey = newsApiKey;
+        this.sourceId = sourceId;
+    }
 
 }
@@ -7,21 +7,32 @@ package com.acme.catchup.platform.news.domain.model.commands;
  * CreateFavoriteSourceCommand is a record class that represents the command to create a favorite news source.
  * @param newsApiKey - the News API Key of the favorite source.
  *                   It cannot be null or empty.
+ *                   It cannot be longer than MAX_LENGTH characters.
  *                   It must be a valid News API Key.
  * @param sourceId - the source ID of the favorite source.
  *                 It cannot be null or empty.
+ *                 It cannot be longer than MAX_LENGTH characters.
  *                 It must be a valid source ID.
  */
 public record CreateFavoriteSourceCommand(String newsApiKey, String sourceId) {
+    /**
+     * The maximum length of News API Keys and source IDs, the length of their columns.
+     */
+    public static final int MAX_LENGTH = 255;
+
     /**
      * Validates the command.
-     * @throws IllegalArgumentException if the newsApiKey or sourceId is null or empty
+     * @throws IllegalArgumentException if the newsApiKey or sourceId is null, empty or too long
      */
     public CreateFavoriteSourceCommand {
         if (newsApiKey == null || newsApiKey.isBlank())
             throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+        if (newsApiKey.length() > MAX_LENGTH)
+            throw new IllegalArgumentException("newsApiKey cannot be longer than " + MAX_LENGTH + " characters");
         if (sourceId == null || sourceId.isBlank())
             throw new IllegalArgumentException("sourceId cannot be null or empty");
+        if (sourceId.length() > MAX_LENGTH)
+            throw new IllegalArgumentException("sourceId cannot be longer than " + MAX_LENGTH + " characters");
     }
 
 }
@@ -0,0 +1,43 @@
+package com.acme.catchup.platform.news.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * CreateFavoriteSourcesCommand
+ * @summary
+ * CreateFavoriteSourcesCommand is a record class that represents the command to create several favorite news sources at once.
+ * @param newsApiKey - the News API Key of the favorite sources.
+ *                   It cannot be null or empty.
+ *                   It cannot be longer than CreateFavoriteSourceCommand.MAX_LENGTH characters.
+ *                   It must be a valid News API Key.
+ * @param sourceIds - the source IDs of the favorite sources.
+ *                  It cannot be null or empty.
+ *                  None of its elements can be null, empty or longer than CreateFavoriteSourceCommand.MAX_LENGTH characters.
+ *                  It cannot have more than MAX_SOURCE_IDS elements.
+ */
+public record CreateFavoriteSourcesCommand(String newsApiKey, List<String> sourceIds) {
+    /**
+     * The maximum number of source IDs created at once, which bounds the statements and locks of a batch.
+     */
+    public static final int MAX_SOURCE_IDS = 1000;
+
+    /**
+     * Validates the command.
+     * @throws IllegalArgumentException if the newsApiKey is null or empty, or if the sourceIds are null, empty, too many or contain a null, empty or too long element, or if the newsApiKey is too long
+     */
+    public CreateFavoriteSourcesCommand {
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+        if (newsApiKey.length() > CreateFavoriteSourceCommand.MAX_LENGTH)
+            throw new IllegalArgumentException("newsApiKey cannot be longer than " + CreateFavoriteSourceCommand.MAX_LENGTH + " characters");
+        if (sourceIds == null || sourceIds.isEmpty())
+            throw new IllegalArgumentException("sourceIds cannot be null or empty");
+        if (sourceIds.size() > MAX_SOURCE_IDS)
+            throw new IllegalArgumentException("sourceIds cannot have more than " + MAX_SOURCE_IDS + " elements");
+        if (sourceIds.stream().anyMatch(sourceId -> sourceId == null || sourceId.isBlank()))
+            throw new IllegalArgumentException("sourceIds cannot contain null or empty elements");
+        if (sourceIds.stream().anyMatch(sourceId -> sourceId.length() > CreateFavoriteSourceCommand.MAX_LENGTH))
+            throw new IllegalArgumentException("sourceIds cannot contain elements longer than " + CreateFavoriteSourceCommand.MAX_LENGTH + " characters");
+        sourceIds = List.copyOf(sourceIds);
+    }
+}
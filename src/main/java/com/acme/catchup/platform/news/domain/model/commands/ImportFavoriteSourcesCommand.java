@@ -0,0 +1,26 @@
+package com.acme.catchup.platform.news.domain.model.commands;
+
+import java.util.Iterator;
+
+/**
+ * ImportFavoriteSourcesCommand
+ * @summary
+ * ImportFavoriteSourcesCommand is a record class that represents the command to import the favorite sources of a file, row by row.
+ * @param offset - the number of rows to skip, committed by a previous import of the same rows.
+ *               It cannot be negative.
+ * @param rows - the create favorite source commands of the rows, read while they are imported.
+ *             It cannot be null.
+ *             It throws IllegalArgumentException for a row that is not a valid favorite source.
+ */
+public record ImportFavoriteSourcesCommand(long offset, Iterator<CreateFavoriteSourceCommand> rows) {
+    /**
+     * Validates the command.
+     * @throws IllegalArgumentException if the offset is negative or the rows are null
+     */
+    public ImportFavoriteSourcesCommand {
+        if (offset < 0)
+            throw new IllegalArgumentException("offset cannot be negative");
+        if (rows == null)
+            throw new IllegalArgumentException("rows cannot be null");
+    }
+}
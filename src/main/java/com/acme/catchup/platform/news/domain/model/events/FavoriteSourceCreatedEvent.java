@@ -0,0 +1,12 @@
+package com.acme.catchup.platform.news.domain.model.events;
+
+/**
+ * FavoriteSourceCreatedEvent
+ * @summary
+ * FavoriteSourceCreatedEvent is a record class that represents the domain event raised when a favorite news source is created.
+ * @param newsApiKey - the News API Key of the favorite source.
+ * @param sourceId - the source ID of the favorite source.
+ * @since 1.0.0
+ */
+public record FavoriteSourceCreatedEvent(String newsApiKey, String sourceId) {
+}
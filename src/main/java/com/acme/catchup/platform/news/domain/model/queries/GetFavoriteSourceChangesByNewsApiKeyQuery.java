@@ -0,0 +1,18 @@
+package com.acme.catchup.platform.news.domain.model.queries;
+
+/**
+ * @summary
+ * This class represents the query to follow the changes of the favorite sources of a newsApiKey.
+ * @param newsApiKey - the newsApiKey whose favorite sources are followed.
+ * @param lastEventId - the id of the last change received, to resume after it, or null to receive the changes from now on.
+ */
+public record GetFavoriteSourceChangesByNewsApiKeyQuery(String newsApiKey, String lastEventId) {
+    /**
+     * Validates the query.
+     * @throws IllegalArgumentException if the newsApiKey is null or empty
+     */
+    public GetFavoriteSourceChangesByNewsApiKeyQuery {
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+    }
+}
@@ -0,0 +1,30 @@
+package com.acme.catchup.platform.news.domain.model.queries;
+
+/**
+ * @summary
+ * This class represents the query to get a page of favorite sources by newsApiKey, ordered by id.
+ * The page starts right after the favorite source with the given id, so it does not depend on an offset.
+ * @param newsApiKey - the newsApiKey to get the favorite sources.
+ * @param afterId - the id of the last favorite source of the previous page, or 0 for the first page.
+ * @param limit - the maximum number of favorite sources in the page.
+ */
+public record GetFavoriteSourcesPageByNewsApiKeyQuery(String newsApiKey, Long afterId, Integer limit) {
+    /**
+     * The maximum number of favorite sources in a page.
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * Validates the query.
+     * @throws IllegalArgumentException if the newsApiKey is null or empty, the afterId is null or negative,
+     * or the limit is null or not between 1 and {@link #MAX_LIMIT}
+     */
+    public GetFavoriteSourcesPageByNewsApiKeyQuery {
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+        if (afterId == null || afterId < 0)
+            throw new IllegalArgumentException("afterId cannot be null or negative");
+        if (limit == null || limit < 1 || limit > MAX_LIMIT)
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+    }
+}
@@ -0,0 +1,17 @@
+package com.acme.catchup.platform.news.domain.model.queries;
+
+/**
+ * @summary
+ * This class represents the query to get the version of the favorite sources by newsApiKey.
+ * @param newsApiKey - the newsApiKey to get the version of its favorite sources.
+ */
+public record GetFavoriteSourcesVersionByNewsApiKeyQuery(String newsApiKey) {
+    /**
+     * Validates the query.
+     * @throws IllegalArgumentException if the newsApiKey is null or empty
+     */
+    public GetFavoriteSourcesVersionByNewsApiKeyQuery {
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+    }
+}
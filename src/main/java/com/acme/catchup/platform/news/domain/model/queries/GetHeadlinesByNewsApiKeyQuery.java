@@ -0,0 +1,17 @@
+package com.acme.catchup.platform.news.domain.model.queries;
+
+/**
+ * @summary
+ * This class represents the query to get the headlines of the favorite sources of a newsApiKey.
+ * @param newsApiKey - the newsApiKey to get the headlines of its favorite sources.
+ */
+public record GetHeadlinesByNewsApiKeyQuery(String newsApiKey) {
+    /**
+     * Validates the query.
+     * @throws IllegalArgumentException if the newsApiKey is null or empty
+     */
+    public GetHeadlinesByNewsApiKeyQuery {
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+    }
+}
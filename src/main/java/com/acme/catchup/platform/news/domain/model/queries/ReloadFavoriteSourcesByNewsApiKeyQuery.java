@@ -0,0 +1,17 @@
+package com.acme.catchup.platform.news.domain.model.queries;
+
+/**
+ * @summary
+ * This class represents the query to read the favorite sources by newsApiKey again, replacing the cached ones.
+ * @param newsApiKey - the newsApiKey to reload its favorite sources.
+ */
+public record ReloadFavoriteSourcesByNewsApiKeyQuery(String newsApiKey) {
+    /**
+     * Validates the query.
+     * @throws IllegalArgumentException if the newsApiKey is null or empty
+     */
+    public ReloadFavoriteSourcesByNewsApiKeyQuery {
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+    }
+}
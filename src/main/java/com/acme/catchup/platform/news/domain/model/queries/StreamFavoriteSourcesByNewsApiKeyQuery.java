@@ -0,0 +1,29 @@
+package com.acme.catchup.platform.news.domain.model.queries;
+
+/**
+ * @summary
+ * This class represents the query to stream all favorite sources by newsApiKey, ordered by id.
+ * The stream starts right after the favorite source with the given id, so an interrupted stream resumes after the last one received.
+ * @param newsApiKey - the newsApiKey to stream the favorite sources.
+ * @param afterId - the id of the last favorite source received, or 0 to stream them all.
+ */
+public record StreamFavoriteSourcesByNewsApiKeyQuery(String newsApiKey, Long afterId) {
+    /**
+     * Validates the query.
+     * @throws IllegalArgumentException if the newsApiKey is null or empty, or the afterId is null or negative
+     */
+    public StreamFavoriteSourcesByNewsApiKeyQuery {
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+        if (afterId == null || afterId < 0)
+            throw new IllegalArgumentException("afterId cannot be null or negative");
+    }
+
+    /**
+     * Creates the query to stream all favorite sources by newsApiKey.
+     * @param newsApiKey - the newsApiKey to stream the favorite sources.
+     */
+    public StreamFavoriteSourcesByNewsApiKeyQuery(String newsApiKey) {
+        this(newsApiKey, 0L);
+    }
+}
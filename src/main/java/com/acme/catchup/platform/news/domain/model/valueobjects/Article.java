@@ -0,0 +1,21 @@
+package com.acme.catchup.platform.news.domain.model.valueobjects;
+
+import java.time.Instant;
+
+/**
+ * Article
+ * @summary
+ * Article is a value object that represents a news article published by a news source.
+ * @param sourceId - the source ID of the news source.
+ * @param sourceName - the name of the news source.
+ * @param author - the author of the article.
+ * @param title - the title of the article.
+ * @param description - the description of the article.
+ * @param url - the URL of the article, which identifies it.
+ * @param urlToImage - the URL of the image of the article.
+ * @param publishedAt - the publication date of the article.
+ * @since 1.0.0
+ */
+public record Article(String sourceId, String sourceName, String author, String title, String description,
+                      String url, String urlToImage, Instant publishedAt) {
+}
@@ -0,0 +1,39 @@
+package com.acme.catchup.platform.news.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * FavoriteSourceChange
+ * @summary
+ * FavoriteSourceChange is a value object that represents a change of the favorite sources of a News API Key, pushed to its subscribers.
+ * @param id - the id of the change, to resume after it, or null for heartbeats.
+ * @param type - the type of the change.
+ * @param newsApiKey - the News API Key of the favorite sources.
+ * @param sourceIds - the source IDs of the favorite sources added, for SOURCES_ADDED changes.
+ * @param articles - the new articles of the favorite sources, for ARTICLES_PUBLISHED changes.
+ * @since 1.0.0
+ */
+public record FavoriteSourceChange(String id, Type type, String newsApiKey, List<String> sourceIds, List<Article> articles) {
+    public FavoriteSourceChange {
+        if (type == null)
+            throw new IllegalArgumentException("Type cannot be null");
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+        sourceIds = sourceIds == null ? List.of() : List.copyOf(sourceIds);
+        articles = articles == null ? List.of() : List.copyOf(articles);
+    }
+
+    /**
+     * The types of the changes of the favorite sources.
+     */
+    public enum Type {
+        /** Favorite sources were added. */
+        SOURCES_ADDED,
+        /** New articles were published by the favorite sources. */
+        ARTICLES_PUBLISHED,
+        /** The changes since the id to resume after are no longer known: the favorite sources must be read again. */
+        RESYNC,
+        /** Nothing changed: keeps the subscription alive and detects the subscribers that are gone. */
+        HEARTBEAT
+    }
+}
@@ -0,0 +1,17 @@
+package com.acme.catchup.platform.news.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * FavoriteSourceSummary
+ * @summary
+ * FavoriteSourceSummary is a value object that represents a favorite source as it is read, without the state of the aggregate.
+ * It is selected straight from the database, so reading it neither loads nor tracks a FavoriteSource entity.
+ * @param id - the id of the favorite source.
+ * @param newsApiKey - the News API Key of the favorite source.
+ * @param sourceId - the source ID of the favorite source.
+ * @param updatedAt - the last update date of the favorite source.
+ * @since 1.0.0
+ */
+public record FavoriteSourceSummary(Long id, String newsApiKey, String sourceId, Date updatedAt) {
+}
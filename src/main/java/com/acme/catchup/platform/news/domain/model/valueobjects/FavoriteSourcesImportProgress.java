@@ -0,0 +1,16 @@
+package com.acme.catchup.platform.news.domain.model.valueobjects;
+
+/**
+ * FavoriteSourcesImportProgress
+ * @summary
+ * FavoriteSourcesImportProgress is a value object that represents the progress of an import of favorite sources,
+ * after every chunk of rows committed and when the import ends.
+ * @param offset - the number of rows committed or skipped from the start of the file: an interrupted import resumes from it.
+ * @param created - the favorite sources created by the import so far.
+ * @param skipped - the rows committed by the import so far that were already favorite sources, or repeated.
+ * @param completed - whether every row of the file was committed.
+ * @param error - why the import stopped before the end of the file, or null.
+ * @since 1.0.0
+ */
+public record FavoriteSourcesImportProgress(long offset, long created, long skipped, boolean completed, String error) {
+}
@@ -0,0 +1,35 @@
+package com.acme.catchup.platform.news.domain.model.valueobjects;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * FavoriteSourcesVersion
+ * @summary
+ * FavoriteSourcesVersion is a value object that represents the version of the favorite sources of a News API Key.
+ * It changes whenever a favorite source of the News API Key is created or updated.
+ * @param count - the number of favorite sources.
+ * @param lastModifiedAt - the latest update date of the favorite sources, or null if there are none.
+ * @since 1.0.0
+ */
+public record FavoriteSourcesVersion(Long count, Date lastModifiedAt) {
+    /**
+     * Checks if there are no favorite sources.
+     * @return true if there are no favorite sources, false otherwise.
+     */
+    public boolean isEmpty() {
+        return count == null || count == 0;
+    }
+
+    /**
+     * Checks if this is the version of the given favorite sources, from their number and latest update date.
+     * @param favoriteSources the favorite sources of the News API Key.
+     * @return true if the favorite sources are of this version, false otherwise.
+     */
+    public boolean isVersionOf(List<FavoriteSourceSummary> favoriteSources) {
+        if (isEmpty()) return favoriteSources.isEmpty();
+        return count == favoriteSources.size() && favoriteSources.stream()
+                .mapToLong(favoriteSource -> favoriteSource.updatedAt().getTime())
+                .max().orElse(Long.MIN_VALUE) == lastModifiedAt.getTime();
+    }
+}
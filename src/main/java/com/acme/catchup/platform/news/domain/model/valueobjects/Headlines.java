@@ -0,0 +1,14 @@
+package com.acme.catchup.platform.news.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * Headlines
+ * @summary
+ * Headlines is a value object that represents the top articles of a set of news sources, newest first.
+ * @param articles - the articles, without duplicates, sorted by publication date, newest first.
+ * @param failedSourceIds - the source IDs whose articles could not be fetched, so they are missing from the articles.
+ * @since 1.0.0
+ */
+public record Headlines(List<Article> articles, List<String> failedSourceIds) {
+}
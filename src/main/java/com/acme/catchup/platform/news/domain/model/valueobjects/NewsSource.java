@@ -0,0 +1,17 @@
+package com.acme.catchup.platform.news.domain.model.valueobjects;
+
+/**
+ * NewsSource
+ * @summary
+ * NewsSource is a value object that represents a news source published by the news provider.
+ * @param id - the source ID.
+ * @param name - the name of the news source.
+ * @param description - the description of the news source.
+ * @param url - the URL of the news source website.
+ * @param category - the category of the news source.
+ * @param language - the language of the news source.
+ * @param country - the country of the news source.
+ * @since 1.0.0
+ */
+public record NewsSource(String id, String name, String description, String url, String category, String language, String country) {
+}
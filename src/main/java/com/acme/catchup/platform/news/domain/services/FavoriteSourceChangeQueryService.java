@@ -0,0 +1,24 @@
+package com.acme.catchup.platform.news.domain.services;
+
+import com.acme.catchup.platform.news.domain.exceptions.TooManyChangeSubscribersException;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceChangesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceChange;
+import reactor.core.publisher.Flux;
+
+/**
+ * @summary
+ * This interface represents the service to follow the changes of the favorite sources of a News API Key as they happen,
+ * instead of polling for them.
+ * @since 1.0.0
+ */
+public interface FavoriteSourceChangeQueryService {
+    /**
+     * Handles the get favorite source changes by newsApiKey query.
+     * @param query the get favorite source changes by newsApiKey query.
+     * @return the changes of the favorite sources of the newsApiKey, with heartbeats, until the subscriber cancels,
+     * falls behind or has been subscribed for the maximum connection age; or a {@link TooManyChangeSubscribersException} error,
+     * once subscribed to, if the maximum number of subscribers is reached.
+     * @see GetFavoriteSourceChangesByNewsApiKeyQuery
+     */
+    Flux<FavoriteSourceChange> handle(GetFavoriteSourceChangesByNewsApiKeyQuery query);
+}
@@ -1,8 +1,11 @@
 package com.acme.catchup.platform.news.domain.services;
 
+import com.acme.catchup.platform.news.domain.exceptions.FavoriteSourceAlreadyExistsException;
 import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
 import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,7 +19,17 @@ public interface FavoriteSourceCommandService {
      * @param command the create favorite source command.
      * @return the created favorite source.
      * @throws IllegalArgumentException if the newsApiKey or sourceId is null or empty
+     * @throws FavoriteSourceAlreadyExistsException if the source ID already exists for the newsApiKey
      * @see CreateFavoriteSourceCommand
      */
     Optional<FavoriteSource> handle(CreateFavoriteSourceCommand command);
+    /**
+     * Handles the create favorite sources command.
+     * Source IDs already registered for the News API Key, or repeated in the command, are skipped.
+     * @param command the create favorite sources command.
+     * @return the created favorite sources, in the order of the command source IDs.
+     * @throws FavoriteSourceAlreadyExistsException if a source ID is concurrently created for the newsApiKey
+     * @see CreateFavoriteSourcesCommand
+     */
+    List<FavoriteSource> handle(CreateFavoriteSourcesCommand command);
 }
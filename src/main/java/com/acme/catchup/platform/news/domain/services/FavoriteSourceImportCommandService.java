@@ -0,0 +1,23 @@
+package com.acme.catchup.platform.news.domain.services;
+
+import com.acme.catchup.platform.news.domain.model.commands.ImportFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesImportProgress;
+
+import java.util.function.Consumer;
+
+/**
+ * @summary
+ * This interface represents the service to import the favorite sources of a file, committing its rows in chunks.
+ * @since 1.0.0
+ */
+public interface FavoriteSourceImportCommandService {
+    /**
+     * Handles the import favorite sources command.
+     * The rows are committed in chunks of consecutive rows of the same News API Key, each in its own transaction,
+     * skipping the favorite sources that already exist. Invalid rows and failed commits end the import.
+     * @param command the import favorite sources command.
+     * @param progressConsumer the consumer of the progress after every chunk committed, and of the last one, when the import ends.
+     * @see ImportFavoriteSourcesCommand
+     */
+    void handle(ImportFavoriteSourcesCommand command, Consumer<FavoriteSourcesImportProgress> progressConsumer);
+}
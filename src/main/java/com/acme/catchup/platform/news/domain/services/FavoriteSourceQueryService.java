@@ -1,41 +1,81 @@
 package com.acme.catchup.platform.news.domain.services;
 
-import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
 import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
 import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByIdQuery;
 import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByNewsApiKeyAndSourceIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesPageByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesVersionByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.ReloadFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.StreamFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @summary
  * This interface represents the service to handle the favorite source queries.
+ * The favorite sources are read as FavoriteSourceSummary projections, in read-only transactions, without loading the aggregates.
  *
  */
 public interface FavoriteSourceQueryService {
     /**
      * Handles the get all favorite sources by newsApiKey query.
      * @param query the get all favorite sources by newsApiKey query.
-     * @return the list of favorite sources.
+     * @return the list of favorite source summaries.
      * @throws IllegalArgumentException if the newsApiKey is null or empty
      * @see GetAllFavoriteSourcesByNewsApiKeyQuery
      */
-    List<FavoriteSource> handle(GetAllFavoriteSourcesByNewsApiKeyQuery query);
+    List<FavoriteSourceSummary> handle(GetAllFavoriteSourcesByNewsApiKeyQuery query);
+    /**
+     * Handles the reload favorite sources by newsApiKey query.
+     * The favorite sources are read from the database and replace the cached ones, and the cached version is dropped,
+     * for when the cached favorite sources are not of the cached version.
+     * @param query the reload favorite sources by newsApiKey query.
+     * @return the list of favorite source summaries.
+     * @see ReloadFavoriteSourcesByNewsApiKeyQuery
+     */
+    List<FavoriteSourceSummary> handle(ReloadFavoriteSourcesByNewsApiKeyQuery query);
     /**
      * Handles the get favorite source by id query.
      * @param query the get favorite source by id query.
-     * @return the favorite source.
+     * @return the favorite source summary.
      * @throws IllegalArgumentException if the id is null
      * @see GetFavoriteSourceByIdQuery
      */
-    Optional<FavoriteSource> handle(GetFavoriteSourceByIdQuery query);
+    Optional<FavoriteSourceSummary> handle(GetFavoriteSourceByIdQuery query);
     /**
      * Handles the get favorite source by newsApiKey and sourceId query.
      * @param query the get favorite source by newsApiKey and sourceId query.
-     * @return the favorite source.
+     * @return the favorite source summary.
      * @throws IllegalArgumentException if the newsApiKey or sourceId is null or empty
      * @see GetFavoriteSourceByNewsApiKeyAndSourceIdQuery
      */
-    Optional<FavoriteSource> handle(GetFavoriteSourceByNewsApiKeyAndSourceIdQuery query);
+    Optional<FavoriteSourceSummary> handle(GetFavoriteSourceByNewsApiKeyAndSourceIdQuery query);
+    /**
+     * Handles the get favorite sources page by newsApiKey query.
+     * @param query the get favorite sources page by newsApiKey query.
+     * @return the favorite source summaries of the page, ordered by id.
+     * @see GetFavoriteSourcesPageByNewsApiKeyQuery
+     */
+    List<FavoriteSourceSummary> handle(GetFavoriteSourcesPageByNewsApiKeyQuery query);
+    /**
+     * Handles the stream favorite sources by newsApiKey query.
+     * The favorite source summaries are read from a database cursor and handed to the consumer one at a time,
+     * so they are not held in memory all together.
+     * @param query the stream favorite sources by newsApiKey query.
+     * @param consumer the consumer of each favorite source summary, ordered by id.
+     * @see StreamFavoriteSourcesByNewsApiKeyQuery
+     */
+    void handle(StreamFavoriteSourcesByNewsApiKeyQuery query, Consumer<FavoriteSourceSummary> consumer);
+    /**
+     * Handles the get favorite sources version by newsApiKey query.
+     * It does not load the favorite sources, and it is cached next to them, so it is evicted with them.
+     * @param query the get favorite sources version by newsApiKey query.
+     * @return the version of the favorite sources.
+     * @see GetFavoriteSourcesVersionByNewsApiKeyQuery
+     */
+    FavoriteSourcesVersion handle(GetFavoriteSourcesVersionByNewsApiKeyQuery query);
 }
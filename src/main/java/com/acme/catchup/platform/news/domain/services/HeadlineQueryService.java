@@ -0,0 +1,20 @@
+package com.acme.catchup.platform.news.domain.services;
+
+import com.acme.catchup.platform.news.domain.model.queries.GetHeadlinesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.Headlines;
+
+/**
+ * @summary
+ * This interface represents the service to handle the headline queries.
+ * @since 1.0.0
+ */
+public interface HeadlineQueryService {
+    /**
+     * Handles the get headlines by newsApiKey query.
+     * @param query the get headlines by newsApiKey query.
+     * @return the headlines of the favorite sources of the newsApiKey.
+     * @throws IllegalArgumentException if the newsApiKey is null or empty
+     * @see GetHeadlinesByNewsApiKeyQuery
+     */
+    Headlines handle(GetHeadlinesByNewsApiKeyQuery query);
+}
@@ -0,0 +1,27 @@
+package com.acme.catchup.platform.news.domain.services;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+
+import java.util.List;
+
+/**
+ * @summary
+ * This interface represents the news provider of the articles published by the news sources.
+ * @since 1.0.0
+ */
+public interface NewsArticleProvider {
+    /**
+     * Fetches the top articles of news sources in a single call to the news provider.
+     * @param newsApiKey the News API Key used to call the news provider.
+     * @param sourceIds the source IDs, at most getMaxSourcesPerRequest() of them.
+     * @return the top articles of the news sources.
+     * @throws RuntimeException if the articles cannot be fetched.
+     */
+    List<Article> fetchTopHeadlines(String newsApiKey, List<String> sourceIds);
+
+    /**
+     * Gets the maximum number of news sources that can be fetched in a single call to the news provider.
+     * @return the maximum number of source IDs per call.
+     */
+    int getMaxSourcesPerRequest();
+}
@@ -0,0 +1,32 @@
+package com.acme.catchup.platform.news.domain.services;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.NewsSource;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * @summary
+ * This interface represents the catalogue of news sources published by the news provider.
+ * @since 1.0.0
+ */
+public interface NewsSourceCatalogue {
+    /**
+     * Finds a news source by its source ID.
+     * @param sourceId the source ID.
+     * @return the news source, or empty if it is unknown or the catalogue is not available.
+     */
+    Optional<NewsSource> findById(String sourceId);
+    /**
+     * Gets the version of the catalogue, which changes whenever a refresh changes its news sources.
+     * It does not wait for the catalogue to be fetched.
+     * @return the version of the catalogue, or 0 if it is not available.
+     */
+    String version();
+    /**
+     * Requests a refresh of the catalogue if any of the source IDs is unknown.
+     * It does not wait for the refresh.
+     * @param sourceIds the source IDs.
+     */
+    void refreshIfAbsent(Collection<String> sourceIds);
+}
@@ -0,0 +1,38 @@
+package com.acme.catchup.platform.news.domain.services;
+
+import com.acme.catchup.platform.news.domain.exceptions.FavoriteSourceAlreadyExistsException;
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * @summary
+ * This interface represents the reactive service to handle the favorite source commands.
+ * It handles the same commands as the FavoriteSourceCommandService, without blocking the calling thread.
+ * @see FavoriteSourceCommandService
+ * @since 1.0.0
+ */
+public interface ReactiveFavoriteSourceCommandService {
+    /**
+     * Handles the create favorite source command.
+     * @param command the create favorite source command.
+     * @return the created favorite source, or an error with a FavoriteSourceAlreadyExistsException
+     * if the source ID already exists for the newsApiKey.
+     * @see CreateFavoriteSourceCommand
+     * @see FavoriteSourceAlreadyExistsException
+     */
+    Mono<FavoriteSource> handle(CreateFavoriteSourceCommand command);
+    /**
+     * Handles the create favorite sources command.
+     * Source IDs already registered for the News API Key, or repeated in the command, are skipped.
+     * @param command the create favorite sources command.
+     * @return the created favorite sources, in the order of the command source IDs, or an error with a
+     * FavoriteSourceAlreadyExistsException if a source ID is concurrently created for the newsApiKey.
+     * @see CreateFavoriteSourcesCommand
+     * @see FavoriteSourceAlreadyExistsException
+     */
+    Mono<List<FavoriteSource>> handle(CreateFavoriteSourcesCommand command);
+}
@@ -0,0 +1,67 @@
+package com.acme.catchup.platform.news.domain.services;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByNewsApiKeyAndSourceIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesPageByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesVersionByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.StreamFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * @summary
+ * This interface represents the reactive service to handle the favorite source queries.
+ * It handles the same queries as the FavoriteSourceQueryService, without blocking the calling thread.
+ * @see FavoriteSourceQueryService
+ * @since 1.0.0
+ */
+public interface ReactiveFavoriteSourceQueryService {
+    /**
+     * Handles the get all favorite sources by newsApiKey query.
+     * @param query the get all favorite sources by newsApiKey query.
+     * @return the favorite sources, ordered by id.
+     * @see GetAllFavoriteSourcesByNewsApiKeyQuery
+     */
+    Flux<FavoriteSource> handle(GetAllFavoriteSourcesByNewsApiKeyQuery query);
+    /**
+     * Handles the get favorite source by id query.
+     * @param query the get favorite source by id query.
+     * @return the favorite source, or empty if not found.
+     * @see GetFavoriteSourceByIdQuery
+     */
+    Mono<FavoriteSource> handle(GetFavoriteSourceByIdQuery query);
+    /**
+     * Handles the get favorite source by newsApiKey and sourceId query.
+     * @param query the get favorite source by newsApiKey and sourceId query.
+     * @return the favorite source, or empty if not found.
+     * @see GetFavoriteSourceByNewsApiKeyAndSourceIdQuery
+     */
+    Mono<FavoriteSource> handle(GetFavoriteSourceByNewsApiKeyAndSourceIdQuery query);
+    /**
+     * Handles the get favorite sources page by newsApiKey query.
+     * @param query the get favorite sources page by newsApiKey query.
+     * @return the favorite sources of the page, ordered by id.
+     * @see GetFavoriteSourcesPageByNewsApiKeyQuery
+     */
+    Flux<FavoriteSource> handle(GetFavoriteSourcesPageByNewsApiKeyQuery query);
+    /**
+     * Handles the stream favorite sources by newsApiKey query.
+     * The favorite sources are emitted as they are read from the database and requested by the subscriber,
+     * so they are not held in memory all together.
+     * @param query the stream favorite sources by newsApiKey query.
+     * @return the favorite sources, ordered by id.
+     * @see StreamFavoriteSourcesByNewsApiKeyQuery
+     */
+    Flux<FavoriteSource> handle(StreamFavoriteSourcesByNewsApiKeyQuery query);
+    /**
+     * Handles the get favorite sources version by newsApiKey query.
+     * It does not load the favorite sources.
+     * @param query the get favorite sources version by newsApiKey query.
+     * @return the version of the favorite sources.
+     * @see GetFavoriteSourcesVersionByNewsApiKeyQuery
+     */
+    Mono<FavoriteSourcesVersion> handle(GetFavoriteSourcesVersionByNewsApiKeyQuery query);
+}
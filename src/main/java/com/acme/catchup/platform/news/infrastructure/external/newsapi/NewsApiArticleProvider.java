@@ -0,0 +1,37 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+import com.acme.catchup.platform.news.domain.services.NewsArticleProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * NewsApiArticleProvider
+ * @summary
+ * The NewsApiArticleProvider class fetches the articles of the news sources from the news provider (NewsAPI),
+ * through the NewsApiGateway so the calls are coalesced and kept within the quota of the News API Key.
+ * @see NewsArticleProvider
+ * @see NewsApiGateway
+ * @since 1.0.0
+ */
+@Component
+public class NewsApiArticleProvider implements NewsArticleProvider {
+    private final NewsApiGateway newsApiGateway;
+
+    public NewsApiArticleProvider(NewsApiGateway newsApiGateway) {
+        this.newsApiGateway = newsApiGateway;
+    }
+
+    // @inheritdoc
+    @Override
+    public List<Article> fetchTopHeadlines(String newsApiKey, List<String> sourceIds) {
+        return newsApiGateway.fetchTopHeadlines(newsApiKey, sourceIds);
+    }
+
+    // @inheritdoc
+    @Override
+    public int getMaxSourcesPerRequest() {
+        return newsApiGateway.getMaxSourcesPerRequest();
+    }
+}
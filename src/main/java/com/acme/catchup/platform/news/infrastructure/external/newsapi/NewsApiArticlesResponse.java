@@ -0,0 +1,35 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * NewsApiArticlesResponse
+ * @summary
+ * NewsApiArticlesResponse is a record class that represents the response of the news provider top headlines endpoint.
+ * @param status - the status of the response.
+ * @param articles - the articles.
+ * @since 1.0.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NewsApiArticlesResponse(String status, List<Article> articles) {
+    /**
+     * Article
+     * @summary
+     * Article is a record class that represents an article in the response of the news provider.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Article(Source source, String author, String title, String description, String url, String urlToImage, Instant publishedAt) {
+    }
+
+    /**
+     * Source
+     * @summary
+     * Source is a record class that represents the news source of an article in the response of the news provider.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Source(String id, String name) {
+    }
+}
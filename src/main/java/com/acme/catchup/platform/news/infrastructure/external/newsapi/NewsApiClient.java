@@ -0,0 +1,82 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+import com.acme.catchup.platform.news.domain.model.valueobjects.NewsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * NewsApiClient
+ * @summary
+ * The NewsApiClient class is responsible for calling the news provider (NewsAPI) endpoints.
+ * The API key is sent in the X-Api-Key header, so it does not appear in request URLs.
+ * @since 1.0.0
+ */
+@Component
+public class NewsApiClient {
+    private final RestClient restClient;
+    private final int pageSize;
+
+    public NewsApiClient(RestClient.Builder restClientBuilder,
+                         @Value("${catchup.news-api.base-url}") String baseUrl,
+                         @Value("${catchup.news-api.connect-timeout}") Duration connectTimeout,
+                         @Value("${catchup.news-api.read-timeout}") Duration readTimeout,
+                         @Value("${catchup.news-api.page-size}") int pageSize) {
+        this.pageSize = pageSize;
+        this.restClient = restClientBuilder
+                .baseUrl(baseUrl)
+                .requestFactory(ClientHttpRequestFactories.get(ClientHttpRequestFactorySettings.DEFAULTS
+                        .withConnectTimeout(connectTimeout)
+                        .withReadTimeout(readTimeout)))
+                .build();
+    }
+
+    /**
+     * Fetches the news sources published by the news provider.
+     * @param apiKey the API key used to call the news provider.
+     * @return the list of news sources.
+     */
+    public List<NewsSource> fetchSources(String apiKey) {
+        var response = restClient.get()
+                .uri("/v2/top-headlines/sources")
+                .header("X-Api-Key", apiKey)
+                .retrieve()
+                .body(NewsApiSourcesResponse.class);
+        if (response == null || response.sources() == null) return List.of();
+        return response.sources().stream()
+                .map(source -> new NewsSource(source.id(), source.name(), source.description(), source.url(),
+                        source.category(), source.language(), source.country()))
+                .toList();
+    }
+
+    /**
+     * Fetches the top articles of the given news sources.
+     * @param apiKey the API key used to call the news provider.
+     * @param sourceIds the source IDs.
+     * @return the list of articles.
+     */
+    public List<Article> fetchTopHeadlines(String apiKey, Collection<String> sourceIds) {
+        var response = restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/v2/top-headlines")
+                        .queryParam("sources", String.join(",", sourceIds))
+                        .queryParam("pageSize", pageSize)
+                        .build())
+                .header("X-Api-Key", apiKey)
+                .retrieve()
+                .body(NewsApiArticlesResponse.class);
+        if (response == null || response.articles() == null) return List.of();
+        return response.articles().stream()
+                .map(article -> new Article(
+                        article.source() == null ? null : article.source().id(),
+                        article.source() == null ? null : article.source().name(),
+                        article.author(), article.title(), article.description(), article.url(), article.urlToImage(), article.publishedAt()))
+                .toList();
+    }
+}
@@ -0,0 +1,228 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+import com.acme.catchup.platform.news.domain.model.valueobjects.NewsSource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * NewsApiGateway
+ * @summary
+ * The NewsApiGateway class is the single way out to the news provider (NewsAPI). For each News API Key:
+ * <ul>
+ * <li>Identical requests in flight are coalesced into a single call to the news provider (single-flight).</li>
+ * <li>Calls are taken from a token bucket sized after the key's quota. When it is empty, or the news provider answers
+ * 429 Too Many Requests, calls fail with NewsApiQuotaExceededException without reaching the news provider.</li>
+ * </ul>
+ * The budgets are kept for at most max-keys News API Keys, and dropped when unused for a refill period, by which time they
+ * would be full again. Metrics are not tagged by key, so neither the keys nor their number show in them: the requests are
+ * counted by outcome, and the budgets kept are published as the catchup.news-api.quota.keys gauge. The budgets with the fewest
+ * requests left are read by the newsApiQuota actuator endpoint, identified by fingerprints of their keys instead of the keys.
+ * @see NewsApiClient
+ * @since 1.0.0
+ */
+@Component
+public class NewsApiGateway {
+    private final NewsApiClient newsApiClient;
+    private final long quotaCapacity;
+    private final Duration quotaRefillPeriod;
+    private final int maxSourcesPerRequest;
+    private final Cache<String, TokenBucket> budgets;
+    private final Counter sent;
+    private final Counter coalesced;
+    private final Counter rejected;
+    private final Map<Request, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+
+    public NewsApiGateway(NewsApiClient newsApiClient,
+                          MeterRegistry meterRegistry,
+                          @Value("${catchup.news-api.quota.capacity}") long quotaCapacity,
+                          @Value("${catchup.news-api.quota.refill-period}") Duration quotaRefillPeriod,
+                          @Value("${catchup.news-api.quota.max-keys}") long quotaMaxKeys,
+                          @Value("${catchup.news-api.max-sources-per-request}") int maxSourcesPerRequest) {
+        this.newsApiClient = newsApiClient;
+        this.quotaCapacity = quotaCapacity;
+        this.quotaRefillPeriod = quotaRefillPeriod;
+        this.maxSourcesPerRequest = maxSourcesPerRequest;
+        this.budgets = Caffeine.newBuilder()
+                .maximumSize(quotaMaxKeys)
+                .expireAfterAccess(quotaRefillPeriod)
+                .executor(Runnable::run)
+                .build();
+        Gauge.builder("catchup.news-api.quota.keys", budgets, Cache::estimatedSize)
+                .description("News API Keys whose request budget is kept")
+                .register(meterRegistry);
+        this.sent = requestCounter(meterRegistry, "sent");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.rejected = requestCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * Fetches the news sources published by the news provider.
+     * @param apiKey the API key used to call the news provider.
+     * @return the list of news sources.
+     * @throws NewsApiQuotaExceededException if the quota of the API key is exhausted.
+     */
+    public List<NewsSource> fetchSources(String apiKey) {
+        return call(new Request(apiKey, "sources", List.of()), () -> newsApiClient.fetchSources(apiKey));
+    }
+
+    /**
+     * Fetches the top articles of the given news sources in a single call to the news provider.
+     * @param apiKey the API key used to call the news provider.
+     * @param sourceIds the source IDs, at most max-sources-per-request of them.
+     * @return the list of articles.
+     * @throws IllegalArgumentException if there are more source IDs than the news provider accepts in one request.
+     * @throws NewsApiQuotaExceededException if the quota of the API key is exhausted.
+     */
+    public List<Article> fetchTopHeadlines(String apiKey, List<String> sourceIds) {
+        if (sourceIds.size() > maxSourcesPerRequest)
+            throw new IllegalArgumentException("At most %d sources can be fetched in one request".formatted(maxSourcesPerRequest));
+        var sortedSourceIds = sourceIds.stream().distinct().sorted().toList();
+        return call(new Request(apiKey, "top-headlines", sortedSourceIds), () -> newsApiClient.fetchTopHeadlines(apiKey, sortedSourceIds));
+    }
+
+    /**
+     * Gets the maximum number of source IDs the news provider accepts in one request.
+     * @return the maximum number of source IDs per request.
+     */
+    public int getMaxSourcesPerRequest() {
+        return maxSourcesPerRequest;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T call(Request request, Supplier<T> upstreamCall) {
+        var flight = new CompletableFuture<Object>();
+        var inFlight = inFlightRequests.putIfAbsent(request, flight);
+        if (inFlight != null) {
+            coalesced.increment();
+            return (T) join(inFlight);
+        }
+        try {
+            var result = callUpstream(request.apiKey(), upstreamCall);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(request, flight);
+        }
+    }
+
+    private <T> T callUpstream(String apiKey, Supplier<T> upstreamCall) {
+        var tokens = budgets.get(apiKey, key -> new TokenBucket(quotaCapacity, quotaRefillPeriod, System::nanoTime));
+        if (!tokens.tryConsume()) {
+            rejected.increment();
+            throw new NewsApiQuotaExceededException();
+        }
+        sent.increment();
+        try {
+            return upstreamCall.get();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            tokens.drain();
+            throw new NewsApiQuotaExceededException();
+        }
+    }
+
+    /**
+     * Gets the requests left in the budget of an API key.
+     * @param apiKey the API key.
+     * @return the requests left, which is the quota capacity when the budget of the API key is not kept.
+     */
+    double remainingQuota(String apiKey) {
+        var tokens = budgets.getIfPresent(apiKey);
+        return tokens == null ? quotaCapacity : tokens.available();
+    }
+
+    /**
+     * Gets the number of budgets kept.
+     * @return the number of News API Keys whose budget is kept.
+     */
+    public long quotaKeys() {
+        return budgets.estimatedSize();
+    }
+
+    /**
+     * Gets the budgets kept with the fewest requests left, identified by the fingerprints of their API keys.
+     * @param limit the maximum number of budgets.
+     * @return the fingerprints of the API keys with their requests left, fewest first.
+     */
+    public List<RemainingQuota> lowestRemainingQuotas(int limit) {
+        return budgets.asMap().entrySet().stream()
+                .map(budget -> new RemainingQuota(fingerprint(budget.getKey()), budget.getValue().available()))
+                .sorted(Comparator.comparingDouble(RemainingQuota::remaining))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Gets the fingerprint of an API key: the first 8 bytes of its SHA-256 digest, in hexadecimal.
+     * It tells the keys apart without revealing them.
+     * @param apiKey the API key.
+     * @return the fingerprint of the API key.
+     */
+    static String fingerprint(String apiKey) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("catchup.news-api.requests")
+                .description("Requests to the news provider by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Request
+     * @summary
+     * Request is a record class that identifies a request to the news provider, so identical requests can be coalesced.
+     * @param apiKey - the API key.
+     * @param endpoint - the endpoint.
+     * @param sourceIds - the sorted source IDs.
+     */
+    private record Request(String apiKey, String endpoint, List<String> sourceIds) {
+    }
+
+    /**
+     * RemainingQuota
+     * @summary
+     * RemainingQuota is a record class that represents the requests left in the budget of a News API Key.
+     * @param keyFingerprint - the fingerprint of the News API Key.
+     * @param remaining - the requests left.
+     */
+    public record RemainingQuota(String keyFingerprint, double remaining) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * NewsApiQuotaEndpoint
+ * @summary
+ * The NewsApiQuotaEndpoint class is the read-only newsApiQuota actuator endpoint, which reports the request budgets of the
+ * News API Keys kept by the NewsApiGateway: the report-size ones with the fewest requests left, identified by the fingerprints
+ * of their keys. Unlike metrics tagged by key, it neither reveals the keys nor creates a time series per key,
+ * and it costs nothing until it is read.
+ * @see NewsApiGateway
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "newsApiQuota")
+public class NewsApiQuotaEndpoint {
+    private final NewsApiGateway newsApiGateway;
+    private final long quotaCapacity;
+    private final Duration quotaRefillPeriod;
+    private final int reportSize;
+
+    public NewsApiQuotaEndpoint(NewsApiGateway newsApiGateway,
+                                @Value("${catchup.news-api.quota.capacity}") long quotaCapacity,
+                                @Value("${catchup.news-api.quota.refill-period}") Duration quotaRefillPeriod,
+                                @Value("${catchup.news-api.quota.report-size}") int reportSize) {
+        this.newsApiGateway = newsApiGateway;
+        this.quotaCapacity = quotaCapacity;
+        this.quotaRefillPeriod = quotaRefillPeriod;
+        this.reportSize = reportSize;
+    }
+
+    /**
+     * Reports the request budgets with the fewest requests left.
+     * @return the quota of the News API Keys, the number of budgets kept and the lowest of them.
+     */
+    @ReadOperation
+    public NewsApiQuotaReport quota() {
+        return new NewsApiQuotaReport(quotaCapacity, quotaRefillPeriod, newsApiGateway.quotaKeys(),
+                newsApiGateway.lowestRemainingQuotas(reportSize));
+    }
+
+    /**
+     * NewsApiQuotaReport
+     * @summary
+     * NewsApiQuotaReport is a record class that represents the report of the newsApiQuota actuator endpoint.
+     * @param capacity - the requests a News API Key can make per refill period.
+     * @param refillPeriod - the period over which a budget is refilled.
+     * @param keys - the number of News API Keys whose budget is kept; the others have their full capacity.
+     * @param lowest - the budgets with the fewest requests left, fewest first.
+     */
+    public record NewsApiQuotaReport(long capacity, Duration refillPeriod, long keys, List<NewsApiGateway.RemainingQuota> lowest) {
+    }
+}
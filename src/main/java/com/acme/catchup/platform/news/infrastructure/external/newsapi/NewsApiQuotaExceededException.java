@@ -0,0 +1,14 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+/**
+ * NewsApiQuotaExceededException
+ * @summary
+ * The NewsApiQuotaExceededException is thrown when the request budget of a News API Key is exhausted,
+ * so no request is sent to the news provider.
+ * @since 1.0.0
+ */
+public class NewsApiQuotaExceededException extends RuntimeException {
+    public NewsApiQuotaExceededException() {
+        super("The request quota of the News API Key is exhausted");
+    }
+}
@@ -0,0 +1,179 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.NewsSource;
+import com.acme.catchup.platform.news.domain.services.NewsSourceCatalogue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * NewsApiSourceCatalogue
+ * @summary
+ * The NewsApiSourceCatalogue class keeps the news sources published by the news provider in memory.
+ * The catalogue is refreshed in the background on a schedule, and lookups never call the news provider, except the very first ones:
+ * <ul>
+ * <li>Until the catalogue is first fetched, lookups wait for the fetch, up to the cold fetch timeout. Once a wait times out,
+ * the lookups that follow answer empty without waiting for the same fetch again.</li>
+ * <li>When the catalogue is older than its max age, lookups answer from it and trigger a refresh (stale-while-revalidate).</li>
+ * <li>Source IDs unknown to the catalogue trigger a refresh, in case the news provider added them.</li>
+ * <li>Concurrent refreshes are coalesced into a single call to the news provider.</li>
+ * <li>When a refresh fails, the previous catalogue is kept.</li>
+ * </ul>
+ * Apart from the scheduled ones, refreshes start at most once per min refresh interval after the previous fetch ended,
+ * whether it failed or not, so neither a failing news provider nor unknown source IDs spend its quota on every lookup.
+ * The catalogue is disabled when no API key is configured.
+ * @since 1.0.0
+ */
+@Component
+public class NewsApiSourceCatalogue implements NewsSourceCatalogue {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NewsApiSourceCatalogue.class);
+
+    private final NewsApiGateway newsApiGateway;
+    private final String apiKey;
+    private final Duration maxAge;
+    private final Duration coldFetchTimeout;
+    private final Duration minRefreshInterval;
+    private final Executor executor;
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlightRefresh = new AtomicReference<>();
+    private volatile Snapshot snapshot;
+    private volatile CompletableFuture<Snapshot> timedOutRefresh;
+    private volatile Instant lastFetchEndedAt;
+
+    public NewsApiSourceCatalogue(NewsApiGateway newsApiGateway,
+                                  @Value("${catchup.news-api.api-key}") String apiKey,
+                                  @Value("${catchup.news-api.sources.max-age}") Duration maxAge,
+                                  @Value("${catchup.news-api.sources.cold-fetch-timeout}") Duration coldFetchTimeout,
+                                  @Value("${catchup.news-api.sources.min-refresh-interval}") Duration minRefreshInterval,
+                                  @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.newsApiGateway = newsApiGateway;
+        this.apiKey = apiKey;
+        this.maxAge = maxAge;
+        this.coldFetchTimeout = coldFetchTimeout;
+        this.minRefreshInterval = minRefreshInterval;
+        this.executor = executor;
+    }
+
+    // @inheritdoc
+    @Override
+    public Optional<NewsSource> findById(String sourceId) {
+        if (apiKey.isBlank()) return Optional.empty();
+        var current = snapshot;
+        if (current == null) current = awaitRefresh();
+        else if (current.fetchedAt().plus(maxAge).isBefore(Instant.now())) refreshIfDue();
+        return current == null ? Optional.empty() : Optional.ofNullable(current.sources().get(sourceId));
+    }
+
+    // @inheritdoc
+    @Override
+    public String version() {
+        var current = snapshot;
+        return current == null ? "0" : current.version();
+    }
+
+    // @inheritdoc
+    @Override
+    public void refreshIfAbsent(Collection<String> sourceIds) {
+        if (apiKey.isBlank()) return;
+        var current = snapshot;
+        if (current == null || !current.sources().keySet().containsAll(sourceIds)) refreshIfDue();
+    }
+
+    /**
+     * Refreshes the catalogue on schedule.
+     */
+    @Scheduled(fixedDelayString = "${catchup.news-api.sources.refresh-interval}")
+    public void refreshOnSchedule() {
+        if (apiKey.isBlank()) return;
+        refresh();
+    }
+
+    /**
+     * Refreshes the catalogue in the background, or joins the refresh in progress.
+     * @return the future of the refreshed catalogue.
+     */
+    CompletableFuture<Snapshot> refresh() {
+        while (true) {
+            var inFlight = inFlightRefresh.get();
+            if (inFlight != null) return inFlight;
+            var refresh = new CompletableFuture<Snapshot>();
+            if (!inFlightRefresh.compareAndSet(null, refresh)) continue;
+            executor.execute(() -> fetchInto(refresh));
+            return refresh;
+        }
+    }
+
+    /**
+     * Refreshes the catalogue in the background, or joins the refresh in progress,
+     * unless the previous fetch ended less than the min refresh interval ago.
+     * @return the future of the refreshed catalogue, or null if no refresh is due.
+     */
+    private CompletableFuture<Snapshot> refreshIfDue() {
+        var inFlight = inFlightRefresh.get();
+        if (inFlight != null) return inFlight;
+        var ended = lastFetchEndedAt;
+        if (ended != null && ended.plus(minRefreshInterval).isAfter(Instant.now())) return null;
+        return refresh();
+    }
+
+    private void fetchInto(CompletableFuture<Snapshot> refresh) {
+        try {
+            var sources = newsApiGateway.fetchSources(apiKey).stream()
+                    .collect(Collectors.toUnmodifiableMap(NewsSource::id, Function.identity(), (first, second) -> first));
+            var refreshed = new Snapshot(sources, Integer.toHexString(sources.hashCode()), Instant.now());
+            snapshot = refreshed;
+            lastFetchEndedAt = refreshed.fetchedAt();
+            inFlightRefresh.set(null);
+            refresh.complete(refreshed);
+        } catch (RuntimeException e) {
+            LOGGER.warn("News sources catalogue could not be refreshed, keeping the previous one", e);
+            lastFetchEndedAt = Instant.now();
+            inFlightRefresh.set(null);
+            refresh.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Waits for the refresh of a catalogue not fetched yet, up to the cold fetch timeout,
+     * unless a wait for the same refresh already timed out.
+     * @return the catalogue, or null if it is still not fetched.
+     */
+    private Snapshot awaitRefresh() {
+        var refresh = refreshIfDue();
+        if (refresh == null || refresh == timedOutRefresh) return snapshot;
+        try {
+            return refresh.get(coldFetchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOutRefresh = refresh;
+            return snapshot;
+        } catch (ExecutionException e) {
+            return snapshot;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Snapshot
+     * @summary
+     * Snapshot is a record class that represents the catalogue fetched at a given time.
+     * @param sources - the news sources by source ID.
+     * @param version - the hash of the news sources, which is the same for every snapshot of the same news sources.
+     * @param fetchedAt - the time the catalogue was fetched.
+     */
+    record Snapshot(Map<String, NewsSource> sources, String version, Instant fetchedAt) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * NewsApiSourcesResponse
+ * @summary
+ * NewsApiSourcesResponse is a record class that represents the response of the news provider sources endpoint.
+ * @param status - the status of the response.
+ * @param sources - the news sources.
+ * @since 1.0.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NewsApiSourcesResponse(String status, List<Source> sources) {
+    /**
+     * Source
+     * @summary
+     * Source is a record class that represents a news source in the response of the news provider.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Source(String id, String name, String description, String url, String category, String language, String country) {
+    }
+}
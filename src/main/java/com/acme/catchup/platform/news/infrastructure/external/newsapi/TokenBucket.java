@@ -0,0 +1,63 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * TokenBucket
+ * @summary
+ * The TokenBucket class represents the request budget of a News API Key.
+ * The bucket holds up to capacity tokens and is refilled continuously, at capacity tokens per refill period.
+ * @since 1.0.0
+ */
+final class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(long capacity, Duration refillPeriod, LongSupplier nanoClock) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        if (refillPeriod.isZero() || refillPeriod.isNegative()) throw new IllegalArgumentException("Refill period must be positive");
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / refillPeriod.toNanos();
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token from the bucket, if there is one.
+     * @return true if a token was taken, false if the budget is exhausted.
+     */
+    synchronized boolean tryConsume() {
+        refill();
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Empties the bucket, for instance when the news provider reports the quota as exhausted.
+     */
+    synchronized void drain() {
+        refill();
+        tokens = 0;
+    }
+
+    /**
+     * Gets the whole tokens left in the bucket.
+     * @return the tokens left.
+     */
+    synchronized double available() {
+        refill();
+        return Math.floor(tokens);
+    }
+
+    private void refill() {
+        var now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,178 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.jpa;
+
+import com.acme.catchup.platform.news.infrastructure.persistence.sharding.FavoriteSourceShards;
+import com.acme.catchup.platform.shared.infrastructure.filter.ScalableBloomFilter;
+import com.acme.catchup.platform.shared.infrastructure.persistence.routing.ReadYourWrites;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FavoriteSourceExistenceFilter
+ * @summary
+ * The FavoriteSourceExistenceFilter class keeps a Bloom filter of the News API Key and source ID pairs of the favorite sources,
+ * so the lookups of pairs that do not exist, most of them, are answered without querying the database.
+ * <ul>
+ * <li>The filter is built by streaming the favorite sources of every shard from the primary, on start and then on a schedule,
+ * which also resizes it to the number of favorite sources. Until it is first built, every pair might exist.</li>
+ * <li>The favorite sources created by this instance are added when they are written, and again once committed,
+ * so they are in the filter that replaces the current one even if it was being built meanwhile.</li>
+ * <li>Favorite sources created by other instances are only added by the next build, so until then they are reported
+ * as missing: lookups answer 404 and batches try to create them again, failing with a conflict.</li>
+ * </ul>
+ * The filter is therefore disabled by default, and must only be enabled when a single instance writes the favorite sources.
+ * Disabled, it is never built, and every favorite source might exist.
+ * The filter grows past the expected insertions without exceeding its false positive rate, and never forgets a pair,
+ * which holds as favorite sources are not deleted.
+ * @see ScalableBloomFilter
+ * @since 1.0.0
+ */
+@Component
+public class FavoriteSourceExistenceFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FavoriteSourceExistenceFilter.class);
+    private static final char SEPARATOR = '\u0000';
+
+    private final FavoriteSourceRepository favoriteSourceRepository;
+    private final FavoriteSourceShards favoriteSourceShards;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter absentChecks;
+    private final Counter presentChecks;
+    private volatile ScalableBloomFilter filter;
+    private volatile ScalableBloomFilter building;
+
+    public FavoriteSourceExistenceFilter(FavoriteSourceRepository favoriteSourceRepository,
+                                         FavoriteSourceShards favoriteSourceShards,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${catchup.favorite-source-filter.enabled}") boolean enabled,
+                                         @Value("${catchup.favorite-source-filter.expected-insertions}") long expectedInsertions,
+                                         @Value("${catchup.favorite-source-filter.false-positive-rate}") double falsePositiveRate) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("catchup.favorite-source-filter.expected-insertions must be positive");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("catchup.favorite-source-filter.false-positive-rate must be between 0 and 1 exclusive");
+        this.favoriteSourceRepository = favoriteSourceRepository;
+        this.favoriteSourceShards = favoriteSourceShards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        Gauge.builder("catchup.favorite-sources.filter.size", this, FavoriteSourceExistenceFilter::bitArrayBytes)
+                .description("Memory taken by the bit arrays of the favorite source existence filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("catchup.favorite-sources.filter.entries", this, FavoriteSourceExistenceFilter::entries)
+                .description("News API Key and source ID pairs in the favorite source existence filter")
+                .register(meterRegistry);
+        this.absentChecks = checkCounter(meterRegistry, "absent");
+        this.presentChecks = checkCounter(meterRegistry, "maybe-present");
+    }
+
+    /**
+     * Checks whether a favorite source might exist.
+     * @param newsApiKey the News API Key.
+     * @param sourceId the source ID.
+     * @return false if the favorite source does not exist, true if it might.
+     */
+    public boolean mightContain(String newsApiKey, String sourceId) {
+        var current = filter;
+        if (current == null) return true;
+        if (current.mightContain(keyOf(newsApiKey, sourceId))) {
+            presentChecks.increment();
+            return true;
+        }
+        absentChecks.increment();
+        return false;
+    }
+
+    /**
+     * Adds the favorite sources of a News API Key being created.
+     * In a transaction, they are added again once it commits; otherwise, the caller must add them again once they are stored.
+     * @param newsApiKey the News API Key.
+     * @param sourceIds the source IDs.
+     */
+    public void add(String newsApiKey, Collection<String> sourceIds) {
+        if (!enabled || sourceIds.isEmpty()) return;
+        var keys = sourceIds.stream().map(sourceId -> keyOf(newsApiKey, sourceId)).toList();
+        put(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(keys);
+                }
+            });
+    }
+
+    /**
+     * Builds the filter from the favorite sources of every shard, and replaces the current one with it.
+     * If a shard cannot be read, the current filter is kept.
+     */
+    @Scheduled(fixedDelayString = "${catchup.favorite-source-filter.rebuild-interval}")
+    public void rebuild() {
+        if (!enabled) return;
+        var current = filter;
+        var next = new ScalableBloomFilter(current == null ? expectedInsertions : Math.max(expectedInsertions, current.size()), falsePositiveRate);
+        building = next;
+        try {
+            favoriteSourceShards.forEach(() -> ReadYourWrites.onPrimary(() -> transactionTemplate.execute(status -> {
+                try (var pairs = favoriteSourceRepository.streamAllNewsApiKeysAndSourceIds()) {
+                    pairs.forEach(pair -> next.put(keyOf((String) pair[0], (String) pair[1])));
+                }
+                return null;
+            })));
+            filter = next;
+            LOGGER.debug("Favorite source existence filter built with {} entries in {} bytes", next.size(), next.bitArrayBytes());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Favorite source existence filter could not be built, the current one is kept", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    private void put(List<String> keys) {
+        var pending = building;
+        var current = filter;
+        for (var key : keys) {
+            if (pending != null) pending.put(key);
+            if (current != null) current.put(key);
+        }
+    }
+
+    private double bitArrayBytes() {
+        var current = filter;
+        return current == null ? 0 : current.bitArrayBytes();
+    }
+
+    private double entries() {
+        var current = filter;
+        return current == null ? 0 : current.size();
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catchup.favorite-sources.filter.checks")
+                .description("Checks of the favorite source existence filter by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String keyOf(String newsApiKey, String sourceId) {
+        return newsApiKey + SEPARATOR + sourceId;
+    }
+}
@@ -1,38 +1,103 @@
 package com.acme.catchup.platform.news.infrastructure.persistence.jpa;
 
 import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * FavoriteSourceRepository
  * @summary
  * The FavoriteSourceRepository interface is responsible for managing the favorite news sources in the database.
+ * The favorite sources reference their News API Key and source ID in dictionaries, so the queries join them to find their values.
+ * The queries of the read path select FavoriteSourceSummary projections instead of entities.
  * @since 1.0.0
  */
 @Repository
 public interface FavoriteSourceRepository extends JpaRepository<FavoriteSource, Long> {
     /**
-     * Finds all favorite sources by newsApiKey.
+     * Finds the summaries of all favorite sources by newsApiKey.
      * @param newsApiKey the News API Key.
-     * @return the list of favorite sources.
+     * @return the list of favorite source summaries.
+     */
+    @Query("select new com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary(f.id, k.newsApiKey, s.sourceId, f.updatedAt) from FavoriteSource f join ApiKey k on k.id = f.apiKeyId join SourceKey s on s.id = f.sourceKeyId where k.newsApiKey = :newsApiKey")
+    List<FavoriteSourceSummary> findAllByNewsApiKey(String newsApiKey);
+    /**
+     * Finds the summaries of the favorite sources by newsApiKey with an id greater than the given one, ordered by id.
+     * @param newsApiKey the News API Key.
+     * @param id the id after which the favorite sources are found.
+     * @param limit the maximum number of favorite sources.
+     * @return the list of favorite source summaries.
+     */
+    @Query("select new com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary(f.id, k.newsApiKey, s.sourceId, f.updatedAt) from FavoriteSource f join ApiKey k on k.id = f.apiKeyId join SourceKey s on s.id = f.sourceKeyId where k.newsApiKey = :newsApiKey and f.id > :id order by f.id")
+    List<FavoriteSourceSummary> findAllByNewsApiKeyAndIdGreaterThanOrderByIdAsc(String newsApiKey, Long id, Limit limit);
+    /**
+     * Streams the summaries of the favorite sources by newsApiKey with an id greater than the given one, ordered by id.
+     * The rows are fetched in chunks from a database cursor, and the summaries are not kept by the persistence context.
+     * It must be called within a transaction, and the stream must be closed.
+     * @param newsApiKey the News API Key.
+     * @param id the id after which the favorite sources are streamed.
+     * @return the stream of favorite source summaries.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary(f.id, k.newsApiKey, s.sourceId, f.updatedAt) from FavoriteSource f join ApiKey k on k.id = f.apiKeyId join SourceKey s on s.id = f.sourceKeyId where k.newsApiKey = :newsApiKey and f.id > :id order by f.id")
+    Stream<FavoriteSourceSummary> streamAllByNewsApiKeyAndIdGreaterThan(String newsApiKey, Long id);
+    /**
+     * Streams the News API Key and source ID of all favorite sources, as arrays of the two values.
+     * The rows are fetched in chunks from a database cursor. It must be called within a transaction, and the stream must be closed.
+     * @return the stream of News API Key and source ID pairs.
      */
-    List<FavoriteSource> findAllByNewsApiKey(String newsApiKey);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select k.newsApiKey, s.sourceId from FavoriteSource f join ApiKey k on k.id = f.apiKeyId join SourceKey s on s.id = f.sourceKeyId")
+    Stream<Object[]> streamAllNewsApiKeysAndSourceIds();
     /**
      * Checks if a favorite source exists by newsApiKey and sourceId.
      * @param newApiKey the News API Key.
      * @param sourceId the source ID.
      * @return true if the favorite source exists, false otherwise.
      */
+    @Query("select count(f) > 0 from FavoriteSource f join ApiKey k on k.id = f.apiKeyId join SourceKey s on s.id = f.sourceKeyId where k.newsApiKey = :newApiKey and s.sourceId = :sourceId")
     boolean existsByNewsApiKeyAndSourceId(String newApiKey, String sourceId);
     /**
-     * Finds a favorite source by newsApiKey and sourceId.
+     * Finds the summary of a favorite source by newsApiKey and sourceId.
      * @param newsApiKey the News API Key.
      * @param sourceId the source ID.
-     * @return the favorite source.
+     * @return the favorite source summary.
+     */
+    @Query("select new com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary(f.id, k.newsApiKey, s.sourceId, f.updatedAt) from FavoriteSource f join ApiKey k on k.id = f.apiKeyId join SourceKey s on s.id = f.sourceKeyId where k.newsApiKey = :newsApiKey and s.sourceId = :sourceId")
+    Optional<FavoriteSourceSummary> findByNewsApiKeyAndSourceId(String newsApiKey, String sourceId);
+    /**
+     * Finds the summary of a favorite source by id.
+     * @param id the id of the favorite source.
+     * @return the favorite source summary.
+     */
+    @Query("select new com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary(f.id, k.newsApiKey, s.sourceId, f.updatedAt) from FavoriteSource f join ApiKey k on k.id = f.apiKeyId join SourceKey s on s.id = f.sourceKeyId where f.id = :id")
+    Optional<FavoriteSourceSummary> findSummaryById(Long id);
+    /**
+     * Finds which of the given source IDs are already favorite sources of the newsApiKey.
+     * @param newsApiKey the News API Key.
+     * @param sourceIds the source IDs to check.
+     * @return the source IDs that already exist.
+     */
+    @Query("select s.sourceId from FavoriteSource f join ApiKey k on k.id = f.apiKeyId join SourceKey s on s.id = f.sourceKeyId where k.newsApiKey = :newsApiKey and s.sourceId in :sourceIds")
+    List<String> findSourceIdsByNewsApiKeyAndSourceIdIn(String newsApiKey, Collection<String> sourceIds);
+    /**
+     * Finds the version of the favorite sources by newsApiKey, from their count and latest update date.
+     * @param newsApiKey the News API Key.
+     * @return the version of the favorite sources.
      */
-    Optional<FavoriteSource> findByNewsApiKeyAndSourceId(String newsApiKey, String sourceId);
+    @Query("select new com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion(count(f), max(f.updatedAt)) from FavoriteSource f join ApiKey k on k.id = f.apiKeyId where k.newsApiKey = :newsApiKey")
+    FavoriteSourcesVersion findVersionByNewsApiKey(String newsApiKey);
 }
@@ -0,0 +1,44 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.jpa;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * FavoriteSourceUniqueIndex
+ * @summary
+ * The unique index of favorite sources on News API Key and source ID, which detects the duplicates when they are inserted.
+ * Spring translates its violations to DuplicateKeyException through R2DBC, but to a plain DataIntegrityViolationException
+ * through JPA, as it does for the violations of every other constraint, and for values too long or null,
+ * so they are told apart by the name of the index: the constraint name of the Hibernate exception, or the message
+ * of the driver, which names the index in H2 and MySQL.
+ * @since 1.0.0
+ */
+public final class FavoriteSourceUniqueIndex {
+    /**
+     * The name of the unique index, as created by the migrations and declared by the entity.
+     */
+    public static final String NAME = "uk_favorite_sources_api_key_id_source_key_id";
+
+    private FavoriteSourceUniqueIndex() {
+    }
+
+    /**
+     * Checks whether a data integrity violation was caused by a duplicate favorite source.
+     * @param e the data integrity violation.
+     * @return true if a cause is a violation of the unique index, false for any other violation.
+     */
+    public static boolean isViolatedBy(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof ConstraintViolationException constraintViolation && names(constraintViolation.getConstraintName()))
+                return true;
+            if (names(cause.getMessage())) return true;
+        }
+        return false;
+    }
+
+    private static boolean names(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(NAME);
+    }
+}
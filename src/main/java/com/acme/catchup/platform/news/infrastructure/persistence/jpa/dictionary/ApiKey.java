@@ -0,0 +1,30 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.jpa.dictionary;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * ApiKey
+ * @summary
+ * The ApiKey class represents an entry of the dictionary of News API Keys, referenced by the favorite sources through its id.
+ * It is mapped for the queries that join the favorite sources to their News API Key. Entries are only added,
+ * by the FavoriteSourceDictionary, and never change.
+ * @see FavoriteSourceDictionary
+ * @since 1.0.0
+ */
+@Entity
+@Immutable
+@Table(indexes = @Index(name = "uk_api_keys_news_api_key", columnList = "newsApiKey", unique = true))
+public class ApiKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Getter
+    private Integer id;
+
+    @Column(nullable = false)
+    @Getter
+    private String newsApiKey;
+
+    protected ApiKey() {}
+}
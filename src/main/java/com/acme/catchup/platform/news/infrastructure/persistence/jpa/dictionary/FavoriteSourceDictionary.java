@@ -0,0 +1,145 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.jpa.dictionary;
+
+import com.acme.catchup.platform.news.infrastructure.persistence.sharding.FavoriteSourceShardContext;
+import com.acme.catchup.platform.shared.infrastructure.monitoring.StatementCountingJdbcTemplate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * FavoriteSourceDictionary
+ * @summary
+ * The FavoriteSourceDictionary class translates the News API Keys and source IDs of the favorite sources to the ids of their
+ * entries in the api_keys and source_keys tables, and back. Entries are added on first use, in the transaction of the write.
+ * The hot entries are kept in memory, and the values read back are the ones kept there, so the favorite sources loaded for
+ * the same News API Key or source ID share a single String instead of holding a copy each.
+ * The ids are those of the shard the current thread works on, as every shard has its own dictionaries.
+ * @since 1.0.0
+ */
+@Component
+public class FavoriteSourceDictionary {
+    private final Dictionary apiKeys;
+    private final Dictionary sourceKeys;
+
+    public FavoriteSourceDictionary(DataSource dataSource,
+                                    @Value("${catchup.dictionary.api-keys.maximum-size}") long apiKeysMaximumSize,
+                                    @Value("${catchup.dictionary.source-keys.maximum-size}") long sourceKeysMaximumSize) {
+        var jdbcTemplate = new StatementCountingJdbcTemplate(dataSource);
+        this.apiKeys = new Dictionary(jdbcTemplate, "api_keys", "news_api_key", apiKeysMaximumSize);
+        this.sourceKeys = new Dictionary(jdbcTemplate, "source_keys", "source_id", sourceKeysMaximumSize);
+    }
+
+    /**
+     * Gets the id of a News API Key, adding it to the dictionary if needed.
+     * @param newsApiKey the News API Key.
+     * @return the id of the News API Key.
+     */
+    public int apiKeyIdOf(String newsApiKey) {
+        return apiKeys.idOf(newsApiKey);
+    }
+
+    /**
+     * Gets the News API Key of an id.
+     * @param apiKeyId the id of the News API Key.
+     * @return the News API Key.
+     */
+    public String newsApiKeyOf(int apiKeyId) {
+        return apiKeys.valueOf(apiKeyId);
+    }
+
+    /**
+     * Gets the id of a source ID, adding it to the dictionary if needed.
+     * @param sourceId the source ID.
+     * @return the id of the source ID.
+     */
+    public int sourceKeyIdOf(String sourceId) {
+        return sourceKeys.idOf(sourceId);
+    }
+
+    /**
+     * Gets the source ID of an id.
+     * @param sourceKeyId the id of the source ID.
+     * @return the source ID.
+     */
+    public String sourceIdOf(int sourceKeyId) {
+        return sourceKeys.valueOf(sourceKeyId);
+    }
+
+    private static final class Dictionary {
+        private final JdbcTemplate jdbcTemplate;
+        private final String findId;
+        private final String lockId;
+        private final String findValue;
+        private final String insert;
+        private final Cache<Entry, Integer> ids;
+        private final Cache<Entry, String> values;
+
+        private Dictionary(JdbcTemplate jdbcTemplate, String table, String column, long maximumSize) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.findId = "select id from " + table + " where " + column + " = ?";
+            this.lockId = findId + " for update";
+            this.findValue = "select " + column + " from " + table + " where id = ?";
+            this.insert = "insert into " + table + " (" + column + ") values (?)";
+            this.ids = Caffeine.newBuilder().maximumSize(maximumSize).build();
+            this.values = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        }
+
+        private int idOf(String value) {
+            var shard = currentShard();
+            var id = ids.getIfPresent(new Entry(shard, value));
+            if (id != null) return id;
+            var found = jdbcTemplate.queryForList(findId, Integer.class, value);
+            if (!found.isEmpty()) {
+                remember(shard, found.getFirst(), value);
+                return found.getFirst();
+            }
+            try {
+                jdbcTemplate.update(insert, value);
+            } catch (DuplicateKeyException e) {
+                // Added by a concurrent transaction since: a locking read sees it, unlike the snapshot of this transaction
+            }
+            int addedId = Objects.requireNonNull(jdbcTemplate.queryForObject(lockId, Integer.class, value));
+            // The entry is kept in memory once it is committed, as it disappears if the transaction rolls back
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        remember(shard, addedId, value);
+                    }
+                });
+            } else {
+                remember(shard, addedId, value);
+            }
+            return addedId;
+        }
+
+        private String valueOf(int id) {
+            var shard = currentShard();
+            var value = values.getIfPresent(new Entry(shard, id));
+            if (value != null) return value;
+            value = Objects.requireNonNull(jdbcTemplate.queryForObject(findValue, String.class, id));
+            remember(shard, id, value);
+            return value;
+        }
+
+        private void remember(String shard, int id, String value) {
+            var interned = values.asMap().computeIfAbsent(new Entry(shard, id), entry -> value);
+            ids.put(new Entry(shard, interned), id);
+        }
+
+        private static String currentShard() {
+            return Objects.requireNonNullElse(FavoriteSourceShardContext.currentShard(), "");
+        }
+    }
+
+    private record Entry(String shard, Object key) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.jpa.dictionary;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FavoriteSourceDictionaryIntegrator
+ * @summary
+ * The FavoriteSourceDictionaryIntegrator class registers FavoriteSourceDictionaryListener with the Hibernate session factory:
+ * first among the persist listeners, so the dictionary ids are set before the default listener takes the state to insert,
+ * and among the post-load listeners. It is handed to Hibernate as a property (hibernate.integrator_provider) rather than
+ * discovered as a service, so the listener is the Spring bean, with its dictionary.
+ * @see FavoriteSourceDictionaryListener
+ * @since 1.0.0
+ */
+@Component
+public class FavoriteSourceDictionaryIntegrator implements Integrator, HibernatePropertiesCustomizer {
+    private final FavoriteSourceDictionaryListener favoriteSourceDictionaryListener;
+
+    public FavoriteSourceDictionaryIntegrator(FavoriteSourceDictionaryListener favoriteSourceDictionaryListener) {
+        this.favoriteSourceDictionaryListener = favoriteSourceDictionaryListener;
+    }
+
+    // @inheritdoc
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(this));
+    }
+
+    // @inheritdoc
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        var eventListenerRegistry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        eventListenerRegistry.prependListeners(EventType.PERSIST, favoriteSourceDictionaryListener);
+        eventListenerRegistry.appendListeners(EventType.POST_LOAD, favoriteSourceDictionaryListener);
+    }
+
+    // @inheritdoc
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.jpa.dictionary;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import org.hibernate.event.spi.PersistContext;
+import org.hibernate.event.spi.PersistEvent;
+import org.hibernate.event.spi.PersistEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * FavoriteSourceDictionaryListener
+ * @summary
+ * The FavoriteSourceDictionaryListener class stores the News API Key and source ID of a favorite source as the ids of their
+ * dictionary entries when it is persisted, and restores them from the ids when it is loaded.
+ * It listens to the Hibernate persist and post-load events, registered by FavoriteSourceDictionaryIntegrator, so the domain
+ * entity does not know about it. It runs before the persist of the favorite source, as a pre-persist callback would, so the ids
+ * are taken from the dictionaries of the shard of the repository call, not of the one the transaction is flushed on.
+ * @see FavoriteSourceDictionary
+ * @since 1.0.0
+ */
+@Component
+public class FavoriteSourceDictionaryListener implements PersistEventListener, PostLoadEventListener {
+    private final FavoriteSourceDictionary favoriteSourceDictionary;
+
+    public FavoriteSourceDictionaryListener(FavoriteSourceDictionary favoriteSourceDictionary) {
+        this.favoriteSourceDictionary = favoriteSourceDictionary;
+    }
+
+    // @inheritdoc
+    @Override
+    public void onPersist(PersistEvent event) {
+        if (event.getObject() instanceof FavoriteSource favoriteSource && favoriteSource.getId() == null) encode(favoriteSource);
+    }
+
+    // @inheritdoc
+    @Override
+    public void onPersist(PersistEvent event, PersistContext createdAlready) {
+        onPersist(event);
+    }
+
+    // @inheritdoc
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        if (event.getEntity() instanceof FavoriteSource favoriteSource) decode(favoriteSource);
+    }
+
+    /**
+     * Sets the dictionary ids of a favorite source before it is inserted.
+     * @param favoriteSource the favorite source.
+     */
+    public void encode(FavoriteSource favoriteSource) {
+        favoriteSource.assignDictionaryIds(favoriteSourceDictionary.apiKeyIdOf(favoriteSource.getNewsApiKey()),
+                favoriteSourceDictionary.sourceKeyIdOf(favoriteSource.getSourceId()));
+    }
+
+    /**
+     * Sets the News API Key and source ID of a loaded favorite source from its dictionary ids.
+     * @param favoriteSource the favorite source.
+     */
+    public void decode(FavoriteSource favoriteSource) {
+        favoriteSource.restoreDictionaryValues(favoriteSourceDictionary.newsApiKeyOf(favoriteSource.getApiKeyId()),
+                favoriteSourceDictionary.sourceIdOf(favoriteSource.getSourceKeyId()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.jpa.dictionary;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * SourceKey
+ * @summary
+ * The SourceKey class represents an entry of the dictionary of source IDs, referenced by the favorite sources through its id.
+ * It is mapped for the queries that join the favorite sources to their source ID. Entries are only added,
+ * by the FavoriteSourceDictionary, and never change.
+ * @see FavoriteSourceDictionary
+ * @since 1.0.0
+ */
+@Entity
+@Immutable
+@Table(indexes = @Index(name = "uk_source_keys_source_id", columnList = "sourceId", unique = true))
+public class SourceKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Getter
+    private Integer id;
+
+    @Column(nullable = false)
+    @Getter
+    private String sourceId;
+
+    protected SourceKey() {}
+}
@@ -0,0 +1,233 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.r2dbc;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion;
+import com.acme.catchup.platform.shared.infrastructure.persistence.r2dbc.PooledLoIdAllocator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * ReactiveFavoriteSourceRepository
+ * @summary
+ * The ReactiveFavoriteSourceRepository class is responsible for managing the favorite news sources in the database through R2DBC,
+ * in the favorite_sources table created by the migrations and also mapped by JPA.
+ * Identifiers are allocated from the favorite_source_seqs table as Hibernate allocates them, dates are stored in UTC,
+ * as the JDBC connection stores them, and News API Keys and source IDs are stored in the api_keys and source_keys dictionaries,
+ * as the FavoriteSourceDictionary stores them, so both can read what the other writes.
+ * The favorite sources are not sharded: the repository refuses to start when sharding is enabled.
+ * @see PooledLoIdAllocator
+ * @since 1.0.0
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveFavoriteSourceRepository {
+    /**
+     * The allocation size of the favoriteSourceSequence generator of FavoriteSource.
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final String SELECT = "select f.id, k.news_api_key, s.source_id, f.created_at, f.updated_at from favorite_sources f"
+            + " join api_keys k on k.id = f.api_key_id join source_keys s on s.id = f.source_key_id";
+
+    private final DatabaseClient databaseClient;
+    private final PooledLoIdAllocator idAllocator;
+    private final Dictionary apiKeys;
+    private final Dictionary sourceKeys;
+
+    public ReactiveFavoriteSourceRepository(DatabaseClient databaseClient, @Value("${catchup.sharding.enabled}") boolean shardingEnabled,
+                                            @Value("${catchup.dictionary.api-keys.maximum-size}") long apiKeysMaximumSize,
+                                            @Value("${catchup.dictionary.source-keys.maximum-size}") long sourceKeysMaximumSize) {
+        if (shardingEnabled)
+            throw new IllegalStateException("The reactive profile stores favorite sources on spring.r2dbc.url only, and cannot be used with catchup.sharding.enabled");
+        this.databaseClient = databaseClient;
+        this.idAllocator = new PooledLoIdAllocator(databaseClient, "favorite_source_seqs", ID_ALLOCATION_SIZE);
+        this.apiKeys = new Dictionary(databaseClient, "api_keys", "news_api_key", apiKeysMaximumSize);
+        this.sourceKeys = new Dictionary(databaseClient, "source_keys", "source_id", sourceKeysMaximumSize);
+    }
+
+    /**
+     * Allocates the id of a new favorite source. It runs outside of the transaction of the caller.
+     * @return the id.
+     */
+    public Mono<Long> nextId() {
+        return idAllocator.nextId();
+    }
+
+    /**
+     * Inserts a favorite source. Its News API Key and source ID are added to their dictionaries if needed,
+     * outside of the transaction of the caller.
+     * @param favoriteSource the favorite source, with its id and dates.
+     * @return the inserted favorite source.
+     */
+    public Mono<FavoriteSource> insert(FavoriteSource favoriteSource) {
+        return Mono.zip(apiKeys.idOf(favoriteSource.getNewsApiKey()), sourceKeys.idOf(favoriteSource.getSourceId()))
+                .flatMap(ids -> databaseClient.sql("insert into favorite_sources (id, api_key_id, source_key_id, created_at, updated_at)"
+                                + " values (:id, :apiKeyId, :sourceKeyId, :createdAt, :updatedAt)")
+                        .bind("id", favoriteSource.getId())
+                        .bind("apiKeyId", ids.getT1())
+                        .bind("sourceKeyId", ids.getT2())
+                        .bind("createdAt", toColumn(favoriteSource.getCreatedAt()))
+                        .bind("updatedAt", toColumn(favoriteSource.getUpdatedAt()))
+                        .fetch()
+                        .rowsUpdated())
+                .thenReturn(favoriteSource);
+    }
+
+    /**
+     * Finds a favorite source by id.
+     * @param id the id.
+     * @return the favorite source, or empty if not found.
+     */
+    public Mono<FavoriteSource> findById(Long id) {
+        return databaseClient.sql(SELECT + " where f.id = :id")
+                .bind("id", id)
+                .map(ReactiveFavoriteSourceRepository::toFavoriteSource)
+                .one();
+    }
+
+    /**
+     * Finds all favorite sources by newsApiKey, ordered by id.
+     * The rows are emitted while they are read, as they are requested.
+     * @param newsApiKey the News API Key.
+     * @return the favorite sources.
+     */
+    public Flux<FavoriteSource> findAllByNewsApiKey(String newsApiKey) {
+        return databaseClient.sql(SELECT + " where k.news_api_key = :newsApiKey order by f.id")
+                .bind("newsApiKey", newsApiKey)
+                .map(ReactiveFavoriteSourceRepository::toFavoriteSource)
+                .all();
+    }
+
+    /**
+     * Finds all favorite sources by newsApiKey with an id greater than the given one, ordered by id.
+     * The rows are emitted while they are read, as they are requested.
+     * @param newsApiKey the News API Key.
+     * @param id the id after which the favorite sources are found.
+     * @return the favorite sources.
+     */
+    public Flux<FavoriteSource> findAllByNewsApiKeyAndIdGreaterThanOrderByIdAsc(String newsApiKey, Long id) {
+        return databaseClient.sql(SELECT + " where k.news_api_key = :newsApiKey and f.id > :id order by f.id")
+                .bind("newsApiKey", newsApiKey)
+                .bind("id", id)
+                .map(ReactiveFavoriteSourceRepository::toFavoriteSource)
+                .all();
+    }
+
+    /**
+     * Finds the favorite sources by newsApiKey with an id greater than the given one, ordered by id.
+     * @param newsApiKey the News API Key.
+     * @param id the id after which the favorite sources are found.
+     * @param limit the maximum number of favorite sources.
+     * @return the favorite sources.
+     */
+    public Flux<FavoriteSource> findAllByNewsApiKeyAndIdGreaterThanOrderByIdAsc(String newsApiKey, Long id, int limit) {
+        return databaseClient.sql(SELECT + " where k.news_api_key = :newsApiKey and f.id > :id order by f.id limit :limit")
+                .bind("newsApiKey", newsApiKey)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveFavoriteSourceRepository::toFavoriteSource)
+                .all();
+    }
+
+    /**
+     * Finds a favorite source by newsApiKey and sourceId.
+     * @param newsApiKey the News API Key.
+     * @param sourceId the source ID.
+     * @return the favorite source, or empty if not found.
+     */
+    public Mono<FavoriteSource> findByNewsApiKeyAndSourceId(String newsApiKey, String sourceId) {
+        return databaseClient.sql(SELECT + " where k.news_api_key = :newsApiKey and s.source_id = :sourceId")
+                .bind("newsApiKey", newsApiKey)
+                .bind("sourceId", sourceId)
+                .map(ReactiveFavoriteSourceRepository::toFavoriteSource)
+                .one();
+    }
+
+    /**
+     * Finds which of the given source IDs are already favorite sources of the newsApiKey.
+     * @param newsApiKey the News API Key.
+     * @param sourceIds the source IDs to check, not empty.
+     * @return the source IDs that already exist.
+     */
+    public Flux<String> findSourceIdsByNewsApiKeyAndSourceIdIn(String newsApiKey, Collection<String> sourceIds) {
+        return databaseClient.sql("select s.source_id from favorite_sources f join api_keys k on k.id = f.api_key_id"
+                        + " join source_keys s on s.id = f.source_key_id where k.news_api_key = :newsApiKey and s.source_id in (:sourceIds)")
+                .bind("newsApiKey", newsApiKey)
+                .bind("sourceIds", sourceIds)
+                .map(row -> row.get(0, String.class))
+                .all();
+    }
+
+    /**
+     * Finds the version of the favorite sources by newsApiKey, from their count and latest update date.
+     * @param newsApiKey the News API Key.
+     * @return the version of the favorite sources.
+     */
+    public Mono<FavoriteSourcesVersion> findVersionByNewsApiKey(String newsApiKey) {
+        return databaseClient.sql("select count(*), max(f.updated_at) from favorite_sources f join api_keys k on k.id = f.api_key_id"
+                        + " where k.news_api_key = :newsApiKey")
+                .bind("newsApiKey", newsApiKey)
+                .map(row -> new FavoriteSourcesVersion(row.get(0, Long.class), toDate(row.get(1, LocalDateTime.class))))
+                .one();
+    }
+
+    private static FavoriteSource toFavoriteSource(Readable row) {
+        return new FavoriteSource(row.get("id", Long.class), row.get("news_api_key", String.class), row.get("source_id", String.class),
+                toDate(row.get("created_at", LocalDateTime.class)), toDate(row.get("updated_at", LocalDateTime.class)));
+    }
+
+    private static LocalDateTime toColumn(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC);
+    }
+
+    private static Date toDate(LocalDateTime column) {
+        return column == null ? null : Date.from(column.toInstant(ZoneOffset.UTC));
+    }
+
+    /**
+     * A dictionary table, with its hot entries kept in memory. Entries are added outside of the transaction of the caller,
+     * so they are committed, and can be kept, even if the transaction rolls back.
+     */
+    private static final class Dictionary {
+        private final DatabaseClient databaseClient;
+        private final String findId;
+        private final String insert;
+        private final Cache<String, Integer> ids;
+
+        private Dictionary(DatabaseClient databaseClient, String table, String column, long maximumSize) {
+            this.databaseClient = databaseClient;
+            this.findId = "select id from " + table + " where " + column + " = :value";
+            this.insert = "insert into " + table + " (" + column + ") values (:value)";
+            this.ids = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        }
+
+        private Mono<Integer> idOf(String value) {
+            var id = ids.getIfPresent(value);
+            if (id != null) return Mono.just(id);
+            return findId(value)
+                    .switchIfEmpty(Mono.defer(() -> databaseClient.sql(insert).bind("value", value).fetch().rowsUpdated()
+                            // Added by a concurrent writer since
+                            .onErrorResume(DuplicateKeyException.class, e -> Mono.empty())
+                            .then(findId(value))))
+                    .doOnNext(foundId -> ids.put(value, foundId))
+                    .contextWrite(context -> Context.empty());
+        }
+
+        private Mono<Integer> findId(String value) {
+            return databaseClient.sql(findId).bind("value", value).map(row -> row.get(0, Integer.class)).one();
+        }
+    }
+}
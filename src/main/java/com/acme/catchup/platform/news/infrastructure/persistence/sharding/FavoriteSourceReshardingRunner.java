@@ -0,0 +1,88 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * FavoriteSourceReshardingRunner
+ * @summary
+ * The FavoriteSourceReshardingRunner class is the resharding tool. It runs the catchup.sharding.reshard.action, then stops the application:
+ * <ul>
+ * <li>plan: counts the News API Keys that would change shard with the catchup.sharding.reshard.target-ring.</li>
+ * <li>pin: pins those News API Keys to their current shard, so they stay in place once the target ring is deployed.</li>
+ * <li>move: moves every pinned News API Key to its shard on the current ring, one at a time.</li>
+ * </ul>
+ * Adding a shard is: deploy it outside the ring, pin with the new ring as target, deploy the new ring, then move.
+ * @since 1.0.0
+ */
+public class FavoriteSourceReshardingRunner implements ApplicationRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FavoriteSourceReshardingRunner.class);
+
+    private final FavoriteSourceShardDirectory directory;
+    private final FavoriteSourceShardMigrator migrator;
+    private final ConfigurableApplicationContext applicationContext;
+    private final String action;
+    private final ShardRing targetRing;
+
+    public FavoriteSourceReshardingRunner(FavoriteSourceShardDirectory directory, FavoriteSourceShardMigrator migrator,
+                                          ConfigurableApplicationContext applicationContext, String action,
+                                          List<String> targetRing, int virtualNodes) {
+        this.directory = directory;
+        this.migrator = migrator;
+        this.applicationContext = applicationContext;
+        this.action = action;
+        this.targetRing = targetRing.isEmpty() ? null : new ShardRing(targetRing, virtualNodes);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        var exitCode = 0;
+        try {
+            switch (action) {
+                case "plan" -> plan(false);
+                case "pin" -> plan(true);
+                case "move" -> move();
+                default -> throw new IllegalArgumentException("Unknown resharding action " + action + ", expected plan, pin or move");
+            }
+        } catch (Exception e) {
+            LOGGER.error("Resharding action {} failed", action, e);
+            exitCode = 1;
+        }
+        var status = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> status));
+    }
+
+    private void plan(boolean pin) {
+        if (targetRing == null) throw new IllegalArgumentException("catchup.sharding.reshard.target-ring is required");
+        var moves = new TreeMap<String, Integer>();
+        migrator.findNewsApiKeysByShard().forEach((shard, newsApiKeys) -> {
+            for (var newsApiKey : newsApiKeys) {
+                var targetShard = targetRing.shardFor(newsApiKey);
+                if (targetShard.equals(shard)) continue;
+                moves.merge(shard + " -> " + targetShard, 1, Integer::sum);
+                if (pin) directory.place(newsApiKey, shard);
+            }
+        });
+        moves.forEach((move, count) -> LOGGER.info("{}: {} News API Keys {}", move, count, pin ? "pinned" : "to move"));
+        LOGGER.info("{} News API Keys change shard with the target ring", moves.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    private void move() throws InterruptedException {
+        var moved = 0;
+        for (Map.Entry<String, FavoriteSourceShardDirectory.Placement> pinned : directory.findPinned().entrySet()) {
+            var ringShard = directory.ringShardFor(pinned.getKey());
+            if (ringShard.equals(pinned.getValue().shard()) && !pinned.getValue().isMoving()) continue;
+            migrator.move(pinned.getKey(), ringShard);
+            moved++;
+        }
+        LOGGER.info("{} News API Keys moved to their shard on the ring", moved);
+    }
+}
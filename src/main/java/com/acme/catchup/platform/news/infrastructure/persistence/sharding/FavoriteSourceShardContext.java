@@ -0,0 +1,42 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * FavoriteSourceShardContext
+ * @summary
+ * The FavoriteSourceShardContext class holds the shard the current thread works on.
+ * The shard is read when a connection is acquired, so it must be set before the first statement of a transaction.
+ * @since 1.0.0
+ */
+public final class FavoriteSourceShardContext {
+    private static final ThreadLocal<String> CURRENT_SHARD = new ThreadLocal<>();
+
+    private FavoriteSourceShardContext() {
+    }
+
+    /**
+     * Runs an action on a shard.
+     * @param shard the name of the shard.
+     * @param action the action.
+     * @return the result of the action.
+     */
+    public static <T> T callOn(String shard, Supplier<T> action) {
+        var previousShard = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previousShard == null) CURRENT_SHARD.remove();
+            else CURRENT_SHARD.set(previousShard);
+        }
+    }
+
+    /**
+     * Gets the shard the current thread works on.
+     * @return the name of the shard, or null for the first shard.
+     */
+    public static String currentShard() {
+        return CURRENT_SHARD.get();
+    }
+}
@@ -0,0 +1,152 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import com.acme.catchup.platform.shared.infrastructure.monitoring.StatementCountingJdbcTemplate;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * FavoriteSourceShardDirectory
+ * @summary
+ * The FavoriteSourceShardDirectory class tells on which shard the favorite sources of a News API Key live.
+ * A News API Key lives on its shard of the consistent hash ring, unless the directory pins it to another shard,
+ * which is how keys are kept in place when the ring changes and moved afterwards.
+ * The placements are stored on the first shard (favorite_source_shard_placements) and cached for the directory cache TTL.
+ * Every shard issues favorite source IDs from its own range of 2^40 IDs, so IDs are unique across shards
+ * and keep pointing to the shard that issued them.
+ * @see ShardRing
+ * @since 1.0.0
+ */
+public class FavoriteSourceShardDirectory {
+    static final int ID_RANGE_BITS = 40;
+
+    private final Map<String, JdbcTemplate> shardJdbcTemplates = new LinkedHashMap<>();
+    private final ShardRing ring;
+    private final JdbcTemplate directoryJdbcTemplate;
+    private final LoadingCache<String, Placement> placements;
+
+    public FavoriteSourceShardDirectory(Map<String, DataSource> shards, ShardRing ring, Duration cacheTtl) {
+        shards.forEach((shard, dataSource) -> shardJdbcTemplates.put(shard, new StatementCountingJdbcTemplate(dataSource)));
+        this.ring = ring;
+        this.directoryJdbcTemplate = shardJdbcTemplates.values().iterator().next();
+        this.placements = Caffeine.newBuilder().expireAfterWrite(cacheTtl).build(this::loadPlacement);
+    }
+
+    /**
+     * Resolves the placement of a News API Key.
+     * @param newsApiKey the News API Key.
+     * @return the placement.
+     */
+    public Placement resolve(String newsApiKey) {
+        return placements.get(newsApiKey);
+    }
+
+    /**
+     * Finds the News API Key of a favorite source by its ID, starting with the shard that issued the ID.
+     * @param id the favorite source ID.
+     * @return the News API Key, or empty if no shard has the favorite source.
+     */
+    public Optional<String> findNewsApiKeyById(Long id) {
+        var candidates = new ArrayList<>(shardJdbcTemplates.keySet());
+        var issuer = (int) (id >>> ID_RANGE_BITS);
+        if (issuer < candidates.size()) candidates.addFirst(candidates.remove(issuer));
+        for (var shard : candidates) {
+            var newsApiKeys = shardJdbcTemplates.get(shard).queryForList(
+                    "select k.news_api_key from favorite_sources f join api_keys k on k.id = f.api_key_id where f.id = ?", String.class, id);
+            if (!newsApiKeys.isEmpty()) return Optional.of(newsApiKeys.getFirst());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the shard of a News API Key on the ring.
+     * @param newsApiKey the News API Key.
+     * @return the name of the shard.
+     */
+    public String ringShardFor(String newsApiKey) {
+        return ring.shardFor(newsApiKey);
+    }
+
+    /**
+     * Gets the pinned News API Keys.
+     * @return the placements of the pinned News API Keys.
+     */
+    public Map<String, Placement> findPinned() {
+        var pinned = new LinkedHashMap<String, Placement>();
+        directoryJdbcTemplate.query("select news_api_key, shard, target_shard from favorite_source_shard_placements order by news_api_key",
+                resultSet -> {
+                    pinned.put(resultSet.getString(1), new Placement(resultSet.getString(2), resultSet.getString(3)));
+                });
+        return pinned;
+    }
+
+    /**
+     * Places a News API Key on a shard, pinning it unless it is its shard on the ring.
+     * @param newsApiKey the News API Key.
+     * @param shard the name of the shard.
+     */
+    public void place(String newsApiKey, String shard) {
+        if (shard.equals(ring.shardFor(newsApiKey)))
+            directoryJdbcTemplate.update("delete from favorite_source_shard_placements where news_api_key = ?", newsApiKey);
+        else save(newsApiKey, new Placement(shard, null));
+    }
+
+    /**
+     * Marks a News API Key as moving to another shard, which rejects its writes until it is placed.
+     * @param newsApiKey the News API Key.
+     * @param targetShard the name of the shard it moves to.
+     */
+    public void markMoving(String newsApiKey, String targetShard) {
+        save(newsApiKey, new Placement(resolveUncached(newsApiKey).shard(), targetShard));
+    }
+
+    private void save(String newsApiKey, Placement placement) {
+        checkShard(placement.shard());
+        if (placement.targetShard() != null) checkShard(placement.targetShard());
+        var updated = directoryJdbcTemplate.update(
+                "update favorite_source_shard_placements set shard = ?, target_shard = ? where news_api_key = ?",
+                placement.shard(), placement.targetShard(), newsApiKey);
+        if (updated == 0)
+            directoryJdbcTemplate.update(
+                    "insert into favorite_source_shard_placements (news_api_key, shard, target_shard) values (?, ?, ?)",
+                    newsApiKey, placement.shard(), placement.targetShard());
+        placements.invalidate(newsApiKey);
+    }
+
+    private Placement resolveUncached(String newsApiKey) {
+        placements.invalidate(newsApiKey);
+        return placements.get(newsApiKey);
+    }
+
+    private Placement loadPlacement(String newsApiKey) {
+        var pinned = directoryJdbcTemplate.query(
+                "select shard, target_shard from favorite_source_shard_placements where news_api_key = ?",
+                (resultSet, rowNum) -> new Placement(resultSet.getString(1), resultSet.getString(2)), newsApiKey);
+        return pinned.isEmpty() ? new Placement(ring.shardFor(newsApiKey), null) : pinned.getFirst();
+    }
+
+    private void checkShard(String shard) {
+        if (!shardJdbcTemplates.containsKey(shard)) throw new IllegalArgumentException("Unknown shard " + shard);
+    }
+
+    /**
+     * Placement
+     * @summary
+     * Placement is a record class that represents the shard of a News API Key.
+     * @param shard - the name of the shard holding the favorite sources.
+     * @param targetShard - the name of the shard they are moving to, or null.
+     */
+    public record Placement(String shard, String targetShard) {
+        /**
+         * Checks if the favorite sources are moving to another shard.
+         * @return true if they are moving.
+         */
+        public boolean isMoving() {
+            return targetShard != null;
+        }
+    }
+}
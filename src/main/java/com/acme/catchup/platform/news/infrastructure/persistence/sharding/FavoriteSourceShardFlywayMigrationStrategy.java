@@ -0,0 +1,44 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * FavoriteSourceShardFlywayMigrationStrategy
+ * @summary
+ * The FavoriteSourceShardFlywayMigrationStrategy class applies the schema migrations (spring.flyway) to every shard, one after
+ * the other, instead of to the spring.datasource data source only. Each shard gets the start of its favorite source ID range
+ * as the favorite_source_id_range_start placeholder.
+ * @since 1.0.0
+ */
+public class FavoriteSourceShardFlywayMigrationStrategy implements FlywayMigrationStrategy {
+    static final String ID_RANGE_START_PLACEHOLDER = "favorite_source_id_range_start";
+
+    private final Map<String, DataSource> shards;
+
+    public FavoriteSourceShardFlywayMigrationStrategy(Map<String, DataSource> shards) {
+        this.shards = shards;
+    }
+
+    // @inheritdoc
+    @Override
+    public void migrate(Flyway flyway) {
+        var configuration = flyway.getConfiguration();
+        var shardIndex = 0L;
+        for (var shard : shards.values()) {
+            var placeholders = new HashMap<>(configuration.getPlaceholders());
+            placeholders.put(ID_RANGE_START_PLACEHOLDER, Long.toString(shardIndex << FavoriteSourceShardDirectory.ID_RANGE_BITS));
+            Flyway.configure(configuration.getClassLoader())
+                    .configuration(configuration)
+                    .dataSource(shard)
+                    .placeholders(placeholders)
+                    .load()
+                    .migrate();
+            shardIndex++;
+        }
+    }
+}
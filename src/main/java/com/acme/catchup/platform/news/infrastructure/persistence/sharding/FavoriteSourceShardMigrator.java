@@ -0,0 +1,136 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * FavoriteSourceShardMigrator
+ * @summary
+ * The FavoriteSourceShardMigrator class moves the favorite sources of a News API Key from one shard to another while the platform runs:
+ * <ol>
+ * <li>The key is marked as moving: its reads still go to the source shard, its writes are rejected as transient failures.</li>
+ * <li>After the directory cache TTL, so every instance sees the mark, its rows are copied to the target shard, keeping their IDs.</li>
+ * <li>The key is placed on the target shard, and after the directory cache TTL, its rows are deleted from the source shard.</li>
+ * </ol>
+ * If the copy fails, the copied rows are deleted and the key is placed back on the source shard.
+ * Outbox messages are left on the source shard, which drains them. Every shard has its own api_keys and source_keys dictionaries,
+ * so the copied rows reference the entries of the target shard, added if needed.
+ * @since 1.0.0
+ */
+public class FavoriteSourceShardMigrator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FavoriteSourceShardMigrator.class);
+    private static final String TABLE = "favorite_sources";
+    private static final String DELETE = "delete from " + TABLE + " where api_key_id in (select id from api_keys where news_api_key = ?)";
+
+    private final Map<String, DataSource> shards;
+    private final FavoriteSourceShardDirectory directory;
+    private final Duration propagationDelay;
+
+    public FavoriteSourceShardMigrator(Map<String, DataSource> shards, FavoriteSourceShardDirectory directory, Duration propagationDelay) {
+        this.shards = shards;
+        this.directory = directory;
+        this.propagationDelay = propagationDelay;
+    }
+
+    /**
+     * Lists the News API Keys found on every shard.
+     * @return the News API Keys by shard name.
+     */
+    public Map<String, List<String>> findNewsApiKeysByShard() {
+        var newsApiKeysByShard = new LinkedHashMap<String, List<String>>();
+        shards.forEach((shard, dataSource) -> newsApiKeysByShard.put(shard, new JdbcTemplate(dataSource)
+                .queryForList("select k.news_api_key from api_keys k where exists (select 1 from " + TABLE + " f where f.api_key_id = k.id)"
+                        + " order by k.news_api_key", String.class)));
+        return newsApiKeysByShard;
+    }
+
+    /**
+     * Moves the favorite sources of a News API Key to another shard.
+     * @param newsApiKey the News API Key.
+     * @param targetShard the name of the shard to move to.
+     * @return the number of favorite sources moved.
+     * @throws InterruptedException if interrupted while waiting for the instances to see the placement.
+     */
+    public int move(String newsApiKey, String targetShard) throws InterruptedException {
+        var sourceShard = directory.resolve(newsApiKey).shard();
+        if (sourceShard.equals(targetShard)) {
+            directory.place(newsApiKey, targetShard);
+            return 0;
+        }
+        var source = new JdbcTemplate(shards.get(sourceShard));
+        var target = new JdbcTemplate(shards.get(targetShard));
+        directory.markMoving(newsApiKey, targetShard);
+        int moved;
+        try {
+            Thread.sleep(propagationDelay.toMillis());
+            moved = copy(newsApiKey, source, transactionTemplate(shards.get(targetShard)), target);
+        } catch (RuntimeException | InterruptedException e) {
+            LOGGER.warn("Favorite sources could not be moved from shard {} to shard {}, rolling back", sourceShard, targetShard, e);
+            target.update(DELETE, newsApiKey);
+            directory.place(newsApiKey, sourceShard);
+            throw e;
+        }
+        directory.place(newsApiKey, targetShard);
+        Thread.sleep(propagationDelay.toMillis());
+        source.update(DELETE, newsApiKey);
+        LOGGER.info("Moved {} favorite sources from shard {} to shard {}", moved, sourceShard, targetShard);
+        return moved;
+    }
+
+    private static int copy(String newsApiKey, JdbcTemplate source, TransactionTemplate targetTransaction, JdbcTemplate target) {
+        var rows = source.query("select f.*, s.source_id from " + TABLE + " f join api_keys k on k.id = f.api_key_id"
+                + " join source_keys s on s.id = f.source_key_id where k.news_api_key = ? order by f.id", columnMapRowMapper(), newsApiKey);
+        if (rows.isEmpty()) return 0;
+        var columns = rows.getFirst().keySet().stream().filter(column -> !column.equals("source_id")).toList();
+        var insert = "insert into %s (%s) values (%s)".formatted(TABLE, String.join(", ", columns),
+                String.join(", ", Collections.nCopies(columns.size(), "?")));
+        targetTransaction.executeWithoutResult(status -> {
+            target.update(DELETE, newsApiKey);
+            var apiKeyId = dictionaryIdOf(target, "api_keys", "news_api_key", newsApiKey);
+            var sourceKeyIds = new HashMap<Object, Integer>();
+            var batch = rows.stream().map(row -> {
+                row.put("api_key_id", apiKeyId);
+                row.put("source_key_id", sourceKeyIds.computeIfAbsent(row.get("source_id"),
+                        sourceId -> dictionaryIdOf(target, "source_keys", "source_id", (String) sourceId)));
+                return columns.stream().map(row::get).toArray();
+            }).toList();
+            target.batchUpdate(insert, batch);
+        });
+        return rows.size();
+    }
+
+    private static int dictionaryIdOf(JdbcTemplate jdbcTemplate, String table, String column, String value) {
+        var select = "select id from " + table + " where " + column + " = ?";
+        var ids = jdbcTemplate.queryForList(select, Integer.class, value);
+        if (!ids.isEmpty()) return ids.getFirst();
+        try {
+            jdbcTemplate.update("insert into " + table + " (" + column + ") values (?)", value);
+        } catch (DuplicateKeyException e) {
+            // Added by a write of another News API Key since
+        }
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(select + " for update", Integer.class, value));
+    }
+
+    private static RowMapper<Map<String, Object>> columnMapRowMapper() {
+        return (resultSet, rowNum) -> {
+            var metaData = resultSet.getMetaData();
+            var row = new LinkedHashMap<String, Object>();
+            for (int column = 1; column <= metaData.getColumnCount(); column++)
+                row.put(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT), resultSet.getObject(column));
+            return row;
+        };
+    }
+
+    private static TransactionTemplate transactionTemplate(DataSource dataSource) {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+}
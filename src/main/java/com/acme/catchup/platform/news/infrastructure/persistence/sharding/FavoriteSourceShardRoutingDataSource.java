@@ -0,0 +1,50 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FavoriteSourceShardRoutingDataSource
+ * @summary
+ * The FavoriteSourceShardRoutingDataSource class routes connections to the shard of the FavoriteSourceShardContext,
+ * or to the first shard outside of it. It must be wrapped in a LazyConnectionDataSourceProxy, so transactions acquire
+ * their connection on their first statement, once the shard is known.
+ * @see FavoriteSourceShardContext
+ * @since 1.0.0
+ */
+public class FavoriteSourceShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private final Map<String, DataSource> shards;
+
+    public FavoriteSourceShardRoutingDataSource(Map<String, DataSource> shards) {
+        this.shards = new LinkedHashMap<>(shards);
+        setTargetDataSources(new LinkedHashMap<>(shards));
+        setDefaultTargetDataSource(shards.values().iterator().next());
+        setLenientFallback(false);
+    }
+
+    /**
+     * Gets the data sources of the shards.
+     * @return the data sources by shard name, in configuration order.
+     */
+    public Map<String, DataSource> getShards() {
+        return shards;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return FavoriteSourceShardContext.currentShard();
+    }
+
+    /**
+     * Closes the data sources of the shards.
+     * @throws Exception if a data source cannot be closed.
+     */
+    @Override
+    public void close() throws Exception {
+        for (var shard : shards.values())
+            if (shard instanceof AutoCloseable closeable) closeable.close();
+    }
+}
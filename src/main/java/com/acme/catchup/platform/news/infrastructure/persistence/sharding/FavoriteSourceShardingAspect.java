@@ -0,0 +1,89 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * FavoriteSourceShardingAspect
+ * @summary
+ * The FavoriteSourceShardingAspect class runs every FavoriteSourceRepository call on the shard of its News API Key,
+ * taken from the first argument of the queries by News API Key, or from the saved favorite sources.
+ * Lookups by ID first find the News API Key of the ID in the shards. Other calls run on the first shard.
+ * A transaction works on a single shard, and writes are rejected while the News API Key moves to another shard.
+ * @see FavoriteSourceShardDirectory
+ * @since 1.0.0
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class FavoriteSourceShardingAspect {
+    private static final String TRANSACTION_SHARD = FavoriteSourceShardingAspect.class.getName() + ".transactionShard";
+
+    private final FavoriteSourceShardDirectory directory;
+
+    public FavoriteSourceShardingAspect(FavoriteSourceShardDirectory directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Runs a repository call on the shard of its News API Key.
+     * @param joinPoint the repository method invocation.
+     * @return the result of the repository method.
+     * @throws Throwable the exception thrown by the repository method.
+     */
+    @Around("execution(* com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceRepository.*(..))")
+    public Object routeToShard(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = joinPoint.getSignature().getName();
+        var newsApiKey = newsApiKeyOf(method, joinPoint.getArgs());
+        if (newsApiKey == null) return joinPoint.proceed();
+        var placement = directory.resolve(newsApiKey);
+        if (placement.isMoving() && (method.startsWith("save") || method.startsWith("delete")))
+            throw new TransientDataAccessResourceException(
+                    "The favorite sources of the News API Key are moving to another shard, retry later");
+        bindToTransaction(placement.shard());
+        return FavoriteSourceShardContext.callOn(placement.shard(), () -> {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private String newsApiKeyOf(String method, Object[] args) {
+        if (args.length == 0 || args[0] == null) return null;
+        if (method.contains("ByNewsApiKey") && args[0] instanceof String newsApiKey) return newsApiKey;
+        if (args[0] instanceof FavoriteSource favoriteSource) return favoriteSource.getNewsApiKey();
+        if (args[0] instanceof Collection<?> favoriteSources && !favoriteSources.isEmpty()
+                && favoriteSources.iterator().next() instanceof FavoriteSource favoriteSource) return favoriteSource.getNewsApiKey();
+        if ((method.equals("findById") || method.equals("findSummaryById")) && args[0] instanceof Long id)
+            return directory.findNewsApiKeyById(id).orElse(null);
+        return null;
+    }
+
+    private static void bindToTransaction(String shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        var transactionShard = TransactionSynchronizationManager.getResource(TRANSACTION_SHARD);
+        if (transactionShard == null) {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SHARD);
+                }
+            });
+        } else if (!transactionShard.equals(shard)) {
+            throw new IllegalStateException("A transaction cannot span favorite source shards");
+        }
+    }
+}
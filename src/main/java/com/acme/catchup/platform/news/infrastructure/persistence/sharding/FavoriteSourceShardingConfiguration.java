@@ -0,0 +1,103 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * FavoriteSourceShardingConfiguration
+ * @summary
+ * The FavoriteSourceShardingConfiguration class shards the favorite sources by News API Key over the catchup.sharding.shards.
+ * It is enabled by catchup.sharding.enabled, and replaces the spring.datasource data source with one routing to the shard
+ * of the FavoriteSourceShardContext, set by the FavoriteSourceShardingAspect around the FavoriteSourceRepository calls.
+ * Every shard gets a pool configured by spring.datasource.hikari, and the schema migrations. The resharding tool runs when catchup.sharding.reshard.action is set.
+ * Sharding requires spring.jpa.open-in-view=false, as a request holding its connection would stay on the shard it first used.
+ * @see FavoriteSourceShardingAspect
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "catchup.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(FavoriteSourceShardingProperties.class)
+public class FavoriteSourceShardingConfiguration {
+
+    public FavoriteSourceShardingConfiguration(Environment environment) {
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true))
+            throw new IllegalStateException("Sharding requires spring.jpa.open-in-view=false");
+        if (environment.getProperty("catchup.datasource.replica-routing.enabled", Boolean.class, false))
+            throw new IllegalStateException("Sharding cannot be combined with catchup.datasource.replica-routing");
+    }
+
+    @Bean
+    public FavoriteSourceShardRoutingDataSource favoriteSourceShardRoutingDataSource(
+            DataSourceProperties dataSourceProperties, FavoriteSourceShardingProperties shardingProperties, Environment environment) {
+        var shards = new LinkedHashMap<String, DataSource>();
+        for (var shard : shardingProperties.shards()) {
+            var dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+            dataSource.setJdbcUrl(shard.url());
+            dataSource.setUsername(shard.username());
+            dataSource.setPassword(shard.password());
+            dataSource.setPoolName("CatchUpPool-" + shard.name());
+            shards.put(shard.name(), dataSource);
+        }
+        return new FavoriteSourceShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(FavoriteSourceShardRoutingDataSource favoriteSourceShardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(favoriteSourceShardRoutingDataSource);
+    }
+
+    @Bean
+    public FavoriteSourceShardDirectory favoriteSourceShardDirectory(FavoriteSourceShardRoutingDataSource favoriteSourceShardRoutingDataSource,
+                                                                     FavoriteSourceShardingProperties shardingProperties) {
+        return new FavoriteSourceShardDirectory(favoriteSourceShardRoutingDataSource.getShards(), new ShardRing(shardingProperties.ring(), shardingProperties.virtualNodes()),
+                shardingProperties.directoryCacheTtl());
+    }
+
+    @Bean
+    public FavoriteSourceShardingAspect favoriteSourceShardingAspect(FavoriteSourceShardDirectory favoriteSourceShardDirectory) {
+        return new FavoriteSourceShardingAspect(favoriteSourceShardDirectory);
+    }
+
+    @Bean
+    public FlywayMigrationStrategy favoriteSourceShardFlywayMigrationStrategy(
+            FavoriteSourceShardRoutingDataSource favoriteSourceShardRoutingDataSource) {
+        return new FavoriteSourceShardFlywayMigrationStrategy(favoriteSourceShardRoutingDataSource.getShards());
+    }
+
+    @Bean
+    public FavoriteSourceShardMigrator favoriteSourceShardMigrator(FavoriteSourceShardRoutingDataSource favoriteSourceShardRoutingDataSource,
+                                                                   FavoriteSourceShardingProperties shardingProperties,
+                                                                   FavoriteSourceShardDirectory favoriteSourceShardDirectory) {
+        return new FavoriteSourceShardMigrator(favoriteSourceShardRoutingDataSource.getShards(), favoriteSourceShardDirectory,
+                shardingProperties.directoryCacheTtl().plusSeconds(1));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "catchup.sharding.reshard.action")
+    public FavoriteSourceReshardingRunner favoriteSourceReshardingRunner(
+            FavoriteSourceShardDirectory favoriteSourceShardDirectory, FavoriteSourceShardMigrator favoriteSourceShardMigrator,
+            ConfigurableApplicationContext applicationContext, FavoriteSourceShardingProperties shardingProperties,
+            @Value("${catchup.sharding.reshard.action}") String action,
+            @Value("${catchup.sharding.reshard.target-ring:}") List<String> targetRing) {
+        return new FavoriteSourceReshardingRunner(favoriteSourceShardDirectory, favoriteSourceShardMigrator, applicationContext,
+                action, targetRing, shardingProperties.virtualNodes());
+    }
+}
@@ -0,0 +1,58 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * FavoriteSourceShardingProperties
+ * @summary
+ * FavoriteSourceShardingProperties is a record class that represents the catchup.sharding configuration.
+ * @param enabled - whether the favorite sources are sharded by News API Key.
+ * @param shards - the shards. Their position sets their ID range, so shards can only be appended.
+ * The first shard also holds the shard directory.
+ * @param ring - the names of the shards new News API Keys are placed on; all shards when empty.
+ * @param virtualNodes - the number of points of each shard on the consistent hash ring.
+ * @param directoryCacheTtl - how long the placements of the shard directory are cached.
+ * @since 1.0.0
+ */
+@ConfigurationProperties("catchup.sharding")
+public record FavoriteSourceShardingProperties(boolean enabled, List<Shard> shards, List<String> ring, int virtualNodes,
+                                               Duration directoryCacheTtl) {
+    public FavoriteSourceShardingProperties {
+        if (shards == null || shards.isEmpty()) throw new IllegalArgumentException("At least one shard must be configured");
+        var names = shards.stream().map(Shard::name).toList();
+        if (names.stream().distinct().count() != names.size()) throw new IllegalArgumentException("Shard names must be unique");
+        if (ring == null || ring.isEmpty()) ring = names;
+        if (!names.containsAll(ring)) throw new IllegalArgumentException("The ring can only contain configured shards");
+        if (virtualNodes <= 0) throw new IllegalArgumentException("Virtual nodes must be positive");
+        if (directoryCacheTtl == null || directoryCacheTtl.isNegative())
+            throw new IllegalArgumentException("Directory cache TTL must not be negative");
+    }
+
+    /**
+     * Gets the shard names, in configuration order.
+     * @return the shard names.
+     */
+    public List<String> shardNames() {
+        return shards.stream().map(Shard::name).toList();
+    }
+
+    /**
+     * Shard
+     * @summary
+     * Shard is a record class that represents the connection settings of a shard.
+     * The pool settings are those of spring.datasource.hikari.
+     * @param name - the name of the shard.
+     * @param url - the JDBC URL of the shard.
+     * @param username - the username.
+     * @param password - the password.
+     */
+    public record Shard(String name, String url, String username, String password) {
+        public Shard {
+            if (name == null || name.isBlank()) throw new IllegalArgumentException("Shard name cannot be null or empty");
+            if (url == null || url.isBlank()) throw new IllegalArgumentException("Shard URL cannot be null or empty");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * FavoriteSourceShards
+ * @summary
+ * The FavoriteSourceShards class runs work that is not scoped to a News API Key, such as draining the outbox, on every shard.
+ * Without sharding, the work runs once on the single database.
+ * @since 1.0.0
+ */
+@Component
+public class FavoriteSourceShards {
+    private final List<String> shardNames;
+
+    public FavoriteSourceShards(ObjectProvider<FavoriteSourceShardingProperties> shardingProperties) {
+        var properties = shardingProperties.getIfAvailable();
+        this.shardNames = properties == null ? List.of() : properties.shardNames();
+    }
+
+    /**
+     * Runs a task on every shard, one shard after the other.
+     * The task must start its own transaction, so its connection is acquired on the shard.
+     * @param task the task.
+     */
+    public void forEach(Runnable task) {
+        if (shardNames.isEmpty()) {
+            task.run();
+            return;
+        }
+        for (var shard : shardNames)
+            FavoriteSourceShardContext.callOn(shard, () -> {
+                task.run();
+                return null;
+            });
+    }
+}
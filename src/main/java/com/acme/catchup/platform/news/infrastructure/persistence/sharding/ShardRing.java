@@ -0,0 +1,47 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * ShardRing
+ * @summary
+ * The ShardRing class maps keys to shards by consistent hashing: every shard owns virtual nodes on a ring of 64-bit hashes,
+ * and a key belongs to the shard of the first virtual node at or after the hash of the key.
+ * Adding a shard only moves the keys it takes over, about 1/N of them.
+ * @since 1.0.0
+ */
+public final class ShardRing {
+    private final NavigableMap<Long, String> virtualNodes = new TreeMap<>();
+
+    public ShardRing(Collection<String> shards, int virtualNodesPerShard) {
+        if (shards.isEmpty()) throw new IllegalArgumentException("The ring needs at least one shard");
+        for (var shard : shards)
+            for (int i = 0; i < virtualNodesPerShard; i++)
+                virtualNodes.put(hash(shard + "#" + i), shard);
+    }
+
+    /**
+     * Gets the shard of a key.
+     * @param key the key.
+     * @return the name of the shard.
+     */
+    public String shardFor(String key) {
+        var virtualNode = virtualNodes.ceilingEntry(hash(key));
+        return virtualNode != null ? virtualNode.getValue() : virtualNodes.firstEntry().getValue();
+    }
+
+    private static long hash(String value) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
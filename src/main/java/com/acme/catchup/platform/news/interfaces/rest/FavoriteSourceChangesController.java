@@ -0,0 +1,96 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.news.domain.exceptions.TooManyChangeSubscribersException;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceChangesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceChange;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceChangeQueryService;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceChangeResource;
+import com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourceChangeResourceFromValueObjectAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+/**
+ * FavoriteSourceChangesController
+ *
+ * @summary FavoriteSourceChangesController is a class that represents the REST controller for the changes of the favorite sources.
+ * It depends on the FavoriteSourceChangeQueryService.
+ * The changes of the favorite sources of a News API Key are pushed as Server-Sent Events: sources-added when favorite sources are added,
+ * articles-published when their headlines have new articles, and resync when the changes missed could not be replayed,
+ * so the favorite sources must be read again. Comments are sent as heartbeats while nothing changes.
+ * A client that reconnects with the Last-Event-ID header receives the changes it missed. The subscription is closed after
+ * a maximum age, for the client to reconnect, possibly to another instance.
+ * The same controller serves the servlet and the reactive stacks.
+ * @see FavoriteSourceChangeQueryService
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping(value = "/api/v1/favorite-sources/changes", produces = TEXT_EVENT_STREAM_VALUE)
+@Tag(name = "Favorite Sources", description = "Operations related to favorite sources")
+public class FavoriteSourceChangesController {
+    private final FavoriteSourceChangeQueryService favoriteSourceChangeQueryService;
+
+    public FavoriteSourceChangesController(FavoriteSourceChangeQueryService favoriteSourceChangeQueryService) {
+        this.favoriteSourceChangeQueryService = favoriteSourceChangeQueryService;
+    }
+
+    /**
+     * Follows the changes of the favorite sources of a News API Key.
+     *
+     * @param newsApiKey  the News API Key generated by the news provider.
+     * @param lastEventId the id of the last change received, to resume after it.
+     * @return the changes as Server-Sent Events.
+     */
+    @Operation(
+            summary = "Follow the changes of the favorite sources",
+            description = "Pushes the favorite sources added and the new articles of the favorite sources of the News API Key as Server-Sent Events.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes streamed"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "503", description = "Too many subscribers, retry later")
+    })
+    @GetMapping
+    public Flux<ServerSentEvent<FavoriteSourceChangeResource>> getFavoriteSourceChangesByNewsApiKey(
+            @Parameter(description = "The News API Key generated by the news provider.", required = true)
+            @RequestParam String newsApiKey,
+            @Parameter(description = "The id of the last change received, to resume after it.")
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        var query = new GetFavoriteSourceChangesByNewsApiKeyQuery(newsApiKey, lastEventId);
+        return favoriteSourceChangeQueryService.handle(query).map(this::toServerSentEvent);
+    }
+
+    /**
+     * Converts a change to a Server-Sent Event, or a comment for heartbeats.
+     *
+     * @param change the change.
+     * @return the Server-Sent Event.
+     */
+    private ServerSentEvent<FavoriteSourceChangeResource> toServerSentEvent(FavoriteSourceChange change) {
+        if (change.type() == FavoriteSourceChange.Type.HEARTBEAT)
+            return ServerSentEvent.<FavoriteSourceChangeResource>builder().comment("heartbeat").build();
+        return ServerSentEvent.builder(FavoriteSourceChangeResourceFromValueObjectAssembler.toResourceFromValueObject(change))
+                .id(change.id())
+                .event(change.type().name().toLowerCase().replace('_', '-'))
+                .build();
+    }
+
+    /**
+     * Handles the subscriptions beyond the maximum number of subscribers.
+     *
+     * @return an instance of ResponseEntity with the service unavailable status and a Retry-After header.
+     */
+    @ExceptionHandler(TooManyChangeSubscribersException.class)
+    public ResponseEntity<Void> handleTooManyChangeSubscribers() {
+        return ResponseEntity.status(SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+    }
+}
@@ -1,56 +1,119 @@
 package com.acme.catchup.platform.news.interfaces.rest;
 
+import com.acme.catchup.platform.news.domain.exceptions.FavoriteSourceAlreadyExistsException;
 import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.commands.ImportFavoriteSourcesCommand;
 import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
 import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByIdQuery;
 import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByNewsApiKeyAndSourceIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesPageByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesVersionByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.ReloadFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.StreamFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
 import com.acme.catchup.platform.news.domain.services.FavoriteSourceCommandService;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceImportCommandService;
 import com.acme.catchup.platform.news.domain.services.FavoriteSourceQueryService;
+import com.acme.catchup.platform.news.domain.services.NewsSourceCatalogue;
 import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourcesResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourcesResultResource;
 import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourcesImportProgressResource;
 import com.acme.catchup.platform.news.interfaces.rest.transform.CreateFavoriteSourceCommandFromResourceAssembler;
+import com.acme.catchup.platform.news.interfaces.rest.transform.CreateFavoriteSourcesCommandFromResourceAssembler;
+import com.acme.catchup.platform.news.interfaces.rest.transform.CreateFavoriteSourcesResultResourceFromEntitiesAssembler;
+import com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourceCsvFormat;
 import com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourceResourceFromEntityAssembler;
+import com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourceResourceFromValueObjectAssembler;
+import com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourceResourceStreamWriter;
+import com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourcesImportProgressResourceFromValueObjectAssembler;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourceCsvFormat.TEXT_CSV_VALUE;
+import static com.acme.catchup.platform.shared.infrastructure.serialization.BinaryWireFormatsConfiguration.APPLICATION_SMILE_VALUE;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 /**
  * FavoriteSourcesController
  *
- * @summary FavoriteSourcesController is a class that represents the REST controller for the favorite sources. It depends on the FavoriteSourceCommandService and FavoriteSourceQueryService.
+ * @summary FavoriteSourcesController is a class that represents the REST controller for the favorite sources. It depends on the FavoriteSourceCommandService, FavoriteSourceImportCommandService and FavoriteSourceQueryService.
  * This class contains the REST endpoints for the favorite sources.
  * The endpoints allow to:
  * <ul>
  * <li> Create a favorite source</li>
+ * <li> Create several favorite sources at once</li>
  * <li> Get a favorite source by ID</li>
- * <li> Get favorite sources with parameters (News API Key and optionally Source ID)</li>
+ * <li> Get favorite sources with parameters (News API Key and optionally Source ID, or a page after a cursor)</li>
+ * <li> Export the favorite sources of a News API Key as NDJSON or CSV, resuming after the id of the last one received</li>
+ * <li> Import favorite sources from NDJSON or CSV, resuming from the offset of the first row not committed</li>
  * </ul>
+ * The GET endpoints for a single favorite source or all the favorite sources of a News API Key support conditional requests
+ * (If-None-Match and If-Modified-Since), answering 304 Not Modified without serializing the favorite sources.
+ * Favorite source resources include the details of their news source, taken from the in-memory NewsSourceCatalogue.
+ * Besides JSON, the favorite sources are read and written as CBOR or Smile, negotiated with the Accept and Content-Type headers.
+ * Their ETags are weak, as every encoding, and every compression of it, is a representation of the same version.
+ * They include the version of the NewsSourceCatalogue, so a refresh that changes the details of the news sources changes them.
+ * The GET endpoints read favorite source summaries, whose queries release their connection before the response is written.
+ * With the reactive profile, the same routes are served by the FavoriteSourcesRouter instead.
  * @see FavoriteSourceCommandService
+ * @see FavoriteSourceImportCommandService
  * @see FavoriteSourceQueryService
+ * @see NewsSourceCatalogue
+ * @see FavoriteSourcesRouter
  * @since 1.0.0
  */
 @RestController
-@RequestMapping(value = "/api/v1/favorite-sources", produces = APPLICATION_JSON_VALUE)
+@Profile("!reactive")
+@RequestMapping(value = "/api/v1/favorite-sources", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
 @Tag(name = "Favorite Sources", description = "Operations related to favorite sources")
 public class FavoriteSourcesController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final int DEFAULT_PAGE_LIMIT = 100;
+
     private final FavoriteSourceCommandService favoriteSourceCommandService;
+    private final FavoriteSourceImportCommandService favoriteSourceImportCommandService;
     private final FavoriteSourceQueryService favoriteSourceQueryService;
+    private final NewsSourceCatalogue newsSourceCatalogue;
+    private final ObjectMapper objectMapper;
 
-    public FavoriteSourcesController(FavoriteSourceCommandService favoriteSourceCommandService, FavoriteSourceQueryService favoriteSourceQueryService) {
+    public FavoriteSourcesController(FavoriteSourceCommandService favoriteSourceCommandService,
+                                     FavoriteSourceImportCommandService favoriteSourceImportCommandService,
+                                     FavoriteSourceQueryService favoriteSourceQueryService,
+                                     NewsSourceCatalogue newsSourceCatalogue, ObjectMapper objectMapper) {
         this.favoriteSourceCommandService = favoriteSourceCommandService;
+        this.favoriteSourceImportCommandService = favoriteSourceImportCommandService;
         this.favoriteSourceQueryService = favoriteSourceQueryService;
+        this.newsSourceCatalogue = newsSourceCatalogue;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -64,16 +127,42 @@ public class FavoriteSourcesController {
             description = "Creates a favorite source with the data provided in the request body.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Favorite source created"),
-            @ApiResponse(responseCode = "400", description = "Bad request")
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "409", description = "Favorite source already exists"),
+            @ApiResponse(responseCode = "503", description = "Favorite sources temporarily read-only, retry later")
     })
     @PostMapping
     public ResponseEntity<FavoriteSourceResource> createFavoriteSource(@RequestBody CreateFavoriteSourceResource resource) {
         Optional<FavoriteSource> favoriteSource = favoriteSourceCommandService
                 .handle(CreateFavoriteSourceCommandFromResourceAssembler.toCommandFromResource(resource));
-        return favoriteSource.map(source -> new ResponseEntity<>(FavoriteSourceResourceFromEntityAssembler.toResourceFromEntity(source), CREATED))
+        return favoriteSource.map(source -> new ResponseEntity<>(toResource(source), CREATED))
                 .orElseGet(() -> ResponseEntity.badRequest().build());
     }
 
+    /**
+     * Creates several favorite sources for the same News API Key.
+     *
+     * @param resource the resource containing the data to create the favorite sources.
+     * @return an instance of ResponseEntity with the created and rejected favorite sources.
+     */
+    @Operation(
+            summary = "Create several favorite sources",
+            description = "Creates the favorite sources provided in the request body, skipping the ones that already exist.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Favorite sources created"),
+            @ApiResponse(responseCode = "200", description = "No favorite source created"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "409", description = "Favorite source created concurrently"),
+            @ApiResponse(responseCode = "503", description = "Favorite sources temporarily read-only, retry later")
+    })
+    @PostMapping("batch")
+    public ResponseEntity<CreateFavoriteSourcesResultResource> createFavoriteSources(@RequestBody CreateFavoriteSourcesResource resource) {
+        var favoriteSources = favoriteSourceCommandService
+                .handle(CreateFavoriteSourcesCommandFromResourceAssembler.toCommandFromResource(resource));
+        var result = CreateFavoriteSourcesResultResourceFromEntitiesAssembler.toResourceFromEntities(resource.sourceIds(), favoriteSources);
+        return favoriteSources.isEmpty() ? ResponseEntity.ok(result) : new ResponseEntity<>(result, CREATED);
+    }
+
     /**
      * Gets a favorite source by id.
      *
@@ -85,27 +174,68 @@ public class FavoriteSourcesController {
             description = "Gets a favorite source by the ID provided in the request.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Favorite source found"),
+            @ApiResponse(responseCode = "304", description = "Favorite source not modified"),
             @ApiResponse(responseCode = "404", description = "Favorite source not found")
     })
     @GetMapping("{id}")
-    public ResponseEntity<FavoriteSourceResource> getFavoriteSourceById(@PathVariable Long id) {
-        Optional<FavoriteSource> favoriteSource = favoriteSourceQueryService.handle(new GetFavoriteSourceByIdQuery(id));
-        return favoriteSource.map(source -> ResponseEntity.ok(FavoriteSourceResourceFromEntityAssembler.toResourceFromEntity(source)))
-                .orElseGet(() -> ResponseEntity.notFound().build());
+    public ResponseEntity<FavoriteSourceResource> getFavoriteSourceById(@PathVariable Long id, WebRequest webRequest) {
+        Optional<FavoriteSourceSummary> favoriteSource = favoriteSourceQueryService.handle(new GetFavoriteSourceByIdQuery(id));
+        if (favoriteSource.isEmpty()) return ResponseEntity.notFound().build();
+        if (isNotModified(favoriteSource.get(), webRequest)) return null;
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(toResource(favoriteSource.get()));
     }
 
     /**
      * Gets all favorite sources by newsApiKey.
      *
+     * The version of the favorite sources is cached next to them, and checked first, so a conditional request that is not
+     * modified neither loads them nor runs a query while they are cached. A cached list may have been read before a creation
+     * committed, and cached again after its eviction: when it is not of the cached version, the favorite sources are reloaded
+     * from the database and replace it in the cache, so the body is never older than its ETag.
+     *
      * @param newsApiKey the News API Key generated by the news provider.
-     * @return an instance of ResponseEntity with the list of favorite source resources.
+     * @param webRequest the request, with its conditional headers.
+     * @return an instance of ResponseEntity with the list of favorite source resources, or null if not modified.
      */
-    private ResponseEntity<List<FavoriteSourceResource>> getAllFavoriteSourcesByNewsApiKey(String newsApiKey) {
-        var getAllFavoriteSourcesByNewsApiKeyQuery = new GetAllFavoriteSourcesByNewsApiKeyQuery(newsApiKey);
-        var favoriteSources = favoriteSourceQueryService.handle(getAllFavoriteSourcesByNewsApiKeyQuery);
+    private ResponseEntity<List<FavoriteSourceResource>> getAllFavoriteSourcesByNewsApiKey(String newsApiKey, WebRequest webRequest) {
+        var version = favoriteSourceQueryService.handle(new GetFavoriteSourcesVersionByNewsApiKeyQuery(newsApiKey));
+        if (version.isEmpty()) return ResponseEntity.notFound().build();
+        var lastModified = version.lastModifiedAt().getTime();
+        if (webRequest.checkNotModified(toETag(version.count(), lastModified), lastModified)) return null;
+        var favoriteSources = favoriteSourceQueryService.handle(new GetAllFavoriteSourcesByNewsApiKeyQuery(newsApiKey));
+        if (!version.isVersionOf(favoriteSources))
+            favoriteSources = favoriteSourceQueryService.handle(new ReloadFavoriteSourcesByNewsApiKeyQuery(newsApiKey));
         if (favoriteSources.isEmpty()) return ResponseEntity.notFound().build();
-        var favoriteSourceResources = favoriteSources.stream().map(FavoriteSourceResourceFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(favoriteSourceResources);
+        var favoriteSourceResources = favoriteSources.stream().map(this::toResource).toList();
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(favoriteSourceResources);
+    }
+
+    /**
+     * Gets a page of favorite sources by newsApiKey, ordered by id.
+     * When the page is full, the Link header points to the next page.
+     *
+     * @param newsApiKey the News API Key generated by the news provider.
+     * @param after      the id of the last favorite source of the previous page, if any.
+     * @param limit      the maximum number of favorite sources in the page, if any.
+     * @return an instance of ResponseEntity with the list of favorite source resources.
+     */
+    private ResponseEntity<List<FavoriteSourceResource>> getFavoriteSourcesPageByNewsApiKey(String newsApiKey, String after, String limit) {
+        GetFavoriteSourcesPageByNewsApiKeyQuery getFavoriteSourcesPageByNewsApiKeyQuery;
+        try {
+            getFavoriteSourcesPageByNewsApiKeyQuery = new GetFavoriteSourcesPageByNewsApiKeyQuery(newsApiKey,
+                    after == null ? 0L : Long.valueOf(after),
+                    limit == null ? DEFAULT_PAGE_LIMIT : Integer.valueOf(limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var favoriteSources = favoriteSourceQueryService.handle(getFavoriteSourcesPageByNewsApiKeyQuery);
+        var favoriteSourceResources = favoriteSources.stream().map(this::toResource).toList();
+        if (favoriteSources.size() < getFavoriteSourcesPageByNewsApiKeyQuery.limit()) return ResponseEntity.ok(favoriteSourceResources);
+        var nextPage = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", favoriteSources.getLast().id())
+                .replaceQueryParam("limit", getFavoriteSourcesPageByNewsApiKeyQuery.limit())
+                .toUriString();
+        return ResponseEntity.ok().header(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"").body(favoriteSourceResources);
     }
 
     /**
@@ -113,13 +243,15 @@ public class FavoriteSourcesController {
      *
      * @param newsApiKey the News API Key generated by the news provider.
      * @param sourceId   the source ID of the favorite source.
-     * @return an instance of ResponseEntity with the favorite source resource.
+     * @param webRequest the request, with its conditional headers.
+     * @return an instance of ResponseEntity with the favorite source resource, or null if not modified.
      */
-    private ResponseEntity<FavoriteSourceResource> getFavoriteSourceByNewsApiKeyAndSourceId(String newsApiKey, String sourceId) {
+    private ResponseEntity<FavoriteSourceResource> getFavoriteSourceByNewsApiKeyAndSourceId(String newsApiKey, String sourceId, WebRequest webRequest) {
         var getFavoriteSourceByNewsApiKeyAndSourceIdQuery = new GetFavoriteSourceByNewsApiKeyAndSourceIdQuery(newsApiKey, sourceId);
         var favoriteSource = favoriteSourceQueryService.handle(getFavoriteSourceByNewsApiKeyAndSourceIdQuery);
         if (favoriteSource.isEmpty()) return ResponseEntity.notFound().build();
-        return favoriteSource.map(source -> ResponseEntity.ok(FavoriteSourceResourceFromEntityAssembler.toResourceFromEntity(source)))
+        if (isNotModified(favoriteSource.get(), webRequest)) return null;
+        return favoriteSource.map(source -> ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(toResource(source)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -127,6 +259,7 @@ public class FavoriteSourcesController {
      * Gets favorite sources with parameters.
      *
      * @param params the parameters to get the favorite sources.
+     * @param webRequest the request, with its conditional headers.
      * @return an instance of ResponseEntity with the favorite source resources.
      */
     @Operation(
@@ -134,23 +267,189 @@ public class FavoriteSourcesController {
             description = "Gets favorite sources with the parameters provided in the request.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Favorite source(s) found"),
+            @ApiResponse(responseCode = "304", description = "Favorite source(s) not modified"),
             @ApiResponse(responseCode = "404", description = "Favorite source(s) not found"),
             @ApiResponse(responseCode = "400", description = "Bad request")
     })
     @Parameters({
             @Parameter(name = "newsApiKey", description = "The News API Key generated by the news provider.", required = true),
-            @Parameter(name = "sourceId", description = "The source ID of the favorite source.")
+            @Parameter(name = "sourceId", description = "The source ID of the favorite source."),
+            @Parameter(name = "after", description = "The id of the last favorite source of the previous page."),
+            @Parameter(name = "limit", description = "The maximum number of favorite sources in the page.")
     })
     @GetMapping
     public ResponseEntity<?> getFavoriteSourcesWithParameters(
             @Parameter(name = "params", hidden = true)
-            @RequestParam Map<String, String> params) {
+            @RequestParam Map<String, String> params,
+            WebRequest webRequest) {
         if (params.containsKey("newsApiKey") && params.containsKey("sourceId")) {
-            return getFavoriteSourceByNewsApiKeyAndSourceId(params.get("newsApiKey"), params.get("sourceId"));
+            return getFavoriteSourceByNewsApiKeyAndSourceId(params.get("newsApiKey"), params.get("sourceId"), webRequest);
+        } else if (params.containsKey("newsApiKey") && (params.containsKey("after") || params.containsKey("limit"))) {
+            return getFavoriteSourcesPageByNewsApiKey(params.get("newsApiKey"), params.get("after"), params.get("limit"));
         } else if (params.containsKey("newsApiKey")) {
-            return getAllFavoriteSourcesByNewsApiKey(params.get("newsApiKey"));
+            return getAllFavoriteSourcesByNewsApiKey(params.get("newsApiKey"), webRequest);
         } else {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    /**
+     * Streams all favorite sources by newsApiKey as newline-delimited JSON, or as CSV when the client accepts it.
+     * The favorite sources are written while they are read from the database, so memory use does not depend on their number.
+     * An interrupted stream resumes after the id of the last favorite source received.
+     *
+     * @param newsApiKey the News API Key generated by the news provider.
+     * @param after      the id of the last favorite source received, if any.
+     * @param headers    the request headers, with the accepted media types.
+     * @return an instance of ResponseEntity with the streaming body.
+     */
+    @Operation(
+            summary = "Stream favorite sources by News API Key",
+            description = "Streams all favorite sources of the News API Key as newline-delimited JSON or CSV, ordered by ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Favorite sources streamed"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    @GetMapping(value = "stream", produces = {APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamFavoriteSourcesByNewsApiKey(@RequestParam String newsApiKey,
+                                                                                   @RequestParam(required = false) String after,
+                                                                                   @RequestHeader HttpHeaders headers) {
+        StreamFavoriteSourcesByNewsApiKeyQuery streamFavoriteSourcesByNewsApiKeyQuery;
+        try {
+            streamFavoriteSourcesByNewsApiKeyQuery = new StreamFavoriteSourcesByNewsApiKeyQuery(newsApiKey,
+                    after == null ? 0L : Long.valueOf(after));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var mediaType = FavoriteSourceResourceStreamWriter.negotiateMediaType(headers.getAccept());
+        StreamingResponseBody body = outputStream -> {
+            try (var writer = FavoriteSourceResourceStreamWriter.of(mediaType, objectMapper, outputStream)) {
+                favoriteSourceQueryService.handle(streamFavoriteSourcesByNewsApiKeyQuery, favoriteSource -> writer.write(toResource(favoriteSource)));
+            }
+        };
+        return ResponseEntity.ok().contentType(mediaType).varyBy(HttpHeaders.ACCEPT).body(body);
+    }
+
+    /**
+     * Imports favorite sources from newline-delimited JSON or CSV rows, as the ones streamed, with their News API Key and source ID.
+     * The rows are read while they are received, in chunks of consecutive rows of the same News API Key, and every chunk
+     * is committed in its own transaction, skipping the favorite sources that already exist, so memory use does not depend on the number of rows.
+     * The progress is written as newline-delimited JSON after every chunk, and when the import ends:
+     * an interrupted import resumes from the offset of its last progress.
+     *
+     * @param offset      the number of rows to skip, committed by a previous import of the same rows.
+     * @param headers     the request headers, with the media type of the rows.
+     * @param inputStream the rows.
+     * @return an instance of ResponseEntity with the streaming progress.
+     */
+    @Operation(
+            summary = "Import favorite sources",
+            description = "Imports the favorite sources of newline-delimited JSON or CSV rows, reporting the progress as newline-delimited JSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Favorite sources imported, up to the offset of the last progress"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    @Parameter(name = "offset", description = "The number of rows to skip, from the last progress of an interrupted import.")
+    @PostMapping(value = "import", consumes = {APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE}, produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importFavoriteSources(@RequestParam(defaultValue = "0") long offset,
+                                                                       @RequestHeader HttpHeaders headers, InputStream inputStream) {
+        if (offset < 0) return ResponseEntity.badRequest().build();
+        var rowReader = FavoriteSourceResourceStreamWriter.TEXT_CSV.isCompatibleWith(headers.getContentType())
+                ? FavoriteSourceCsvFormat.importReader()
+                : objectMapper.readerFor(CreateFavoriteSourceResource.class);
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = objectMapper.createGenerator(outputStream).setRootValueSeparator(null);
+                 MappingIterator<CreateFavoriteSourceResource> rows = rowReader.readValues(inputStream)) {
+                var importFavoriteSourcesCommand = new ImportFavoriteSourcesCommand(offset,
+                        CreateFavoriteSourceCommandFromResourceAssembler.toCommandsFromResources(rows));
+                favoriteSourceImportCommandService.handle(importFavoriteSourcesCommand,
+                        progress -> writeProgress(generator, FavoriteSourcesImportProgressResourceFromValueObjectAssembler.toResourceFromValueObject(progress)));
+            }
+        };
+        return ResponseEntity.ok().contentType(FavoriteSourceResourceStreamWriter.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Writes the progress of an import as a line of JSON, and flushes it.
+     *
+     * @param generator the generator of the response body.
+     * @param progress  the progress of the import.
+     * @throws UncheckedIOException if the response cannot be written.
+     */
+    private void writeProgress(JsonGenerator generator, FavoriteSourcesImportProgressResource progress) {
+        try {
+            objectMapper.writeValue(generator, progress);
+            generator.writeRaw('\n');
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts a favorite source to its resource, with the details of its news source.
+     *
+     * @param favoriteSource the favorite source.
+     * @return the favorite source resource.
+     */
+    private FavoriteSourceResource toResource(FavoriteSource favoriteSource) {
+        return FavoriteSourceResourceFromEntityAssembler.toResourceFromEntity(favoriteSource,
+                newsSourceCatalogue.findById(favoriteSource.getSourceId()));
+    }
+
+    /**
+     * Converts a favorite source summary to its resource, with the details of its news source.
+     *
+     * @param favoriteSource the favorite source summary.
+     * @return the favorite source resource.
+     */
+    private FavoriteSourceResource toResource(FavoriteSourceSummary favoriteSource) {
+        return FavoriteSourceResourceFromValueObjectAssembler.toResourceFromValueObject(favoriteSource,
+                newsSourceCatalogue.findById(favoriteSource.sourceId()));
+    }
+
+    /**
+     * Checks a conditional request against the version of a favorite source, from its id and update date.
+     * When it is not modified, the response is completed with the 304 Not Modified status.
+     *
+     * @param favoriteSource the favorite source summary.
+     * @param webRequest     the request, with its conditional headers.
+     * @return true if the favorite source is not modified, false otherwise.
+     */
+    private boolean isNotModified(FavoriteSourceSummary favoriteSource, WebRequest webRequest) {
+        var lastModified = favoriteSource.updatedAt().getTime();
+        return webRequest.checkNotModified(toETag(favoriteSource.id(), lastModified), lastModified);
+    }
+
+    /**
+     * Builds the weak ETag of a version of favorite sources, which includes the version of the news source catalogue,
+     * as their resources embed the details of their news sources.
+     *
+     * @param id           the id of the favorite source, or the number of favorite sources.
+     * @param lastModified the latest update date of the favorite sources, in milliseconds.
+     * @return the weak ETag.
+     */
+    private String toETag(long id, long lastModified) {
+        return "W/\"" + id + "-" + lastModified + "-" + newsSourceCatalogue.version() + "\"";
+    }
+
+    /**
+     * Handles the attempts to create a favorite source that already exists.
+     *
+     * @return an instance of ResponseEntity with the conflict status.
+     */
+    @ExceptionHandler(FavoriteSourceAlreadyExistsException.class)
+    public ResponseEntity<Void> handleFavoriteSourceAlreadyExists() {
+        return ResponseEntity.status(CONFLICT).build();
+    }
+
+    /**
+     * Handles the transient failures of the storage, such as writes to favorite sources moving to another shard.
+     *
+     * @return an instance of ResponseEntity with the service unavailable status and a Retry-After header.
+     */
+    @ExceptionHandler(TransientDataAccessException.class)
+    public ResponseEntity<Void> handleTransientDataAccessFailure() {
+        return ResponseEntity.status(SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
 }
@@ -0,0 +1,431 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.news.domain.exceptions.FavoriteSourceAlreadyExistsException;
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByNewsApiKeyAndSourceIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesPageByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesVersionByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.StreamFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.services.NewsSourceCatalogue;
+import com.acme.catchup.platform.news.domain.services.ReactiveFavoriteSourceCommandService;
+import com.acme.catchup.platform.news.domain.services.ReactiveFavoriteSourceQueryService;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourcesResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourcesImportProgressResource;
+import com.acme.catchup.platform.news.interfaces.rest.transform.CreateFavoriteSourceCommandFromResourceAssembler;
+import com.acme.catchup.platform.news.interfaces.rest.transform.CreateFavoriteSourcesCommandFromResourceAssembler;
+import com.acme.catchup.platform.news.interfaces.rest.transform.CreateFavoriteSourcesResultResourceFromEntitiesAssembler;
+import com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourceCsvFormat;
+import com.acme.catchup.platform.news.interfaces.rest.transform.FavoriteSourceResourceFromEntityAssembler;
+import com.acme.catchup.platform.shared.infrastructure.serialization.BinaryWireFormatsConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.codec.CodecException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNSUPPORTED_MEDIA_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+
+/**
+ * FavoriteSourcesHandler
+ *
+ * @summary FavoriteSourcesHandler is a class that represents the reactive handler functions for the favorite sources,
+ * routed by FavoriteSourcesRouter with the same routes and responses as the FavoriteSourcesController, for the reactive profile.
+ * It depends on the ReactiveFavoriteSourceCommandService and ReactiveFavoriteSourceQueryService, so no request holds a thread
+ * while it waits for the database.
+ * The details of the news sources are taken from the NewsSourceCatalogue on the bounded elastic scheduler,
+ * as the catalogue may wait for its first fetch from the news provider.
+ * Functional routes do not negotiate the media type of their bodies, so the handler picks JSON, CBOR or Smile from the Accept header.
+ * Imports read their rows as they are received, and request more only as their chunks are committed.
+ * @see FavoriteSourcesRouter
+ * @see FavoriteSourcesController
+ * @since 1.0.0
+ */
+@Component
+@Profile("reactive")
+public class FavoriteSourcesHandler {
+    private static final int DEFAULT_PAGE_LIMIT = 100;
+    private static final List<MediaType> FAVORITE_SOURCE_MEDIA_TYPES = List.of(APPLICATION_JSON, APPLICATION_CBOR,
+            MediaType.parseMediaType(BinaryWireFormatsConfiguration.APPLICATION_SMILE_VALUE));
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(FavoriteSourceCsvFormat.TEXT_CSV_VALUE);
+    private static final List<MediaType> EXPORT_MEDIA_TYPES = List.of(APPLICATION_NDJSON, TEXT_CSV);
+
+    private final ReactiveFavoriteSourceCommandService favoriteSourceCommandService;
+    private final ReactiveFavoriteSourceQueryService favoriteSourceQueryService;
+    private final NewsSourceCatalogue newsSourceCatalogue;
+    private final int importChunkSize;
+
+    public FavoriteSourcesHandler(ReactiveFavoriteSourceCommandService favoriteSourceCommandService,
+                                  ReactiveFavoriteSourceQueryService favoriteSourceQueryService, NewsSourceCatalogue newsSourceCatalogue,
+                                  @Value("${catchup.import.chunk-size}") int importChunkSize) {
+        this.favoriteSourceCommandService = favoriteSourceCommandService;
+        this.favoriteSourceQueryService = favoriteSourceQueryService;
+        this.newsSourceCatalogue = newsSourceCatalogue;
+        this.importChunkSize = importChunkSize;
+    }
+
+    /**
+     * Creates a favorite source.
+     *
+     * @param request the request, with the resource containing the data to create the favorite source.
+     * @return the response with the favorite source resource.
+     */
+    public Mono<ServerResponse> createFavoriteSource(ServerRequest request) {
+        return request.bodyToMono(CreateFavoriteSourceResource.class)
+                .map(CreateFavoriteSourceCommandFromResourceAssembler::toCommandFromResource)
+                .flatMap(favoriteSourceCommandService::handle)
+                .flatMap(this::toResource)
+                .flatMap(resource -> ServerResponse.status(CREATED).contentType(negotiateMediaType(request)).bodyValue(resource))
+                .switchIfEmpty(ServerResponse.badRequest().build());
+    }
+
+    /**
+     * Creates several favorite sources for the same News API Key.
+     *
+     * @param request the request, with the resource containing the data to create the favorite sources.
+     * @return the response with the created and rejected favorite sources.
+     */
+    public Mono<ServerResponse> createFavoriteSources(ServerRequest request) {
+        return request.bodyToMono(CreateFavoriteSourcesResource.class)
+                .flatMap(resource -> favoriteSourceCommandService
+                        .handle(CreateFavoriteSourcesCommandFromResourceAssembler.toCommandFromResource(resource))
+                        .flatMap(favoriteSources -> ServerResponse.status(favoriteSources.isEmpty() ? OK : CREATED)
+                                .contentType(negotiateMediaType(request))
+                                .bodyValue(CreateFavoriteSourcesResultResourceFromEntitiesAssembler.toResourceFromEntities(resource.sourceIds(), favoriteSources))))
+                .switchIfEmpty(ServerResponse.badRequest().build());
+    }
+
+    /**
+     * Gets a favorite source by id.
+     *
+     * @param request the request, with the id of the favorite source and its conditional headers.
+     * @return the response with the favorite source resource.
+     */
+    public Mono<ServerResponse> getFavoriteSourceById(ServerRequest request) {
+        var getFavoriteSourceByIdQuery = new GetFavoriteSourceByIdQuery(Long.valueOf(request.pathVariable("id")));
+        return favoriteSourceQueryService.handle(getFavoriteSourceByIdQuery)
+                .flatMap(favoriteSource -> toConditionalResponse(favoriteSource, request))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    /**
+     * Gets favorite sources with parameters.
+     *
+     * @param request the request, with the parameters to get the favorite sources and its conditional headers.
+     * @return the response with the favorite source resources.
+     */
+    public Mono<ServerResponse> getFavoriteSourcesWithParameters(ServerRequest request) {
+        // The queries validate their parameters when they are created, so they are created on subscription, where the router answers their errors.
+        return Mono.defer(() -> {
+            var newsApiKey = request.queryParam("newsApiKey");
+            if (newsApiKey.isEmpty()) return ServerResponse.badRequest().build();
+            var sourceId = request.queryParam("sourceId");
+            var after = request.queryParam("after");
+            var limit = request.queryParam("limit");
+            if (sourceId.isPresent()) {
+                return getFavoriteSourceByNewsApiKeyAndSourceId(newsApiKey.get(), sourceId.get(), request);
+            } else if (after.isPresent() || limit.isPresent()) {
+                return getFavoriteSourcesPageByNewsApiKey(newsApiKey.get(), after.orElse(null), limit.orElse(null), request);
+            } else {
+                return getAllFavoriteSourcesByNewsApiKey(newsApiKey.get(), request);
+            }
+        });
+    }
+
+    /**
+     * Gets all favorite sources by newsApiKey.
+     * The version of the favorite sources is checked first, so a conditional request that is not modified does not load them.
+     *
+     * @param newsApiKey the News API Key generated by the news provider.
+     * @param request    the request, with its conditional headers.
+     * @return the response with the list of favorite source resources.
+     */
+    private Mono<ServerResponse> getAllFavoriteSourcesByNewsApiKey(String newsApiKey, ServerRequest request) {
+        return favoriteSourceQueryService.handle(new GetFavoriteSourcesVersionByNewsApiKeyQuery(newsApiKey))
+                .filter(version -> !version.isEmpty())
+                .flatMap(version -> {
+                    var lastModified = version.lastModifiedAt().toInstant();
+                    var eTag = toETag(version.count(), lastModified);
+                    return request.checkNotModified(lastModified, eTag)
+                            .switchIfEmpty(Mono.defer(() -> toResources(favoriteSourceQueryService.handle(new GetAllFavoriteSourcesByNewsApiKeyQuery(newsApiKey)))
+                                    .collectList()
+                                    .filter(resources -> !resources.isEmpty())
+                                    .flatMap(resources -> ServerResponse.ok().eTag(eTag).lastModified(lastModified).varyBy(HttpHeaders.ACCEPT)
+                                            .contentType(negotiateMediaType(request)).bodyValue(resources))));
+                })
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    /**
+     * Gets a page of favorite sources by newsApiKey, ordered by id.
+     * When the page is full, the Link header points to the next page.
+     *
+     * @param newsApiKey the News API Key generated by the news provider.
+     * @param after      the id of the last favorite source of the previous page, if any.
+     * @param limit      the maximum number of favorite sources in the page, if any.
+     * @param request    the request.
+     * @return the response with the list of favorite source resources.
+     */
+    private Mono<ServerResponse> getFavoriteSourcesPageByNewsApiKey(String newsApiKey, String after, String limit, ServerRequest request) {
+        var getFavoriteSourcesPageByNewsApiKeyQuery = new GetFavoriteSourcesPageByNewsApiKeyQuery(newsApiKey,
+                after == null ? 0L : Long.valueOf(after),
+                limit == null ? DEFAULT_PAGE_LIMIT : Integer.valueOf(limit));
+        return favoriteSourceQueryService.handle(getFavoriteSourcesPageByNewsApiKeyQuery)
+                .collectList()
+                .flatMap(favoriteSources -> toResources(Flux.fromIterable(favoriteSources)).collectList()
+                        .flatMap(resources -> {
+                            var mediaType = negotiateMediaType(request);
+                            if (favoriteSources.size() < getFavoriteSourcesPageByNewsApiKeyQuery.limit()) return ServerResponse.ok().contentType(mediaType).bodyValue(resources);
+                            var nextPage = request.uriBuilder()
+                                    .replaceQueryParam("after", favoriteSources.getLast().getId())
+                                    .replaceQueryParam("limit", getFavoriteSourcesPageByNewsApiKeyQuery.limit())
+                                    .build();
+                            return ServerResponse.ok().header(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"").contentType(mediaType).bodyValue(resources);
+                        }));
+    }
+
+    /**
+     * Gets a favorite source by newsApiKey and sourceId.
+     *
+     * @param newsApiKey the News API Key generated by the news provider.
+     * @param sourceId   the source ID of the favorite source.
+     * @param request    the request, with its conditional headers.
+     * @return the response with the favorite source resource.
+     */
+    private Mono<ServerResponse> getFavoriteSourceByNewsApiKeyAndSourceId(String newsApiKey, String sourceId, ServerRequest request) {
+        var getFavoriteSourceByNewsApiKeyAndSourceIdQuery = new GetFavoriteSourceByNewsApiKeyAndSourceIdQuery(newsApiKey, sourceId);
+        return favoriteSourceQueryService.handle(getFavoriteSourceByNewsApiKeyAndSourceIdQuery)
+                .flatMap(favoriteSource -> toConditionalResponse(favoriteSource, request))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    /**
+     * Streams all favorite sources by newsApiKey as newline-delimited JSON, or as CSV when the client accepts it.
+     * The favorite sources are written while they are read from the database, as the client reads them.
+     * An interrupted stream resumes after the id of the last favorite source received.
+     *
+     * @param request the request, with the News API Key generated by the news provider and the id of the last favorite source received, if any.
+     * @return the response with the streaming body.
+     */
+    public Mono<ServerResponse> streamFavoriteSourcesByNewsApiKey(ServerRequest request) {
+        return Mono.defer(() -> {
+            var newsApiKey = request.queryParam("newsApiKey");
+            if (newsApiKey.isEmpty()) return ServerResponse.badRequest().build();
+            var streamFavoriteSourcesByNewsApiKeyQuery = new StreamFavoriteSourcesByNewsApiKeyQuery(newsApiKey.get(),
+                    request.queryParam("after").map(Long::valueOf).orElse(0L));
+            var resources = toResources(favoriteSourceQueryService.handle(streamFavoriteSourcesByNewsApiKeyQuery));
+            var mediaType = negotiateMediaType(request, EXPORT_MEDIA_TYPES);
+            if (TEXT_CSV.equals(mediaType))
+                return ServerResponse.ok().contentType(TEXT_CSV).varyBy(HttpHeaders.ACCEPT)
+                        .body(resources.map(FavoriteSourceCsvFormat::toExportRow).startWith(FavoriteSourceCsvFormat.exportHeader()), String.class);
+            return ServerResponse.ok().contentType(APPLICATION_NDJSON).varyBy(HttpHeaders.ACCEPT)
+                    .body(resources, FavoriteSourceResource.class);
+        });
+    }
+
+    /**
+     * Imports favorite sources from newline-delimited JSON or CSV rows, as the ones streamed, with their News API Key and source ID.
+     * The rows are read as they are received, in chunks of consecutive rows of the same News API Key, and every chunk
+     * is committed in its own transaction, skipping the favorite sources that already exist, before more rows are read.
+     * The progress is written as newline-delimited JSON after every chunk, and when the import ends:
+     * an interrupted import resumes from the offset of its last progress.
+     *
+     * @param request the request, with the rows and the number of rows to skip, committed by a previous import of the same rows.
+     * @return the response with the streaming progress.
+     */
+    public Mono<ServerResponse> importFavoriteSources(ServerRequest request) {
+        return Mono.defer(() -> {
+            var offset = request.queryParam("offset").map(Long::valueOf).orElse(0L);
+            if (offset < 0) return ServerResponse.badRequest().build();
+            var contentType = request.headers().contentType();
+            Flux<CreateFavoriteSourceResource> rows;
+            if (contentType.filter(TEXT_CSV::isCompatibleWith).isPresent()) rows = readCsvRows(request);
+            else if (contentType.filter(APPLICATION_NDJSON::isCompatibleWith).isPresent()) rows = request.bodyToFlux(CreateFavoriteSourceResource.class);
+            else return ServerResponse.status(UNSUPPORTED_MEDIA_TYPE).build();
+            return ServerResponse.ok().contentType(APPLICATION_NDJSON)
+                    .body(importRows(rows, offset), FavoriteSourcesImportProgressResource.class);
+        });
+    }
+
+    /**
+     * Imports rows in chunks of consecutive rows of the same News API Key, up to the import chunk size, each committed
+     * as a create favorite sources command. Invalid rows and failed commits end the import, with the offset of the first row not committed.
+     *
+     * @param rows   the rows, as create favorite source resources.
+     * @param offset the number of rows to skip.
+     * @return the progress after every chunk committed, and when the import ends.
+     */
+    private Flux<FavoriteSourcesImportProgressResource> importRows(Flux<CreateFavoriteSourceResource> rows, long offset) {
+        return Flux.defer(() -> {
+            var rowsRead = new AtomicLong();
+            var progress = new AtomicReference<>(new FavoriteSourcesImportProgressResource(offset, 0, 0, false, null));
+            return rows.doOnNext(row -> rowsRead.incrementAndGet())
+                    .skip(offset)
+                    .map(CreateFavoriteSourceCommandFromResourceAssembler::toCommandFromResource)
+                    .windowUntilChanged(CreateFavoriteSourceCommand::newsApiKey)
+                    .concatMap(commands -> commands.buffer(importChunkSize))
+                    .concatMap(chunk -> favoriteSourceCommandService
+                            .handle(new CreateFavoriteSourcesCommand(chunk.getFirst().newsApiKey(),
+                                    chunk.stream().map(CreateFavoriteSourceCommand::sourceId).toList()))
+                            .map(created -> progress.updateAndGet(last -> new FavoriteSourcesImportProgressResource(last.offset() + chunk.size(),
+                                    last.created() + created.size(), last.skipped() + chunk.size() - created.size(), false, null))))
+                    .concatWith(Mono.fromSupplier(() -> new FavoriteSourcesImportProgressResource(progress.get().offset(),
+                            progress.get().created(), progress.get().skipped(), true, null)))
+                    .onErrorResume(e -> e instanceof IllegalArgumentException || e instanceof CodecException,
+                            e -> Mono.fromSupplier(() -> failed(progress.get(), "Row " + (rowsRead.get() + 1) + " is not a valid favorite source")))
+                    .onErrorResume(e -> e instanceof FavoriteSourceAlreadyExistsException || e instanceof TransientDataAccessException,
+                            e -> Mono.fromSupplier(() -> failed(progress.get(), "Favorite sources could not be committed, retry from the offset")));
+        });
+    }
+
+    /**
+     * Reads the CSV rows of a request one line at a time, by the names of the columns of its header row.
+     *
+     * @param request the request, with the CSV rows.
+     * @return the rows, as create favorite source resources.
+     */
+    private static Flux<CreateFavoriteSourceResource> readCsvRows(ServerRequest request) {
+        return request.bodyToFlux(String.class)
+                .filter(line -> !line.isBlank())
+                .switchOnFirst((header, lines) -> {
+                    if (!header.hasValue()) return lines.thenMany(Flux.<CreateFavoriteSourceResource>empty());
+                    var rowReader = FavoriteSourceCsvFormat.importRowReader(header.get());
+                    return lines.skip(1).map(line -> readCsvRow(rowReader, line));
+                });
+    }
+
+    /**
+     * Reads a CSV row.
+     *
+     * @param rowReader the reader of the row, with the columns of the header row.
+     * @param line      the row.
+     * @return the row, as a create favorite source resource.
+     * @throws IllegalArgumentException if the row is not a valid favorite source
+     */
+    private static CreateFavoriteSourceResource readCsvRow(ObjectReader rowReader, String line) {
+        try {
+            return rowReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("CSV row cannot be read", e);
+        }
+    }
+
+    /**
+     * Ends an import before the end of its rows.
+     *
+     * @param progress the progress of the last chunk committed.
+     * @param error    why the import ends.
+     * @return the progress of the failed import.
+     */
+    private static FavoriteSourcesImportProgressResource failed(FavoriteSourcesImportProgressResource progress, String error) {
+        return new FavoriteSourcesImportProgressResource(progress.offset(), progress.created(), progress.skipped(), false, error);
+    }
+
+    /**
+     * Answers with a favorite source, or with 304 Not Modified when the conditional request matches its version,
+     * from its id and update date.
+     *
+     * @param favoriteSource the favorite source.
+     * @param request        the request, with its conditional headers.
+     * @return the response with the favorite source resource, or the not modified response.
+     */
+    private Mono<ServerResponse> toConditionalResponse(FavoriteSource favoriteSource, ServerRequest request) {
+        Instant lastModified = favoriteSource.getUpdatedAt().toInstant();
+        var eTag = toETag(favoriteSource.getId(), lastModified);
+        return request.checkNotModified(lastModified, eTag)
+                .switchIfEmpty(Mono.defer(() -> toResource(favoriteSource)
+                        .flatMap(resource -> ServerResponse.ok().eTag(eTag).lastModified(lastModified).varyBy(HttpHeaders.ACCEPT)
+                                .contentType(negotiateMediaType(request)).bodyValue(resource))));
+    }
+
+    /**
+     * Builds the weak ETag of a version of favorite sources, which includes the version of the news source catalogue,
+     * as their resources embed the details of their news sources.
+     *
+     * @param id           the id of the favorite source, or the number of favorite sources.
+     * @param lastModified the latest update date of the favorite sources.
+     * @return the weak ETag.
+     */
+    private String toETag(long id, Instant lastModified) {
+        return "W/\"" + id + "-" + lastModified.toEpochMilli() + "-" + newsSourceCatalogue.version() + "\"";
+    }
+
+    /**
+     * Negotiates the media type of a favorite source response body from the Accept header of the request: JSON, CBOR or Smile.
+     *
+     * @param request the request, with its Accept header.
+     * @return the media type of the response body.
+     */
+    private static MediaType negotiateMediaType(ServerRequest request) {
+        return negotiateMediaType(request, FAVORITE_SOURCE_MEDIA_TYPES);
+    }
+
+    /**
+     * Negotiates the media type of a response body from the Accept header of the request: the first of the given media types
+     * compatible with the accepted media type of highest quality, or the first of them when none is acceptable.
+     *
+     * @param request    the request, with its Accept header.
+     * @param mediaTypes the media types of the response body, by preference.
+     * @return the media type of the response body.
+     */
+    private static MediaType negotiateMediaType(ServerRequest request, List<MediaType> mediaTypes) {
+        var acceptedMediaTypes = new ArrayList<>(request.headers().accept());
+        acceptedMediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (var acceptedMediaType : acceptedMediaTypes) {
+            if (acceptedMediaType.getQualityValue() == 0) break;
+            for (var mediaType : mediaTypes)
+                if (acceptedMediaType.isCompatibleWith(mediaType)) return mediaType;
+        }
+        return mediaTypes.getFirst();
+    }
+
+    /**
+     * Converts a favorite source to its resource, with the details of its news source.
+     *
+     * @param favoriteSource the favorite source.
+     * @return the favorite source resource.
+     */
+    private Mono<FavoriteSourceResource> toResource(FavoriteSource favoriteSource) {
+        return Mono.fromCallable(() -> FavoriteSourceResourceFromEntityAssembler.toResourceFromEntity(favoriteSource,
+                        newsSourceCatalogue.findById(favoriteSource.getSourceId())))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Converts favorite sources to their resources, with the details of their news sources, in order.
+     *
+     * @param favoriteSources the favorite sources.
+     * @return the favorite source resources.
+     */
+    private Flux<FavoriteSourceResource> toResources(Flux<FavoriteSource> favoriteSources) {
+        return favoriteSources.publishOn(Schedulers.boundedElastic())
+                .map(favoriteSource -> FavoriteSourceResourceFromEntityAssembler.toResourceFromEntity(favoriteSource,
+                        newsSourceCatalogue.findById(favoriteSource.getSourceId())));
+    }
+}
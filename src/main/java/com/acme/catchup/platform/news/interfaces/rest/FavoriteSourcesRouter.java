@@ -0,0 +1,105 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.news.domain.exceptions.FavoriteSourceAlreadyExistsException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Scope;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * FavoriteSourcesRouter
+ *
+ * @summary FavoriteSourcesRouter is a class that represents the functional routes of the favorite sources, for the reactive profile,
+ * which runs the application on WebFlux instead of Spring MVC. The routes are the ones of the FavoriteSourcesController:
+ * <ul>
+ * <li> POST /api/v1/favorite-sources: create a favorite source</li>
+ * <li> POST /api/v1/favorite-sources/batch: create several favorite sources at once</li>
+ * <li> GET /api/v1/favorite-sources/{id}: get a favorite source by ID</li>
+ * <li> GET /api/v1/favorite-sources: get favorite sources with parameters</li>
+ * <li> GET /api/v1/favorite-sources/stream: stream the favorite sources of a News API Key as NDJSON or CSV</li>
+ * <li> POST /api/v1/favorite-sources/import: import favorite sources from NDJSON or CSV</li>
+ * </ul>
+ * Their errors are answered as the controller answers them: 409 for duplicates, 503 with Retry-After for transient storage failures,
+ * and 400 for invalid queries and commands.
+ * Their bodies are negotiated as the controller negotiates them, in JSON, CBOR or Smile.
+ * The application is served by Reactor Netty. The other controllers, which block, run on the application task executor
+ * instead of its event loop, and the news provider client keeps its RestClient, which Spring Boot only configures for servlet applications.
+ * @see FavoriteSourcesHandler
+ * @see FavoriteSourcesController
+ * @since 1.0.0
+ */
+@Configuration
+@Profile("reactive")
+public class FavoriteSourcesRouter implements WebFluxConfigurer {
+    private static final String FAVORITE_SOURCES_PATH = "/api/v1/favorite-sources";
+
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    public FavoriteSourcesRouter(@Qualifier("applicationTaskExecutor") AsyncTaskExecutor applicationTaskExecutor) {
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
+
+    /**
+     * Routes the favorite sources requests to the handler.
+     * The ids are numeric, so that the routes of the other controllers under the same path are not taken for ids.
+     *
+     * @param handler the favorite sources handler.
+     * @return the router function.
+     */
+    @Bean
+    public RouterFunction<ServerResponse> favoriteSourcesRoutes(FavoriteSourcesHandler handler) {
+        return RouterFunctions.route()
+                .POST(FAVORITE_SOURCES_PATH, handler::createFavoriteSource)
+                .POST(FAVORITE_SOURCES_PATH + "/batch", handler::createFavoriteSources)
+                .POST(FAVORITE_SOURCES_PATH + "/import", handler::importFavoriteSources)
+                .GET(FAVORITE_SOURCES_PATH + "/stream", handler::streamFavoriteSourcesByNewsApiKey)
+                .GET(FAVORITE_SOURCES_PATH + "/{id:\\d+}", handler::getFavoriteSourceById)
+                .GET(FAVORITE_SOURCES_PATH, handler::getFavoriteSourcesWithParameters)
+                .onError(FavoriteSourceAlreadyExistsException.class, (e, request) -> ServerResponse.status(CONFLICT).build())
+                .onError(TransientDataAccessException.class, (e, request) -> ServerResponse.status(SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1").build())
+                .onError(IllegalArgumentException.class, (e, request) -> ServerResponse.badRequest().build())
+                .build();
+    }
+
+    /**
+     * The Reactor Netty server of the reactive application. Spring Boot would otherwise serve it with Tomcat, which is also present.
+     *
+     * @return the Reactor Netty server factory.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * The builder of the RestClient of the news provider client, which Spring Boot does not configure for reactive applications.
+     *
+     * @return a new RestClient builder.
+     */
+    @Bean
+    @Scope("prototype")
+    public RestClient.Builder restClientBuilder() {
+        return RestClient.builder();
+    }
+
+    // @inheritdoc
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(applicationTaskExecutor);
+    }
+}
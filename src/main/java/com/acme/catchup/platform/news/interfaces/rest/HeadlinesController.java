@@ -0,0 +1,64 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.news.domain.model.queries.GetHeadlinesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.services.HeadlineQueryService;
+import com.acme.catchup.platform.news.interfaces.rest.resources.HeadlinesResource;
+import com.acme.catchup.platform.news.interfaces.rest.transform.HeadlinesResourceFromValueObjectAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * HeadlinesController
+ *
+ * @summary HeadlinesController is a class that represents the REST controller for the headlines of the favorite sources.
+ * It depends on the HeadlineQueryService.
+ * @see HeadlineQueryService
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping(value = "/api/v1/favorite-sources/headlines", produces = APPLICATION_JSON_VALUE)
+@Tag(name = "Favorite Sources", description = "Operations related to favorite sources")
+public class HeadlinesController {
+    private final HeadlineQueryService headlineQueryService;
+
+    public HeadlinesController(HeadlineQueryService headlineQueryService) {
+        this.headlineQueryService = headlineQueryService;
+    }
+
+    /**
+     * Gets the headlines of the favorite sources of a News API Key.
+     * The headlines are partial when some sources could not be fetched, which are listed in the response.
+     *
+     * @param newsApiKey the News API Key generated by the news provider.
+     * @return an instance of ResponseEntity with the headlines resource.
+     */
+    @Operation(
+            summary = "Get the headlines of the favorite sources",
+            description = "Gets the top articles of the favorite sources of the News API Key, newest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Headlines found, possibly partial"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "502", description = "No favorite source could be fetched from the news provider")
+    })
+    @GetMapping
+    public ResponseEntity<HeadlinesResource> getHeadlinesByNewsApiKey(
+            @Parameter(description = "The News API Key generated by the news provider.", required = true)
+            @RequestParam String newsApiKey) {
+        var headlines = headlineQueryService.handle(new GetHeadlinesByNewsApiKeyQuery(newsApiKey));
+        var headlinesResource = HeadlinesResourceFromValueObjectAssembler.toResourceFromValueObject(headlines);
+        if (headlines.articles().isEmpty() && !headlines.failedSourceIds().isEmpty())
+            return ResponseEntity.status(BAD_GATEWAY).body(headlinesResource);
+        return ResponseEntity.ok(headlinesResource);
+    }
+}
@@ -0,0 +1,21 @@
+package com.acme.catchup.platform.news.interfaces.rest.resources;
+
+import java.time.Instant;
+
+/**
+ * ArticleResource
+ * @summary
+ * ArticleResource is a record class that represents the resource of a news article.
+ * @param sourceId - the source ID of the news source.
+ * @param sourceName - the name of the news source.
+ * @param author - the author of the article.
+ * @param title - the title of the article.
+ * @param description - the description of the article.
+ * @param url - the URL of the article.
+ * @param urlToImage - the URL of the image of the article.
+ * @param publishedAt - the publication date of the article.
+ * @since 1.0.0
+ */
+public record ArticleResource(String sourceId, String sourceName, String author, String title, String description,
+                              String url, String urlToImage, Instant publishedAt) {
+}
@@ -1,26 +1,34 @@
 package com.acme.catchup.platform.news.interfaces.rest.resources;
 
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+
 /**
  * CreateFavoriteSourceResource
  * @summary
  * CreateFavoriteSourceResource is a record class that represents the resource to create a favorite news source.
  * @param newsApiKey - the News API Key of the favorite source.
  *                   It cannot be null or empty.
+ *                   It cannot be longer than CreateFavoriteSourceCommand.MAX_LENGTH characters.
  *                   It must be a valid News API Key.
  * @param sourceId - the source ID of the favorite source.
  *                 It cannot be null or empty.
+ *                 It cannot be longer than CreateFavoriteSourceCommand.MAX_LENGTH characters.
  *                 It must be a valid source ID.
  * @since 1.0.0
  */
 public record CreateFavoriteSourceResource(String newsApiKey, String sourceId) {
     /**
      * Validates the resource.
-     * @throws IllegalArgumentException if the newsApiKey or sourceId is null or empty
+     * @throws IllegalArgumentException if the newsApiKey or sourceId is null, empty or too long
      */
     public CreateFavoriteSourceResource {
         if (newsApiKey == null || newsApiKey.isBlank())
             throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+        if (newsApiKey.length() > CreateFavoriteSourceCommand.MAX_LENGTH)
+            throw new IllegalArgumentException("newsApiKey cannot be longer than " + CreateFavoriteSourceCommand.MAX_LENGTH + " characters");
         if (sourceId == null || sourceId.isBlank())
             throw new IllegalArgumentException("sourceId cannot be null or empty");
+        if (sourceId.length() > CreateFavoriteSourceCommand.MAX_LENGTH)
+            throw new IllegalArgumentException("sourceId cannot be longer than " + CreateFavoriteSourceCommand.MAX_LENGTH + " characters");
     }
 }
@@ -0,0 +1,41 @@
+package com.acme.catchup.platform.news.interfaces.rest.resources;
+
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+
+import java.util.List;
+
+/**
+ * CreateFavoriteSourcesResource
+ * @summary
+ * CreateFavoriteSourcesResource is a record class that represents the resource to create several favorite news sources at once.
+ * @param newsApiKey - the News API Key of the favorite sources.
+ *                   It cannot be null or empty.
+ *                   It cannot be longer than CreateFavoriteSourceCommand.MAX_LENGTH characters.
+ *                   It must be a valid News API Key.
+ * @param sourceIds - the source IDs of the favorite sources.
+ *                  It cannot be null or empty.
+ *                  None of its elements can be null, empty or longer than CreateFavoriteSourceCommand.MAX_LENGTH characters.
+ *                  It cannot have more than CreateFavoriteSourcesCommand.MAX_SOURCE_IDS elements.
+ * @since 1.0.0
+ */
+public record CreateFavoriteSourcesResource(String newsApiKey, List<String> sourceIds) {
+    /**
+     * Validates the resource.
+     * @throws IllegalArgumentException if the newsApiKey or sourceIds is null or empty, or if the sourceIds are too many or contain a null, empty or too long element, or if the newsApiKey is too long
+     */
+    public CreateFavoriteSourcesResource {
+        if (newsApiKey == null || newsApiKey.isBlank())
+            throw new IllegalArgumentException("newsApiKey cannot be null or empty");
+        if (newsApiKey.length() > CreateFavoriteSourceCommand.MAX_LENGTH)
+            throw new IllegalArgumentException("newsApiKey cannot be longer than " + CreateFavoriteSourceCommand.MAX_LENGTH + " characters");
+        if (sourceIds == null || sourceIds.isEmpty())
+            throw new IllegalArgumentException("sourceIds cannot be null or empty");
+        if (sourceIds.size() > CreateFavoriteSourcesCommand.MAX_SOURCE_IDS)
+            throw new IllegalArgumentException("sourceIds cannot have more than " + CreateFavoriteSourcesCommand.MAX_SOURCE_IDS + " elements");
+        if (sourceIds.stream().anyMatch(sourceId -> sourceId == null || sourceId.isBlank()))
+            throw new IllegalArgumentException("sourceIds cannot contain null or empty elements");
+        if (sourceIds.stream().anyMatch(sourceId -> sourceId.length() > CreateFavoriteSourceCommand.MAX_LENGTH))
+            throw new IllegalArgumentException("sourceIds cannot contain elements longer than " + CreateFavoriteSourceCommand.MAX_LENGTH + " characters");
+    }
+}
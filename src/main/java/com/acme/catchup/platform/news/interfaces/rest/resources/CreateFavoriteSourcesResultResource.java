@@ -0,0 +1,14 @@
+package com.acme.catchup.platform.news.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * CreateFavoriteSourcesResultResource
+ * @summary
+ * CreateFavoriteSourcesResultResource is a record class that represents the result of creating several favorite news sources at once.
+ * @param created - the favorite sources created.
+ * @param rejected - the source IDs that were not created, with the reason.
+ * @since 1.0.0
+ */
+public record CreateFavoriteSourcesResultResource(List<FavoriteSourceResource> created, List<RejectedFavoriteSourceResource> rejected) {
+}
@@ -0,0 +1,15 @@
+package com.acme.catchup.platform.news.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * FavoriteSourceChangeResource
+ * @summary
+ * FavoriteSourceChangeResource is a record class that represents the resource of a change of the favorite sources of a News API Key.
+ * @param newsApiKey - the News API Key of the favorite sources.
+ * @param sourceIds - the source IDs of the favorite sources added.
+ * @param articles - the new articles of the favorite sources, newest first.
+ * @since 1.0.0
+ */
+public record FavoriteSourceChangeResource(String newsApiKey, List<String> sourceIds, List<ArticleResource> articles) {
+}
@@ -7,7 +7,17 @@ package com.acme.catchup.platform.news.interfaces.rest.resources;
  * @param id - the id of the favorite source.
  * @param newsApiKey - the News API Key of the favorite source.
  * @param sourceId - the source ID of the favorite source.
+ * @param source - the details of the news source from the news provider catalogue, or null if they are not available.
  * @since 1.0.0
  */
-public record FavoriteSourceResource(Long id, String newsApiKey, String sourceId) {
+public record FavoriteSourceResource(Long id, String newsApiKey, String sourceId, NewsSourceResource source) {
+    /**
+     * Creates a FavoriteSourceResource without the details of the news source.
+     * @param id - the id of the favorite source.
+     * @param newsApiKey - the News API Key of the favorite source.
+     * @param sourceId - the source ID of the favorite source.
+     */
+    public FavoriteSourceResource(Long id, String newsApiKey, String sourceId) {
+        this(id, newsApiKey, sourceId, null);
+    }
 }
@@ -0,0 +1,14 @@
+package com.acme.catchup.platform.news.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * HeadlinesResource
+ * @summary
+ * HeadlinesResource is a record class that represents the resource of the headlines of the favorite sources of a News API Key.
+ * @param articles - the articles, newest first.
+ * @param failedSourceIds - the source IDs whose articles could not be fetched.
+ * @since 1.0.0
+ */
+public record HeadlinesResource(List<ArticleResource> articles, List<String> failedSourceIds) {
+}
@@ -0,0 +1,16 @@
+package com.acme.catchup.platform.news.interfaces.rest.resources;
+
+/**
+ * NewsSourceResource
+ * @summary
+ * NewsSourceResource is a record class that represents the resource of a news source published by the news provider.
+ * @param name - the name of the news source.
+ * @param description - the description of the news source.
+ * @param url - the URL of the news source website.
+ * @param category - the category of the news source.
+ * @param language - the language of the news source.
+ * @param country - the country of the news source.
+ * @since 1.0.0
+ */
+public record NewsSourceResource(String name, String description, String url, String category, String language, String country) {
+}
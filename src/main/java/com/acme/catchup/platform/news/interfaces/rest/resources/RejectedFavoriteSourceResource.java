@@ -0,0 +1,12 @@
+package com.acme.catchup.platform.news.interfaces.rest.resources;
+
+/**
+ * RejectedFavoriteSourceResource
+ * @summary
+ * RejectedFavoriteSourceResource is a record class that represents a source ID that was not created as a favorite news source.
+ * @param sourceId - the rejected source ID.
+ * @param reason - the reason why the source ID was rejected.
+ * @since 1.0.0
+ */
+public record RejectedFavoriteSourceResource(String sourceId, String reason) {
+}
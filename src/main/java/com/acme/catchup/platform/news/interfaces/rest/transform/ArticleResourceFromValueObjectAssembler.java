@@ -0,0 +1,24 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+import com.acme.catchup.platform.news.interfaces.rest.resources.ArticleResource;
+
+/**
+ * ArticleResourceFromValueObjectAssembler
+ * @summary
+ * ArticleResourceFromValueObjectAssembler is a class that represents the assembler to create an article resource from a value object.
+ * @see Article
+ * @see ArticleResource
+ * @since 1.0.0
+ */
+public class ArticleResourceFromValueObjectAssembler {
+    /**
+     * Converts an Article value object to an ArticleResource.
+     * @param article the value object containing the data to create the article resource.
+     * @return an instance of ArticleResource.
+     */
+    public static ArticleResource toResourceFromValueObject(Article article) {
+        return new ArticleResource(article.sourceId(), article.sourceName(), article.author(), article.title(),
+                article.description(), article.url(), article.urlToImage(), article.publishedAt());
+    }
+}
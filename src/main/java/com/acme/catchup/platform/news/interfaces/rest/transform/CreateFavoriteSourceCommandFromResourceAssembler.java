@@ -2,6 +2,12 @@ package com.acme.catchup.platform.news.interfaces.rest.transform;
 
 import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
 import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourceResource;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
 
 /**
  * CreateFavoriteSourceCommandFromResourceAssembler
@@ -20,4 +26,36 @@ public class CreateFavoriteSourceCommandFromResourceAssembler {
     public static CreateFavoriteSourceCommand toCommandFromResource(CreateFavoriteSourceResource resource) {
         return new CreateFavoriteSourceCommand(resource.newsApiKey(), resource.sourceId());
     }
+
+    /**
+     * Converts the CreateFavoriteSourceResources of the rows of a file, as they are read, to CreateFavoriteSourceCommands.
+     * @param resources the iterator of the rows, as create favorite source resources.
+     * @return the iterator of the rows as create favorite source commands, which throws IllegalArgumentException
+     * for a row that cannot be read or is not a valid favorite source, and UncheckedIOException if the file cannot be read.
+     */
+    public static Iterator<CreateFavoriteSourceCommand> toCommandsFromResources(MappingIterator<CreateFavoriteSourceResource> resources) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return resources.hasNextValue();
+                } catch (JacksonException e) {
+                    throw new IllegalArgumentException("Row cannot be read", e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public CreateFavoriteSourceCommand next() {
+                try {
+                    return toCommandFromResource(resources.nextValue());
+                } catch (JacksonException e) {
+                    throw new IllegalArgumentException("Row cannot be read", e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
 }
@@ -0,0 +1,23 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourcesResource;
+
+/**
+ * CreateFavoriteSourcesCommandFromResourceAssembler
+ * @summary
+ * CreateFavoriteSourcesCommandFromResourceAssembler is a class that represents the assembler to create a favorite sources command from a resource.
+ * @see CreateFavoriteSourcesResource
+ * @see CreateFavoriteSourcesCommand
+ * @since 1.0.0
+ */
+public class CreateFavoriteSourcesCommandFromResourceAssembler {
+    /**
+     * Converts a CreateFavoriteSourcesResource to a CreateFavoriteSourcesCommand.
+     * @param resource the resource containing the data to create the favorite sources.
+     * @return an instance of CreateFavoriteSourcesCommand.
+     */
+    public static CreateFavoriteSourcesCommand toCommandFromResource(CreateFavoriteSourcesResource resource) {
+        return new CreateFavoriteSourcesCommand(resource.newsApiKey(), resource.sourceIds());
+    }
+}
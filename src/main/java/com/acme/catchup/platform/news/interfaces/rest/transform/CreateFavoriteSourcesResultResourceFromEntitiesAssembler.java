@@ -0,0 +1,43 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourcesResultResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.RejectedFavoriteSourceResource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * CreateFavoriteSourcesResultResourceFromEntitiesAssembler
+ * @summary
+ * CreateFavoriteSourcesResultResourceFromEntitiesAssembler is a class that represents the assembler to create a favorite sources result resource
+ * from the requested source IDs and the created entities.
+ * @see FavoriteSource
+ * @see CreateFavoriteSourcesResultResource
+ * @since 1.0.0
+ */
+public class CreateFavoriteSourcesResultResourceFromEntitiesAssembler {
+    /**
+     * Converts the requested source IDs and the created FavoriteSource entities to a CreateFavoriteSourcesResultResource.
+     * Every requested source ID without a created entity is reported as rejected.
+     * @param requestedSourceIds the source IDs requested to be created.
+     * @param entities the favorite sources created.
+     * @return an instance of CreateFavoriteSourcesResultResource.
+     */
+    public static CreateFavoriteSourcesResultResource toResourceFromEntities(List<String> requestedSourceIds, List<FavoriteSource> entities) {
+        var created = entities.stream().map(FavoriteSourceResourceFromEntityAssembler::toResourceFromEntity).toList();
+        var createdSourceIds = new HashSet<String>();
+        entities.forEach(entity -> createdSourceIds.add(entity.getSourceId()));
+        var seenSourceIds = new HashSet<String>();
+        var rejected = new ArrayList<RejectedFavoriteSourceResource>();
+        for (var sourceId : requestedSourceIds) {
+            if (!seenSourceIds.add(sourceId))
+                rejected.add(new RejectedFavoriteSourceResource(sourceId, "Source ID is repeated in the request"));
+            else if (!createdSourceIds.contains(sourceId))
+                rejected.add(new RejectedFavoriteSourceResource(sourceId, "Favorite source with same source ID already exists for this API key"));
+        }
+        return new CreateFavoriteSourcesResultResource(created, rejected);
+    }
+}
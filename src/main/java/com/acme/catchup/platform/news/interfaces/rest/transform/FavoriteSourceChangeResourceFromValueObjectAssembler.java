@@ -0,0 +1,26 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceChange;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceChangeResource;
+
+/**
+ * FavoriteSourceChangeResourceFromValueObjectAssembler
+ * @summary
+ * FavoriteSourceChangeResourceFromValueObjectAssembler is a class that represents the assembler to create a favorite source change resource from a value object.
+ * @see FavoriteSourceChange
+ * @see FavoriteSourceChangeResource
+ * @since 1.0.0
+ */
+public class FavoriteSourceChangeResourceFromValueObjectAssembler {
+    /**
+     * Converts a FavoriteSourceChange value object to a FavoriteSourceChangeResource.
+     * @param change the value object containing the data to create the favorite source change resource.
+     * @return an instance of FavoriteSourceChangeResource.
+     */
+    public static FavoriteSourceChangeResource toResourceFromValueObject(FavoriteSourceChange change) {
+        var articles = change.articles().stream()
+                .map(ArticleResourceFromValueObjectAssembler::toResourceFromValueObject)
+                .toList();
+        return new FavoriteSourceChangeResource(change.newsApiKey(), change.sourceIds(), articles);
+    }
+}
@@ -0,0 +1,98 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+/**
+ * FavoriteSourceCsvFormat
+ * @summary
+ * FavoriteSourceCsvFormat is a class that represents the CSV format of the import and export of favorite sources.
+ * Exported rows have the id, newsApiKey and sourceId columns, after a header row, without the details of the news sources.
+ * Imported rows are read by the names of their header row, so exported files are imported back, and their other columns are ignored.
+ * The readers and writers read and write one row at a time, so whole files are never held in memory.
+ * @see FavoriteSourceResource
+ * @see CreateFavoriteSourceResource
+ * @since 1.0.0
+ */
+public final class FavoriteSourceCsvFormat {
+    /**
+     * The media type of the CSV rows.
+     */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .build();
+    private static final CsvSchema EXPORT_SCHEMA = CsvSchema.builder()
+            .addNumberColumn("id")
+            .addColumn("newsApiKey")
+            .addColumn("sourceId")
+            .build();
+
+    private FavoriteSourceCsvFormat() {
+    }
+
+    /**
+     * Gets the writer of the exported rows, which writes the header row before the first one, and flushes them when told to.
+     * @return the writer of favorite source resources as CSV rows.
+     */
+    public static ObjectWriter exportWriter() {
+        return CSV_MAPPER.writerFor(FavoriteSourceResource.class).with(EXPORT_SCHEMA.withHeader());
+    }
+
+    /**
+     * Gets the header row of the exported rows.
+     * @return the header row, with its line separator.
+     */
+    public static String exportHeader() {
+        return String.join(",", EXPORT_SCHEMA.getColumnNames()) + "\n";
+    }
+
+    /**
+     * Converts a favorite source resource to an exported row, without the header row.
+     * @param resource the favorite source resource.
+     * @return the CSV row, with its line separator.
+     */
+    public static String toExportRow(FavoriteSourceResource resource) {
+        try {
+            return CSV_MAPPER.writerFor(FavoriteSourceResource.class).with(EXPORT_SCHEMA).writeValueAsString(resource);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Favorite source cannot be written as CSV", e);
+        }
+    }
+
+    /**
+     * Gets the reader of imported rows, which takes the names of their columns from the header row.
+     * @return the reader of CSV rows as create favorite source resources.
+     */
+    public static ObjectReader importReader() {
+        return CSV_MAPPER.readerFor(CreateFavoriteSourceResource.class).with(CsvSchema.emptySchema().withHeader());
+    }
+
+    /**
+     * Gets the reader of single imported rows, for rows read one line at a time.
+     * @param header the header row, without its line separator.
+     * @return the reader of a CSV row as a create favorite source resource.
+     * @throws IllegalArgumentException if the header row cannot be read
+     */
+    public static ObjectReader importRowReader(String header) {
+        try {
+            String[] columns = CSV_MAPPER.readerForArrayOf(String.class).readValue(header);
+            var schema = CsvSchema.builder();
+            for (var column : columns) schema.addColumn(column.strip());
+            return CSV_MAPPER.readerFor(CreateFavoriteSourceResource.class).with(schema.build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("CSV header row cannot be read", e);
+        }
+    }
+}
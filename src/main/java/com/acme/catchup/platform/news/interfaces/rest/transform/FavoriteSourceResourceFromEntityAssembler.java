@@ -1,7 +1,11 @@
 package com.acme.catchup.platform.news.interfaces.rest.transform;
 
 import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.valueobjects.NewsSource;
 import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.NewsSourceResource;
+
+import java.util.Optional;
 
 /**
  * FavoriteSourceResourceFromEntityAssembler
@@ -20,4 +24,16 @@ public class FavoriteSourceResourceFromEntityAssembler {
     public static FavoriteSourceResource toResourceFromEntity(FavoriteSource entity) {
         return new FavoriteSourceResource(entity.getId(), entity.getNewsApiKey(), entity.getSourceId());
     }
+
+    /**
+     * Converts a FavoriteSource to a FavoriteSourceResource, with the details of its news source.
+     * @param entity the entity containing the data to create the favorite source resource.
+     * @param newsSource the news source of the favorite source, if known.
+     * @return an instance of FavoriteSourceResource.
+     */
+    public static FavoriteSourceResource toResourceFromEntity(FavoriteSource entity, Optional<NewsSource> newsSource) {
+        return new FavoriteSourceResource(entity.getId(), entity.getNewsApiKey(), entity.getSourceId(),
+                newsSource.map(source -> new NewsSourceResource(source.name(), source.description(), source.url(),
+                        source.category(), source.language(), source.country())).orElse(null));
+    }
 }
@@ -0,0 +1,31 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
+import com.acme.catchup.platform.news.domain.model.valueobjects.NewsSource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.NewsSourceResource;
+
+import java.util.Optional;
+
+/**
+ * FavoriteSourceResourceFromValueObjectAssembler
+ * @summary
+ * FavoriteSourceResourceFromValueObjectAssembler is a class that represents the assembler to create a favorite source resource
+ * from a favorite source summary value object.
+ * @see FavoriteSourceSummary
+ * @see FavoriteSourceResource
+ * @since 1.0.0
+ */
+public class FavoriteSourceResourceFromValueObjectAssembler {
+    /**
+     * Converts a FavoriteSourceSummary to a FavoriteSourceResource, with the details of its news source.
+     * @param favoriteSourceSummary the value object containing the data to create the favorite source resource.
+     * @param newsSource the news source of the favorite source, if known.
+     * @return an instance of FavoriteSourceResource.
+     */
+    public static FavoriteSourceResource toResourceFromValueObject(FavoriteSourceSummary favoriteSourceSummary, Optional<NewsSource> newsSource) {
+        return new FavoriteSourceResource(favoriteSourceSummary.id(), favoriteSourceSummary.newsApiKey(), favoriteSourceSummary.sourceId(),
+                newsSource.map(source -> new NewsSourceResource(source.name(), source.description(), source.url(),
+                        source.category(), source.language(), source.country())).orElse(null));
+    }
+}
@@ -0,0 +1,140 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * FavoriteSourceResourceStreamWriter
+ * @summary
+ * The FavoriteSourceResourceStreamWriter class writes the favorite source resources of an export to a response body as they are read,
+ * as newline-delimited JSON or as CSV rows after a header row, flushing them every few, so whole exports are never held in memory.
+ * @see FavoriteSourceResource
+ * @see FavoriteSourceCsvFormat
+ * @since 1.0.0
+ */
+public final class FavoriteSourceResourceStreamWriter implements Closeable {
+    /**
+     * The media type of the newline-delimited JSON rows.
+     */
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    /**
+     * The media type of the CSV rows.
+     */
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType(FavoriteSourceCsvFormat.TEXT_CSV_VALUE);
+
+    private static final List<MediaType> MEDIA_TYPES = List.of(APPLICATION_NDJSON, TEXT_CSV);
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final Rows rows;
+    private int count;
+
+    private FavoriteSourceResourceStreamWriter(Rows rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Creates the writer of the favorite source resources of an export, in the given media type.
+     * @param mediaType the media type of the export, CSV or else newline-delimited JSON.
+     * @param objectMapper the object mapper of the newline-delimited JSON rows.
+     * @param outputStream the response body.
+     * @return the writer.
+     * @throws IOException if the response cannot be written.
+     */
+    public static FavoriteSourceResourceStreamWriter of(MediaType mediaType, ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        if (TEXT_CSV.equals(mediaType)) {
+            var csvRows = FavoriteSourceCsvFormat.exportWriter().writeValues(outputStream);
+            return new FavoriteSourceResourceStreamWriter(new Rows() {
+                @Override
+                public void write(FavoriteSourceResource resource) throws IOException {
+                    csvRows.write(resource);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    csvRows.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    csvRows.close();
+                }
+            });
+        }
+        var writer = objectMapper.writerFor(FavoriteSourceResource.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        var generator = objectMapper.createGenerator(outputStream).setRootValueSeparator(null);
+        return new FavoriteSourceResourceStreamWriter(new Rows() {
+            @Override
+            public void write(FavoriteSourceResource resource) throws IOException {
+                writer.writeValue(generator, resource);
+                generator.writeRaw('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                generator.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                generator.close();
+            }
+        });
+    }
+
+    /**
+     * Negotiates the media type of an export from the accepted media types: newline-delimited JSON or CSV, whichever is compatible
+     * with the accepted media type of highest quality, or newline-delimited JSON when none is acceptable.
+     * @param acceptedMediaTypes the media types of the Accept header.
+     * @return the media type of the export.
+     */
+    public static MediaType negotiateMediaType(List<MediaType> acceptedMediaTypes) {
+        var sortedMediaTypes = new ArrayList<>(acceptedMediaTypes);
+        sortedMediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (var acceptedMediaType : sortedMediaTypes) {
+            if (acceptedMediaType.getQualityValue() == 0) break;
+            for (var mediaType : MEDIA_TYPES)
+                if (acceptedMediaType.isCompatibleWith(mediaType)) return mediaType;
+        }
+        return MEDIA_TYPES.getFirst();
+    }
+
+    /**
+     * Writes a favorite source resource, flushing the resources written every few.
+     * @param resource the favorite source resource.
+     * @throws UncheckedIOException if the response cannot be written.
+     */
+    public void write(FavoriteSourceResource resource) {
+        try {
+            rows.write(resource);
+            if (++count % FLUSH_INTERVAL == 0) rows.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // @inheritdoc
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+
+    /**
+     * Rows
+     * @summary
+     * The Rows interface writes the favorite source resources in the media type of the export.
+     */
+    private interface Rows extends Flushable, Closeable {
+        void write(FavoriteSourceResource resource) throws IOException;
+    }
+}
@@ -0,0 +1,25 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesImportProgress;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourcesImportProgressResource;
+
+/**
+ * FavoriteSourcesImportProgressResourceFromValueObjectAssembler
+ * @summary
+ * FavoriteSourcesImportProgressResourceFromValueObjectAssembler is a class that represents the assembler to create an import progress resource
+ * from an import progress value object.
+ * @see FavoriteSourcesImportProgress
+ * @see FavoriteSourcesImportProgressResource
+ * @since 1.0.0
+ */
+public class FavoriteSourcesImportProgressResourceFromValueObjectAssembler {
+    /**
+     * Converts a FavoriteSourcesImportProgress to a FavoriteSourcesImportProgressResource.
+     * @param progress the value object containing the data to create the import progress resource.
+     * @return an instance of FavoriteSourcesImportProgressResource.
+     */
+    public static FavoriteSourcesImportProgressResource toResourceFromValueObject(FavoriteSourcesImportProgress progress) {
+        return new FavoriteSourcesImportProgressResource(progress.offset(), progress.created(), progress.skipped(),
+                progress.completed(), progress.error());
+    }
+}
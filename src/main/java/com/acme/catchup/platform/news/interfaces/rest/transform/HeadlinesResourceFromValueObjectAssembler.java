@@ -0,0 +1,26 @@
+package com.acme.catchup.platform.news.interfaces.rest.transform;
+
+import com.acme.catchup.platform.news.domain.model.valueobjects.Headlines;
+import com.acme.catchup.platform.news.interfaces.rest.resources.HeadlinesResource;
+
+/**
+ * HeadlinesResourceFromValueObjectAssembler
+ * @summary
+ * HeadlinesResourceFromValueObjectAssembler is a class that represents the assembler to create a headlines resource from a value object.
+ * @see Headlines
+ * @see HeadlinesResource
+ * @since 1.0.0
+ */
+public class HeadlinesResourceFromValueObjectAssembler {
+    /**
+     * Converts a Headlines value object to a HeadlinesResource.
+     * @param headlines the value object containing the data to create the headlines resource.
+     * @return an instance of HeadlinesResource.
+     */
+    public static HeadlinesResource toResourceFromValueObject(Headlines headlines) {
+        var articles = headlines.articles().stream()
+                .map(ArticleResourceFromValueObjectAssembler::toResourceFromValueObject)
+                .toList();
+        return new HeadlinesResource(articles, headlines.failedSourceIds());
+    }
+}
@@ -0,0 +1,50 @@
+package com.acme.catchup.platform.shared.infrastructure.aot;
+
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion;
+import com.acme.catchup.platform.news.infrastructure.external.newsapi.NewsApiArticlesResponse;
+import com.acme.catchup.platform.news.infrastructure.external.newsapi.NewsApiSourcesResponse;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourcesImportProgressResource;
+import com.acme.catchup.platform.shared.infrastructure.persistence.jpa.monitoring.JdbcStatementMetricsSessionEventListener;
+import com.acme.catchup.platform.shared.infrastructure.persistence.jpa.strategy.SnakeCasePhysicalNamingStrategy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * CatchUpPlatformRuntimeHints
+ * @summary
+ * The CatchUpPlatformRuntimeHints class registers the reflection the native image cannot discover on its own.
+ * Spring AOT already covers the beans, the JPA entities with their entity listeners, and the request and response bodies
+ * of the controllers. What is left are the classes Hibernate instantiates from property values, the class of the JPQL
+ * constructor expression, the JSON types read and written outside of Spring MVC, and the MySQL migrations.
+ * The pluralize library used by the naming strategy needs no hints: it only builds regular expressions in static
+ * initializers, which the native profile runs at build time.
+ * @since 1.0.0
+ */
+public class CatchUpPlatformRuntimeHints implements RuntimeHintsRegistrar {
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    // @inheritdoc
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // spring.jpa.hibernate.naming.physical-strategy and hibernate.session.events.auto
+        hints.reflection().registerType(SnakeCasePhysicalNamingStrategy.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(JdbcStatementMetricsSessionEventListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // FavoriteSourceRepository.findVersionByNewsApiKey
+        hints.reflection().registerType(FavoriteSourcesVersion.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // NewsApiClient responses and the outbox payload
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                NewsApiSourcesResponse.class, NewsApiArticlesResponse.class, FavoriteSourceCreatedEvent.class);
+
+        // The progress of favorite source imports, written by a streaming response body
+        bindingRegistrar.registerReflectionHints(hints.reflection(), FavoriteSourcesImportProgressResource.class);
+
+        // spring.flyway.locations, below the db/migration/* registered by Spring Boot
+        hints.resources().registerPattern("db/migration/common/*");
+        hints.resources().registerPattern("db/migration/mysql/*");
+    }
+}
@@ -0,0 +1,33 @@
+package com.acme.catchup.platform.shared.infrastructure.caching;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TransactionAwareCachingConfiguration
+ * @summary
+ * The TransactionAwareCachingConfiguration class wraps the cache manager configured by spring.cache in a
+ * TransactionAwareCacheManagerProxy, so the puts and evictions of the caches within a transaction only happen once it commits,
+ * and not at all when it rolls back. An eviction by a @Transactional command handler is then never followed by a query
+ * that reads the favorite sources before the commit and caches them again, whatever the order of the cache and
+ * transaction interceptors. Outside of a transaction, puts and evictions happen immediately, as before.
+ * @since 1.0.0
+ */
+@Configuration
+public class TransactionAwareCachingConfiguration {
+
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy))
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                return bean;
+            }
+        };
+    }
+}
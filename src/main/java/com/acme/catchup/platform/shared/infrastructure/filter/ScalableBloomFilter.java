@@ -0,0 +1,167 @@
+package com.acme.catchup.platform.shared.infrastructure.filter;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ScalableBloomFilter
+ * @summary
+ * The ScalableBloomFilter class is a Bloom filter of strings that grows with its contents while keeping its false positive rate.
+ * It tells whether a string might have been added, with false positives but no false negatives.
+ * <ul>
+ * <li>Strings are added to the last of a series of bit arrays, each sized for twice the strings of the previous one,
+ * with half its false positive rate, so the rate of the whole series stays under the target however many strings are added.</li>
+ * <li>Checks read the bit arrays without locking, and may run concurrently with additions.</li>
+ * </ul>
+ * Strings cannot be removed.
+ * @since 1.0.0
+ */
+public class ScalableBloomFilter {
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final int GROWTH_FACTOR = 2;
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    private final double falsePositiveRate;
+    private volatile Slice[] slices;
+    private long size;
+
+    /**
+     * Creates an empty filter.
+     * @param expectedInsertions the number of strings the first bit array is sized for.
+     * @param falsePositiveRate the highest rate of false positives, between 0 and 1 exclusive.
+     */
+    public ScalableBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1 exclusive");
+        this.falsePositiveRate = falsePositiveRate;
+        this.slices = new Slice[]{new Slice(expectedInsertions, falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    /**
+     * Checks whether a string might have been added.
+     * @param value the string.
+     * @return false if the string was never added, true if it might have been.
+     */
+    public boolean mightContain(CharSequence value) {
+        var hash = hash(value);
+        var secondHash = secondHash(hash);
+        for (var slice : slices)
+            if (slice.mightContain(hash, secondHash)) return true;
+        return false;
+    }
+
+    /**
+     * Adds a string, growing the filter when its last bit array is full.
+     * @param value the string.
+     */
+    public synchronized void put(CharSequence value) {
+        var hash = hash(value);
+        var secondHash = secondHash(hash);
+        var current = slices;
+        for (var slice : current)
+            if (slice.mightContain(hash, secondHash)) return;
+        var last = current[current.length - 1];
+        if (last.insertions >= last.capacity) {
+            last = new Slice(last.capacity * GROWTH_FACTOR, last.falsePositiveRate * TIGHTENING_RATIO);
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = last;
+        }
+        last.put(hash, secondHash);
+        slices = current;
+        size++;
+    }
+
+    /**
+     * Gets the number of strings added, not counting those the filter already might have contained.
+     * @return the number of strings added.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Gets the memory taken by the bit arrays of the filter.
+     * @return the size of the bit arrays, in bytes.
+     */
+    public long bitArrayBytes() {
+        return Arrays.stream(slices).mapToLong(slice -> slice.bits.length() * (long) Long.BYTES).sum();
+    }
+
+    /**
+     * Gets the highest rate of false positives of the filter.
+     * @return the false positive rate given on creation.
+     */
+    public double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Hashes a string with 64-bit FNV-1a over its characters, finished with the MurmurHash3 mix so every bit depends on every character.
+     */
+    private static long hash(CharSequence value) {
+        var hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++)
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        return mix(hash);
+    }
+
+    /**
+     * Derives the second hash of the double hashing scheme, odd so its multiples cycle through every bit.
+     */
+    private static long secondHash(long hash) {
+        return mix(hash + 0x9e3779b97f4a7c15L) | 1;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Slice
+     * @summary
+     * The Slice class is a Bloom filter bit array sized for a number of strings at a false positive rate.
+     * Its bits are set with atomic updates, so they can be read while strings are added.
+     */
+    private static final class Slice {
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashFunctions;
+        private long insertions;
+
+        Slice(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            var optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / LN2_SQUARED);
+            var words = Math.toIntExact(Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE));
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * Long.SIZE;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        }
+
+        boolean mightContain(long hash, long secondHash) {
+            var combined = hash;
+            for (int i = 0; i < hashFunctions; i++, combined += secondHash) {
+                var bit = Long.remainderUnsigned(combined, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        void put(long hash, long secondHash) {
+            var combined = hash;
+            for (int i = 0; i < hashFunctions; i++, combined += secondHash) {
+                var bit = Long.remainderUnsigned(combined, bitCount);
+                var mask = 1L << bit;
+                var word = (int) (bit >>> 6);
+                if ((bits.get(word) & mask) == 0) bits.getAndAccumulate(word, mask, (current, set) -> current | set);
+            }
+            insertions++;
+        }
+    }
+}
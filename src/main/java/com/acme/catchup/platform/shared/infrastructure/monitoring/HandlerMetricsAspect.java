@@ -0,0 +1,123 @@
+package com.acme.catchup.platform.shared.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HandlerMetricsAspect
+ * @summary
+ * The HandlerMetricsAspect class records metrics for every command and query handled by the application services,
+ * tagged by the command or query type:
+ * <ul>
+ * <li>catchup.handler: the latency timer, also tagged by outcome and exception</li>
+ * <li>catchup.handler.errors: the number of handlings that threw an exception</li>
+ * <li>catchup.handler.rows: the number of elements returned by the query handlers</li>
+ * </ul>
+ * It wraps the caching and transactional advice, so the latency is the one seen by the callers.
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HandlerMetricsAspect {
+    private final MeterRegistry meterRegistry;
+
+    public HandlerMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Records the metrics of a command or query handling.
+     * The handling of a reactive service is measured from the subscription to its result until it completes.
+     * @param joinPoint the handle method invocation.
+     * @return the result of the handle method.
+     * @throws Throwable the exception thrown by the handle method.
+     */
+    @Around("execution(* com.acme.catchup.platform..application.internal..*ServiceImpl.handle(..))")
+    public Object recordHandling(ProceedingJoinPoint joinPoint) throws Throwable {
+        var handler = joinPoint.getArgs()[0].getClass().getSimpleName();
+        var sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            recordError(handler, sample, e);
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) return recordHandling(handler, mono);
+        if (result instanceof Flux<?> flux) return recordHandling(handler, flux);
+        recordRows(handler, result);
+        recordLatency(handler, sample, "none");
+        return result;
+    }
+
+    private Mono<?> recordHandling(String handler, Mono<?> result) {
+        return Mono.defer(() -> {
+            var sample = Timer.start(meterRegistry);
+            return result.doOnSuccess(value -> {
+                recordRows(handler, value instanceof Collection<?> ? value : Optional.ofNullable(value));
+                recordLatency(handler, sample, "none");
+            }).doOnError(e -> recordError(handler, sample, e));
+        });
+    }
+
+    private Flux<?> recordHandling(String handler, Flux<?> result) {
+        return Flux.defer(() -> {
+            var sample = Timer.start(meterRegistry);
+            var rows = new AtomicInteger();
+            return result.doOnNext(value -> rows.incrementAndGet())
+                    .doOnComplete(() -> {
+                        recordRows(handler, rows.get());
+                        recordLatency(handler, sample, "none");
+                    })
+                    .doOnError(e -> recordError(handler, sample, e));
+        });
+    }
+
+    private void recordError(String handler, Timer.Sample sample, Throwable e) {
+        var exception = e.getClass().getSimpleName();
+        Counter.builder("catchup.handler.errors")
+                .description("Number of commands and queries whose handling threw an exception")
+                .tag("handler", handler)
+                .tag("exception", exception)
+                .register(meterRegistry)
+                .increment();
+        recordLatency(handler, sample, exception);
+    }
+
+    private void recordLatency(String handler, Timer.Sample sample, String exception) {
+        sample.stop(Timer.builder("catchup.handler")
+                .description("Latency of the command and query handling")
+                .tag("handler", handler)
+                .tag("outcome", "none".equals(exception) ? "success" : "error")
+                .tag("exception", exception)
+                .register(meterRegistry));
+    }
+
+    private void recordRows(String handler, Object result) {
+        if (result instanceof Collection<?> collection) recordRows(handler, collection.size());
+        else if (result instanceof Optional<?> optional) recordRows(handler, optional.isPresent() ? 1 : 0);
+    }
+
+    private void recordRows(String handler, int rows) {
+        DistributionSummary.builder("catchup.handler.rows")
+                .description("Number of elements returned by the query handling")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
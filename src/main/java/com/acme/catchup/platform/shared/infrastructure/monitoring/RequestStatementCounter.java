@@ -0,0 +1,83 @@
+package com.acme.catchup.platform.shared.infrastructure.monitoring;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RequestStatementCounter
+ * @summary
+ * The RequestStatementCounter class counts the database statements and batches executed for one request, whichever executes them:
+ * Hibernate, through JdbcStatementMetricsSessionEventListener, the JdbcTemplates of the dictionaries and the shard directory,
+ * through StatementCountingJdbcTemplate, and R2DBC, through StatementCountingConnectionFactory.
+ * A servlet request binds its counter to the thread that serves it; a reactive request puts it in its Reactor context,
+ * under the RequestStatementCounter class, as its statements run on whichever thread its publishers run.
+ * @see RequestStatementMetrics
+ * @since 1.0.0
+ */
+public class RequestStatementCounter {
+    private static final ThreadLocal<RequestStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicInteger batches = new AtomicInteger();
+
+    /**
+     * Binds a counter to the current thread, until it is unbound.
+     * @param counter the counter of the request served by the current thread.
+     */
+    static void bind(RequestStatementCounter counter) {
+        CURRENT.set(counter);
+    }
+
+    /**
+     * Unbinds the counter of the current thread, if any.
+     */
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Counts a statement for the request served by the current thread, if any.
+     */
+    public static void countStatement() {
+        var counter = CURRENT.get();
+        if (counter != null) counter.statement();
+    }
+
+    /**
+     * Counts a batch, which is also a statement, for the request served by the current thread, if any.
+     */
+    public static void countBatch() {
+        var counter = CURRENT.get();
+        if (counter != null) counter.batch();
+    }
+
+    /**
+     * Counts a statement.
+     */
+    public void statement() {
+        statements.incrementAndGet();
+    }
+
+    /**
+     * Counts a batch, which is also a statement.
+     */
+    public void batch() {
+        statements.incrementAndGet();
+        batches.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of statements, a batch counting as one.
+     * @return the number of statements.
+     */
+    public int statements() {
+        return statements.get();
+    }
+
+    /**
+     * Gets the number of batches.
+     * @return the number of batches.
+     */
+    public int batches() {
+        return batches.get();
+    }
+}
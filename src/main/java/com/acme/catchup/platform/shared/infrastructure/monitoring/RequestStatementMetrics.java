@@ -0,0 +1,104 @@
+package com.acme.catchup.platform.shared.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.core.publisher.Mono;
+
+/**
+ * RequestStatementMetrics
+ * @summary
+ * The RequestStatementMetrics class records the database statements and batches executed per request of the API, counted by a
+ * RequestStatementCounter, as the catchup.request.statements and catchup.request.batches distribution summaries,
+ * tagged by method and URI pattern, so a request that runs several transactions, or statements outside of Hibernate, is one sample.
+ * Servlet requests are counted by a handler interceptor, which binds the counter to the thread that serves them, and again
+ * to the one that completes them when they are asynchronous. Reactive requests are counted by a web filter, which puts the
+ * counter in their Reactor context. Statements run by the threads that stream a response body are not counted.
+ * @since 1.0.0
+ */
+@Component
+public class RequestStatementMetrics implements WebMvcConfigurer, AsyncHandlerInterceptor, WebFilter {
+    private static final String API_PATH = "/api/";
+    private static final String COUNTER_ATTRIBUTE = RequestStatementCounter.class.getName();
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // @inheritdoc
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this).addPathPatterns(API_PATH + "**");
+    }
+
+    // @inheritdoc
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        var counter = (RequestStatementCounter) request.getAttribute(COUNTER_ATTRIBUTE);
+        if (counter == null) {
+            counter = new RequestStatementCounter();
+            request.setAttribute(COUNTER_ATTRIBUTE, counter);
+        }
+        RequestStatementCounter.bind(counter);
+        return true;
+    }
+
+    // @inheritdoc
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                               @NonNull Object handler) {
+        RequestStatementCounter.unbind();
+    }
+
+    // @inheritdoc
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler,
+                                Exception e) {
+        RequestStatementCounter.unbind();
+        var counter = (RequestStatementCounter) request.getAttribute(COUNTER_ATTRIBUTE);
+        if (counter == null) return;
+        request.removeAttribute(COUNTER_ATTRIBUTE);
+        record(request.getMethod(), request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), counter);
+    }
+
+    // @inheritdoc
+    @Override
+    @NonNull
+    public Mono<Void> filter(ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        var path = exchange.getRequest().getPath().pathWithinApplication();
+        if (!path.value().startsWith(API_PATH)) return chain.filter(exchange);
+        var counter = new RequestStatementCounter();
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(RequestStatementCounter.class, counter))
+                .doFinally(signal -> record(exchange.getRequest().getMethod().name(),
+                        exchange.getAttribute(org.springframework.web.reactive.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), counter));
+    }
+
+    private void record(String method, Object pattern, RequestStatementCounter counter) {
+        var uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("catchup.request.statements")
+                .description("Number of database statements executed per request, a batch counting as one")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counter.statements());
+        DistributionSummary.builder("catchup.request.batches")
+                .description("Number of database batches executed per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counter.batches());
+    }
+}
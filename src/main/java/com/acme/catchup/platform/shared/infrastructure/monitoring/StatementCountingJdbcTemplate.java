@@ -0,0 +1,30 @@
+package com.acme.catchup.platform.shared.infrastructure.monitoring;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * StatementCountingJdbcTemplate
+ * @summary
+ * The StatementCountingJdbcTemplate class is a JdbcTemplate that counts its statements for the request served by the current thread,
+ * which Hibernate does not see. It counts them when it applies its settings to them, which it does once per statement, a batch
+ * counting as one. It uses the connection bound to the transaction of the data source, as JdbcTemplate does.
+ * @see RequestStatementCounter
+ * @since 1.0.0
+ */
+public class StatementCountingJdbcTemplate extends JdbcTemplate {
+
+    public StatementCountingJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    // @inheritdoc
+    @Override
+    protected void applyStatementSettings(Statement statement) throws SQLException {
+        RequestStatementCounter.countStatement();
+        super.applyStatementSettings(statement);
+    }
+}
@@ -0,0 +1,78 @@
+package com.acme.catchup.platform.shared.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.util.Date;
+
+/**
+ * OutboxMessage
+ * @summary
+ * The OutboxMessage class represents an event stored in the transactional outbox.
+ * It is written in the same transaction as the change that raised the event, and deleted once the event is consumed,
+ * so events survive a crash between the commit and their consumption.
+ * A worker claims a message by leasing it, which counts as an attempt, and other workers skip it until the lease ends.
+ * A message is dead once its attempts reach the maximum: it is no longer claimed, and stays in the outbox to be inspected.
+ * @since 1.0.0
+ */
+@Entity
+@Table(indexes = @Index(name = "ix_outbox_messages_event_type_id", columnList = "eventType, id"))
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outboxMessageSequence")
+    @SequenceGenerator(name = "outboxMessageSequence", sequenceName = "outbox_message_seq", allocationSize = 50)
+    @Getter
+    private Long id;
+
+    @Column(nullable = false)
+    @Getter
+    private String eventType;
+
+    @Column(nullable = false, length = 65535)
+    @Getter
+    private String payload;
+
+    @Column(nullable = false)
+    @Getter
+    private int attempts;
+
+    @Getter
+    private Date leasedUntil;
+
+    @Column(nullable = false, updatable = false)
+    @CreatedDate
+    private Date createdAt;
+
+    protected OutboxMessage() {}
+
+    /**
+     * @summary Constructor.
+     * It creates a new OutboxMessage instance for an event.
+     * @param eventType - the type of the event
+     * @param payload - the event serialized as JSON
+     */
+    public OutboxMessage(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    /**
+     * Leases the message to consume its event, which registers an attempt.
+     * @param leasedUntil - the end of the lease, after which the event is attempted again unless the message is deleted
+     */
+    public void lease(Date leasedUntil) {
+        this.attempts++;
+        this.leasedUntil = leasedUntil;
+    }
+
+    /**
+     * Marks the message as dead, as its event can never be consumed.
+     * @param maxAttempts - the attempts at which messages are dead
+     */
+    public void markDead(int maxAttempts) {
+        this.attempts = Math.max(attempts, maxAttempts);
+    }
+}
@@ -0,0 +1,39 @@
+package com.acme.catchup.platform.shared.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_LOCK_TIMEOUT;
+
+/**
+ * OutboxMessageRepository
+ * @summary
+ * The OutboxMessageRepository interface is responsible for managing the outbox messages in the database.
+ * @since 1.0.0
+ */
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+    /**
+     * Finds and locks the oldest outbox messages of an event type with fewer attempts than the given ones, and not leased at the given time.
+     * Messages locked by another transaction are skipped, so several workers can claim messages concurrently.
+     * It must be called within a transaction.
+     * @param eventType the type of the event.
+     * @param attempts the number of attempts the messages must stay below.
+     * @param now the current time, at or after which the leases of the messages must have ended.
+     * @param limit the maximum number of messages.
+     * @return the list of outbox messages.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("select m from OutboxMessage m where m.eventType = :eventType and m.attempts < :attempts and (m.leasedUntil is null or m.leasedUntil <= :now) order by m.id asc")
+    List<OutboxMessage> findAllClaimableByEventType(String eventType, int attempts, Date now, Limit limit);
+}
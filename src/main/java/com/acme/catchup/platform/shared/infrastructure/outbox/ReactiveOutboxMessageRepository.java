@@ -0,0 +1,63 @@
+package com.acme.catchup.platform.shared.infrastructure.outbox;
+
+import com.acme.catchup.platform.shared.infrastructure.persistence.r2dbc.PooledLoIdAllocator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+/**
+ * ReactiveOutboxMessageRepository
+ * @summary
+ * The ReactiveOutboxMessageRepository class is responsible for storing outbox messages through R2DBC,
+ * in the transaction of the reactive change that raised their events. The messages are consumed as the ones stored through JPA.
+ * @see OutboxMessage
+ * @since 1.0.0
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveOutboxMessageRepository {
+    /**
+     * The allocation size of the outboxMessageSequence generator of OutboxMessage.
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+    private final PooledLoIdAllocator idAllocator;
+
+    public ReactiveOutboxMessageRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.idAllocator = new PooledLoIdAllocator(databaseClient, "outbox_message_seqs", ID_ALLOCATION_SIZE);
+    }
+
+    /**
+     * Allocates the id of a new outbox message. It runs outside of the transaction of the caller.
+     * @return the id.
+     */
+    public Mono<Long> nextId() {
+        return idAllocator.nextId();
+    }
+
+    /**
+     * Inserts an outbox message for an event, without failed attempts.
+     * @param id the id of the outbox message.
+     * @param eventType the type of the event.
+     * @param payload the event serialized as JSON.
+     * @param createdAt the creation date of the outbox message.
+     * @return the completion of the insert.
+     */
+    public Mono<Void> insert(Long id, String eventType, String payload, Date createdAt) {
+        return databaseClient.sql("insert into outbox_messages (id, event_type, payload, attempts, created_at) values (:id, :eventType, :payload, 0, :createdAt)")
+                .bind("id", id)
+                .bind("eventType", eventType)
+                .bind("payload", payload)
+                .bind("createdAt", LocalDateTime.ofInstant(createdAt.toInstant(), ZoneOffset.UTC))
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+}
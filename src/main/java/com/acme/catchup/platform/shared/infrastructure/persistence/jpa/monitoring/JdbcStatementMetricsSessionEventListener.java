@@ -0,0 +1,50 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.jpa.monitoring;
+
+import com.acme.catchup.platform.shared.infrastructure.monitoring.RequestStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import org.hibernate.SessionEventListener;
+
+/**
+ * JdbcStatementMetricsSessionEventListener
+ * @summary
+ * The JdbcStatementMetricsSessionEventListener class counts the JDBC statements and batches executed by a Hibernate session,
+ * and records them when the session ends as the catchup.jdbc.statements and catchup.jdbc.batches distribution summaries.
+ * Hibernate creates one instance per session (hibernate.session.events.auto). With open-in-view off, the default, a session spans
+ * one transaction, or one repository call outside of them, so a request that runs several of them records several sessions.
+ * Hibernate instantiates it, so it records in the global registry, to which Spring Boot adds its meter registry.
+ * It also counts the statements and batches for the request served by the current thread, recorded per request by
+ * RequestStatementMetrics with the statements executed outside of Hibernate.
+ * @since 1.0.0
+ */
+public class JdbcStatementMetricsSessionEventListener implements SessionEventListener {
+    private static final DistributionSummary STATEMENTS = DistributionSummary.builder("catchup.jdbc.statements")
+            .description("Number of JDBC statements executed per Hibernate session, a batch counting as one")
+            .register(Metrics.globalRegistry);
+    private static final DistributionSummary BATCHES = DistributionSummary.builder("catchup.jdbc.batches")
+            .description("Number of JDBC batches executed per Hibernate session")
+            .register(Metrics.globalRegistry);
+
+    private int statements;
+    private int batches;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statements++;
+        RequestStatementCounter.countStatement();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statements++;
+        batches++;
+        RequestStatementCounter.countBatch();
+    }
+
+    @Override
+    public void end() {
+        if (statements == 0) return;
+        STATEMENTS.record(statements);
+        BATCHES.record(batches);
+    }
+}
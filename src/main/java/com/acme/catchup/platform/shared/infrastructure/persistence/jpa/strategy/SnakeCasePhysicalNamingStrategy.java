@@ -4,9 +4,23 @@ import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import static io.github.encryptorcode.pluralize.Pluralize.pluralize;
 
+/**
+ * SnakeCasePhysicalNamingStrategy
+ * @summary
+ * The SnakeCasePhysicalNamingStrategy class names tables in plural snake case, and catalogs, schemas, sequences and columns
+ * in snake case: a lower case letter followed by an upper case one gets an underscore between them, then the name is lower cased.
+ * The physical names depend on the text of the logical identifiers only, so they are computed once per text and memoized.
+ * @since 1.0.0
+ */
 public class SnakeCasePhysicalNamingStrategy implements PhysicalNamingStrategy {
+    private final ConcurrentMap<String, Identifier> snakeCaseNames = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Identifier> pluralSnakeCaseNames = new ConcurrentHashMap<>();
+
     @Override
     public Identifier toPhysicalCatalogName(Identifier identifier, JdbcEnvironment jdbcEnvironment) {
         return this.toSnakeCase(identifier);
@@ -19,7 +33,11 @@ public class SnakeCasePhysicalNamingStrategy implements PhysicalNamingStrategy {
 
     @Override
     public Identifier toPhysicalTableName(Identifier identifier, JdbcEnvironment jdbcEnvironment) {
-        return this.toSnakeCase(this.toPlural(identifier));
+        if (identifier == null) return null;
+        var physicalName = pluralSnakeCaseNames.get(identifier.getText());
+        if (physicalName != null) return physicalName;
+        return pluralSnakeCaseNames.computeIfAbsent(identifier.getText(),
+                text -> this.toSnakeCase(Identifier.toIdentifier(pluralize(text))));
     }
 
     @Override
@@ -34,17 +52,37 @@ public class SnakeCasePhysicalNamingStrategy implements PhysicalNamingStrategy {
 
     private Identifier toSnakeCase(final Identifier identifier) {
         if (identifier == null) return null;
+        return snakeCaseNames.computeIfAbsent(identifier.getText(), text -> Identifier.toIdentifier(snakeCase(text)));
+    }
+
+    /**
+     * Inserts an underscore between every ASCII lower case letter and a following ASCII upper case letter, then lower cases
+     * the text, as text.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase() does, without compiling the pattern.
+     * @param text the text.
+     * @return the snake case text.
+     */
+    static String snakeCase(final String text) {
+        var length = text.length();
+        var boundaries = 0;
+        for (int i = 1; i < length; i++)
+            if (isAsciiLowerCase(text.charAt(i - 1)) && isAsciiUpperCase(text.charAt(i))) boundaries++;
+        if (boundaries == 0) return text.toLowerCase();
+
+        var snakeCase = new StringBuilder(length + boundaries);
+        snakeCase.append(text.charAt(0));
+        for (int i = 1; i < length; i++) {
+            var c = text.charAt(i);
+            if (isAsciiLowerCase(text.charAt(i - 1)) && isAsciiUpperCase(c)) snakeCase.append('_');
+            snakeCase.append(c);
+        }
+        return snakeCase.toString().toLowerCase();
+    }
 
-        final String regex = "([a-z])([A-Z])";
-        final String replacement = "$1_$2";
-        final String newName = identifier.getText()
-                .replaceAll(regex, replacement)
-                .toLowerCase();
-        return Identifier.toIdentifier(newName);
+    private static boolean isAsciiLowerCase(char c) {
+        return c >= 'a' && c <= 'z';
     }
 
-    private Identifier toPlural(final Identifier identifier) {
-        final String newName = pluralize(identifier.getText());
-        return Identifier.toIdentifier(newName);
+    private static boolean isAsciiUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
     }
 }
@@ -0,0 +1,96 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.r2dbc;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * PooledLoIdAllocator
+ * @summary
+ * The PooledLoIdAllocator class allocates identifiers from a sequence table the way the pooled-lo optimizer of Hibernate does,
+ * so the rows written through R2DBC and through JPA never get the same identifier.
+ * An allocation reads the next value of the table, moves it forward by the allocation size with an optimistic update,
+ * and hands out the identifiers from the value read up to the new one in memory.
+ * Allocations run on a connection of their own, outside of the transaction of the caller, as the ones of Hibernate do,
+ * and the callers that run out of identifiers while an allocation is in flight wait for that allocation.
+ * @since 1.0.0
+ */
+public class PooledLoIdAllocator {
+    private static final int MAX_ALLOCATION_ATTEMPTS = 10;
+
+    private final DatabaseClient databaseClient;
+    private final String sequenceTable;
+    private final String selectNextValue;
+    private final String updateNextValue;
+    private final int allocationSize;
+    private final Object lock = new Object();
+    private long nextId;
+    private long idLimit;
+    private Mono<Void> allocation;
+
+    /**
+     * Constructor.
+     * @param databaseClient the database client.
+     * @param sequenceTable the sequence table, with the next value in its next_val column.
+     * @param allocationSize the number of identifiers of each allocation, the one of the JPA sequence generator.
+     */
+    public PooledLoIdAllocator(DatabaseClient databaseClient, String sequenceTable, int allocationSize) {
+        this.databaseClient = databaseClient;
+        this.sequenceTable = sequenceTable;
+        this.selectNextValue = "select next_val from " + sequenceTable;
+        this.updateNextValue = "update " + sequenceTable + " set next_val = :next where next_val = :current";
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * Gets the next identifier, allocating identifiers from the sequence table when the allocated ones are used up.
+     * @return the next identifier.
+     * @throws ConcurrencyFailureException if the sequence table keeps changing under the allocation
+     */
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            Mono<Void> pendingAllocation;
+            synchronized (lock) {
+                if (nextId < idLimit) return Mono.just(nextId++);
+                if (allocation == null) allocation = allocate().cache();
+                pendingAllocation = allocation;
+            }
+            return pendingAllocation.then(nextId());
+        });
+    }
+
+    /**
+     * Allocates the identifiers. The allocation in flight is cleared before its callers are completed,
+     * so a caller that finds the identifiers used up again starts a new allocation.
+     * @return the allocation.
+     */
+    private Mono<Void> allocate() {
+        return databaseClient.sql(selectNextValue)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(value -> databaseClient.sql(updateNextValue)
+                        .bind("next", value + allocationSize)
+                        .bind("current", value)
+                        .fetch()
+                        .rowsUpdated()
+                        .filter(rows -> rows == 1)
+                        .map(rows -> value))
+                .repeatWhenEmpty(MAX_ALLOCATION_ATTEMPTS, attempts -> attempts)
+                .switchIfEmpty(Mono.error(() -> new ConcurrencyFailureException("Identifiers could not be allocated from " + sequenceTable)))
+                .contextWrite(context -> Context.empty())
+                .doOnNext(value -> {
+                    synchronized (lock) {
+                        nextId = value;
+                        idLimit = value + allocationSize;
+                        allocation = null;
+                    }
+                })
+                .doOnError(e -> {
+                    synchronized (lock) {
+                        allocation = null;
+                    }
+                })
+                .then();
+    }
+}
@@ -0,0 +1,66 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.r2dbc;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * ReactivePersistenceConfiguration
+ * @summary
+ * The ReactivePersistenceConfiguration class creates the R2DBC connection pool of the reactive profile, configured by spring.r2dbc,
+ * and the DatabaseClient of the reactive repositories on top of it. The connections of the driver count their statements per request.
+ * The pool is not a bean: Spring Boot backs off from the spring.datasource data source, and so from JPA, when there is an
+ * R2DBC ConnectionFactory bean, and the JPA repositories still serve everything else. For the same reason, the R2DBC
+ * auto-configuration is excluded in application.properties.
+ * @since 1.0.0
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReactivePersistenceConfiguration implements DisposableBean {
+    private final ConnectionPool connectionPool;
+
+    public ReactivePersistenceConfiguration(R2dbcProperties r2dbcProperties) {
+        var connectionFactory = new StatementCountingConnectionFactory(ConnectionFactoryBuilder.withUrl(r2dbcProperties.getUrl())
+                .username(r2dbcProperties.getUsername())
+                .password(r2dbcProperties.getPassword())
+                .build());
+        var pool = r2dbcProperties.getPool();
+        var builder = ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .minIdle(pool.getMinIdle());
+        var map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(pool.getValidationQuery()).to(builder::validationQuery);
+        this.connectionPool = new ConnectionPool(builder.name("reactive").build());
+    }
+
+    /**
+     * The database client of the reactive repositories, on the R2DBC connection pool.
+     * @return the database client.
+     */
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Closes the connections of the R2DBC connection pool.
+     */
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
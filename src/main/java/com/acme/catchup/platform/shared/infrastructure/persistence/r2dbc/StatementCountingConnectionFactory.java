@@ -0,0 +1,96 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.r2dbc;
+
+import com.acme.catchup.platform.shared.infrastructure.monitoring.RequestStatementCounter;
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+
+/**
+ * StatementCountingConnectionFactory
+ * @summary
+ * The StatementCountingConnectionFactory class wraps the R2DBC connection factory of the driver, so the statements and batches its
+ * connections execute are counted by the RequestStatementCounter found in the Reactor context of their subscriber, the one of
+ * the reactive request that runs them. Statements executed outside of a request, such as the validation of pooled connections,
+ * are not counted. The connections, statements and batches are proxies that delegate everything else to the ones of the driver.
+ * @see RequestStatementCounter
+ * @since 1.0.0
+ */
+public class StatementCountingConnectionFactory implements ConnectionFactory {
+    private final ConnectionFactory connectionFactory;
+
+    public StatementCountingConnectionFactory(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    // @inheritdoc
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.from(connectionFactory.create()).map(connection -> proxy(Connection.class, connection, (proxy, method, args) -> {
+            var result = invoke(connection, proxy, method, args);
+            if (result instanceof Statement statement)
+                return proxy(Statement.class, statement, counting(statement, RequestStatementCounter::statement));
+            if (result instanceof Batch batch)
+                return proxy(Batch.class, batch, counting(batch, RequestStatementCounter::batch));
+            return result;
+        }));
+    }
+
+    // @inheritdoc
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return connectionFactory.getMetadata();
+    }
+
+    /**
+     * The invocation handler of a statement or batch, which counts its executions and returns its proxy from its builder methods.
+     */
+    private static InvocationHandler counting(Object target, Consumer<RequestStatementCounter> count) {
+        return (proxy, method, args) -> {
+            if (method.getName().equals("execute") && method.getParameterCount() == 0)
+                return Flux.deferContextual(context -> {
+                    context.<RequestStatementCounter>getOrEmpty(RequestStatementCounter.class).ifPresent(count);
+                    return Flux.from(executeOf(target, proxy, method));
+                });
+            var result = invoke(target, proxy, method, args);
+            return result == target ? proxy : result;
+        };
+    }
+
+    private static Publisher<?> executeOf(Object target, Object proxy, Method method) {
+        try {
+            return (Publisher<?>) invoke(target, proxy, method, null);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Invokes a method on the target of a proxy, unwrapping its exceptions; a proxy is only equal to itself.
+     */
+    private static Object invoke(Object target, Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) return proxy == args[0];
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,27 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * MySqlReplicationLagProbe
+ * @summary
+ * The MySqlReplicationLagProbe class measures the replication lag of a MySQL replica from Seconds_Behind_Source (MySQL 8.0.22+).
+ * A server that is not a replica is not behind; a replica whose replication threads are stopped has an unknown lag.
+ * @see ReplicationLagProbe
+ * @since 1.0.0
+ */
+public class MySqlReplicationLagProbe implements ReplicationLagProbe {
+
+    // @inheritdoc
+    @Override
+    public Optional<Duration> measure(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement(); var resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) return Optional.of(Duration.ZERO);
+            var secondsBehindSource = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(Duration.ofSeconds(secondsBehindSource));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * ReadYourWrites
+ * @summary
+ * The ReadYourWrites class keeps the reads that follow a write on the primary, so they see the write even if the replicas lag.
+ * Writes are recorded under a key, such as a News API Key, and reads of that key run on the primary for the read-your-writes window.
+ * The window should cover the replica lag tolerance plus the lag check interval. Writes are recorded per instance.
+ * @see ReplicaRoutingDataSource
+ * @since 1.0.0
+ */
+@Component
+public class ReadYourWrites {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWrites(@Value("${catchup.datasource.read-your-writes-window}") Duration window) {
+        this.recentWrites = Caffeine.newBuilder().expireAfterWrite(window).build();
+    }
+
+    /**
+     * Records a write under a key.
+     * @param key the key written.
+     */
+    public void recordWrite(String key) {
+        recentWrites.put(key, true);
+    }
+
+    /**
+     * Runs a read of a key, on the primary if the key was written within the window.
+     * The read must acquire its connection inside the supplier, which holds with lazily acquired transactional connections.
+     * @param key the key read.
+     * @param read the read.
+     * @return the result of the read.
+     */
+    public <T> T read(String key, Supplier<T> read) {
+        return recentWrites.getIfPresent(key) == null ? read.get() : onPrimary(read);
+    }
+
+    /**
+     * Runs a read on the primary.
+     * @param read the read.
+     * @return the result of the read.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        var pinned = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(true);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_PINNED.set(pinned);
+        }
+    }
+
+    /**
+     * Checks if the current thread reads from the primary.
+     * @return true if the reads of the current thread are pinned to the primary.
+     */
+    static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get();
+    }
+}
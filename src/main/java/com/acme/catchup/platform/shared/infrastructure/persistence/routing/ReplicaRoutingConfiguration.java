@@ -0,0 +1,64 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+
+/**
+ * ReplicaRoutingConfiguration
+ * @summary
+ * The ReplicaRoutingConfiguration class replaces the spring.datasource data source with one that routes read-only transactions
+ * to the replicas of catchup.datasource.replica-routing.replicas. It is enabled by catchup.datasource.replica-routing.enabled.
+ * The primary and every replica get a pool configured by spring.datasource.hikari; replica pools are read-only.
+ * @see ReplicaRoutingDataSource
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "catchup.datasource.replica-routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfiguration {
+
+    @Bean(autowireCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaRoutingProperties replicaRoutingProperties,
+                                                             Environment environment) {
+        var primary = hikariDataSource(dataSourceProperties, environment, "primary");
+        var replicas = new LinkedHashMap<String, DataSource>();
+        for (var replica : replicaRoutingProperties.replicas()) {
+            var name = "replica-" + replicas.size();
+            var replicaDataSource = hikariDataSource(dataSourceProperties, environment, name);
+            replicaDataSource.setJdbcUrl(replica.url());
+            replicaDataSource.setUsername(replica.username());
+            replicaDataSource.setPassword(replica.password());
+            replicaDataSource.setReadOnly(true);
+            replicas.put(name, replicaDataSource);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, replicaRoutingProperties.selection(),
+                replicaRoutingProperties.lagTolerance(), new MySqlReplicationLagProbe());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaRoutingProperties replicaRoutingProperties,
+                                 Environment environment) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource(dataSourceProperties, replicaRoutingProperties, environment));
+    }
+
+    private static HikariDataSource hikariDataSource(DataSourceProperties dataSourceProperties, Environment environment, String name) {
+        var dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("CatchUpPool-" + name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,147 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReplicaRoutingDataSource
+ * @summary
+ * The ReplicaRoutingDataSource class routes the connections of read-only transactions to a replica, and all other connections to the primary.
+ * <ul>
+ * <li>A replica is selected round-robin or by least open connections among the replicas within the lag tolerance.</li>
+ * <li>The lag of the replicas is checked on a schedule. Until a replica is checked, and whenever its lag is unknown or over the tolerance,
+ * it is skipped; without any replica left, reads fall back to the primary.</li>
+ * <li>Reads pinned with ReadYourWrites stay on the primary.</li>
+ * </ul>
+ * Transactions decide read-only after they acquire their connection, so this data source must be wrapped in a LazyConnectionDataSourceProxy.
+ * @see ReadYourWrites
+ * @since 1.0.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaSelection selection;
+    private final Duration lagTolerance;
+    private final ReplicationLagProbe lagProbe;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, ReplicaSelection selection,
+                                    Duration lagTolerance, ReplicationLagProbe lagProbe) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream().map(replica -> new Replica(replica.getKey(), replica.getValue())).toList();
+        this.selection = selection;
+        this.lagTolerance = lagTolerance;
+        this.lagProbe = lagProbe;
+        var targetDataSources = new HashMap<Object, Object>();
+        targetDataSources.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targetDataSources.put(replica.name, replica));
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicationLag();
+    }
+
+    /**
+     * Checks the replication lag of the replicas, skipping those whose lag is unknown or over the tolerance.
+     */
+    @Scheduled(fixedDelayString = "${catchup.datasource.replica-routing.lag-check-interval}")
+    public void checkReplicationLag() {
+        for (var replica : replicas) {
+            var withinLagTolerance = false;
+            try (var connection = replica.getTargetDataSource().getConnection()) {
+                withinLagTolerance = lagProbe.measure(connection).map(lag -> lag.compareTo(lagTolerance) <= 0).orElse(false);
+            } catch (SQLException | RuntimeException e) {
+                LOGGER.debug("Replication lag of replica {} could not be checked", replica.name, e);
+            }
+            if (replica.withinLagTolerance.getAndSet(withinLagTolerance) != withinLagTolerance)
+                LOGGER.info("Replica {} is {} reads", replica.name, withinLagTolerance ? "serving" : "skipped for");
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isPrimaryPinned()) return PRIMARY;
+        var eligibleReplicas = replicas.stream().filter(replica -> replica.withinLagTolerance.get()).toList();
+        if (eligibleReplicas.isEmpty()) return PRIMARY;
+        var replica = switch (selection) {
+            case ROUND_ROBIN -> eligibleReplicas.get(Math.floorMod(nextReplica.getAndIncrement(), eligibleReplicas.size()));
+            case LEAST_CONNECTIONS -> eligibleReplicas.stream()
+                    .min(Comparator.comparingInt(candidate -> candidate.openConnections.get()))
+                    .orElseThrow();
+        };
+        return replica.name;
+    }
+
+    /**
+     * Closes the primary and the replicas.
+     * @throws Exception if a data source cannot be closed.
+     */
+    @Override
+    public void close() throws Exception {
+        for (var replica : replicas)
+            if (replica.getTargetDataSource() instanceof AutoCloseable closeable) closeable.close();
+        if (primary instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    /**
+     * Replica
+     * @summary
+     * The Replica class represents a replica data source, counting its open connections.
+     */
+    private static class Replica extends DelegatingDataSource {
+        private final String name;
+        private final AtomicBoolean withinLagTolerance = new AtomicBoolean();
+        private final AtomicInteger openConnections = new AtomicInteger();
+
+        Replica(String name, DataSource dataSource) {
+            super(dataSource);
+            this.name = name;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counted(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counted(super.getConnection(username, password));
+        }
+
+        private Connection counted(Connection connection) {
+            openConnections.incrementAndGet();
+            var closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && closed.compareAndSet(false, true)) openConnections.decrementAndGet();
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * ReplicaRoutingProperties
+ * @summary
+ * ReplicaRoutingProperties is a record class that represents the catchup.datasource.replica-routing configuration.
+ * @param enabled - whether read-only transactions are routed to the replicas.
+ * @param selection - how a replica is selected.
+ * @param lagTolerance - the replication lag over which a replica is skipped.
+ * @param lagCheckInterval - the interval between replication lag checks.
+ * @param replicas - the replicas.
+ * @since 1.0.0
+ */
+@ConfigurationProperties("catchup.datasource.replica-routing")
+public record ReplicaRoutingProperties(boolean enabled, ReplicaSelection selection, Duration lagTolerance,
+                                       Duration lagCheckInterval, List<Replica> replicas) {
+    public ReplicaRoutingProperties {
+        if (selection == null) selection = ReplicaSelection.ROUND_ROBIN;
+        if (lagTolerance == null || lagTolerance.isNegative())
+            throw new IllegalArgumentException("Replica lag tolerance must not be negative");
+        if (replicas == null) replicas = List.of();
+    }
+
+    /**
+     * Replica
+     * @summary
+     * Replica is a record class that represents the connection settings of a replica.
+     * The pool settings are those of spring.datasource.hikari.
+     * @param url - the JDBC URL of the replica.
+     * @param username - the username.
+     * @param password - the password.
+     */
+    public record Replica(String url, String username, String password) {
+        public Replica {
+            if (url == null || url.isBlank()) throw new IllegalArgumentException("Replica URL cannot be null or empty");
+        }
+    }
+}
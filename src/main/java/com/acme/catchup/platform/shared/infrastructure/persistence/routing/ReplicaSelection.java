@@ -0,0 +1,18 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.routing;
+
+/**
+ * ReplicaSelection
+ * @summary
+ * The ReplicaSelection enum represents how a replica is selected among the replicas within the lag tolerance.
+ * @since 1.0.0
+ */
+public enum ReplicaSelection {
+    /**
+     * The replicas take turns.
+     */
+    ROUND_ROBIN,
+    /**
+     * The replica with the fewest open connections is selected.
+     */
+    LEAST_CONNECTIONS
+}
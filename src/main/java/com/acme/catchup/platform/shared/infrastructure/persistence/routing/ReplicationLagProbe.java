@@ -0,0 +1,22 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * @summary
+ * This interface represents the probe measuring how far a replica is behind the primary.
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ReplicationLagProbe {
+    /**
+     * Measures the replication lag of a replica.
+     * @param connection a connection to the replica.
+     * @return the replication lag, or empty if it is unknown, for instance because replication is stopped.
+     * @throws SQLException if the lag cannot be queried.
+     */
+    Optional<Duration> measure(Connection connection) throws SQLException;
+}
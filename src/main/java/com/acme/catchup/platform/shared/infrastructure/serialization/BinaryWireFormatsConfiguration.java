@@ -0,0 +1,126 @@
+package com.acme.catchup.platform.shared.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * BinaryWireFormatsConfiguration
+ * @summary
+ * The BinaryWireFormatsConfiguration class lets the REST API read and write CBOR (application/cbor) and Smile
+ * (application/x-jackson-smile) next to JSON, negotiated with the Accept and Content-Type headers.
+ * Their object mappers are built by the Jackson2ObjectMapperBuilder of Spring Boot, so they are configured as the JSON one,
+ * and cache the serializers of the resources as it does: with the servlet stack as message converters, with the reactive stack as codecs.
+ * With virtual threads, the buffers of every Jackson object mapper are recycled through a pool shared by all threads instead
+ * of one per thread, as virtual threads live for a single request and would allocate new buffers every time.
+ * @since 1.0.0
+ */
+@Configuration
+public class BinaryWireFormatsConfiguration {
+    /**
+     * The media type of Smile, as the Jackson message converters and codecs name it.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Recycles the buffers of the Jackson object mappers through a pool shared by all the threads.
+     * @return the customizer of the Jackson2ObjectMapperBuilder.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Jackson2ObjectMapperBuilderCustomizer sharedRecyclerPoolCustomizer() {
+        return builder -> builder.postConfigurer(objectMapper ->
+                objectMapper.getFactory().setRecyclerPool(JsonRecyclerPools.sharedConcurrentDequePool()));
+    }
+
+    /**
+     * The message converters of the binary wire formats, for the servlet stack.
+     * They replace the ones Spring MVC registers by default, whose object mappers are not configured by Spring Boot.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletBinaryWireFormatsConfiguration {
+        @Bean
+        public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+        }
+
+        @Bean
+        public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+        }
+    }
+
+    /**
+     * The codecs of the binary wire formats, for the reactive stack.
+     * CBOR is not among the default codecs of Spring WebFlux, and its default Smile codecs are replaced.
+     * Custom codecs come before the default ones, so the CBOR encoder only writes the bodies whose media type is CBOR.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveBinaryWireFormatsConfiguration {
+        @Bean
+        public CodecCustomizer binaryWireFormatsCodecCustomizer(Jackson2ObjectMapperBuilder cborBuilder,
+                                                                Jackson2ObjectMapperBuilder smileBuilder) {
+            var cborMapper = cborBuilder.factory(new CBORFactory()).build();
+            var smileMapper = smileBuilder.factory(new SmileFactory()).build();
+            var smileMediaType = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+            return configurer -> {
+                configurer.customCodecs().register(new SingleValueCborEncoder(cborMapper));
+                configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+                configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, smileMediaType));
+                configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, smileMediaType));
+            };
+        }
+    }
+
+    /**
+     * SingleValueCborEncoder
+     * @summary
+     * The SingleValueCborEncoder class encodes single values as CBOR, as response bodies are written by Spring WebFlux,
+     * which the Jackson2CborEncoder does not support. Streams of values are still not supported.
+     * It only encodes for CBOR itself, not for wildcards nor for the absence of a media type.
+     */
+    static final class SingleValueCborEncoder extends Jackson2CborEncoder {
+        SingleValueCborEncoder(ObjectMapper objectMapper) {
+            super(objectMapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+            return mimeType != null && MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mimeType) && super.canEncode(elementType, mimeType);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                       MimeType mimeType, Map<String, Object> hints) {
+            if (!(inputStream instanceof Mono<?> value)) return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+            return value.map(body -> encodeValue(body, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+    }
+}
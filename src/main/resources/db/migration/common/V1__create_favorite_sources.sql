@@ -0,0 +1,27 @@
+-- Favorite sources, with the pooled sequence of their IDs (a table named by the physical naming strategy, as MySQL has no sequences).
+-- A database created by Hibernate before the migrations already has the table, with an auto_increment id, which is kept.
+create table if not exists favorite_sources (
+    id bigint not null,
+    news_api_key varchar(255) not null,
+    source_id varchar(255) not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id)
+);
+
+create table if not exists favorite_source_seqs (
+    next_val bigint
+);
+
+-- The sequence starts after the IDs already issued, so the inserts of a table that has rows do not reuse them
+insert into favorite_source_seqs select coalesce(max(id), 0) + 1 from favorite_sources;
+
+-- Tables created by Hibernate had no unique index, so only the first of every repeated pair is kept
+-- (the derived table is materialized, as MySQL cannot delete from a table its subquery reads)
+delete from favorite_sources where id not in (
+    select id from (select min(id) as id from favorite_sources group by news_api_key, source_id) as kept
+);
+
+create unique index uk_favorite_sources_news_api_key_source_id on favorite_sources (news_api_key, source_id);
+create index ix_favorite_sources_news_api_key_id on favorite_sources (news_api_key, id);
+create index ix_favorite_sources_news_api_key_updated_at on favorite_sources (news_api_key, updated_at);
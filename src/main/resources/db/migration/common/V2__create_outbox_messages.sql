@@ -0,0 +1,17 @@
+-- Transactional outbox, with the pooled sequence of its IDs
+create table outbox_messages (
+    id bigint not null,
+    event_type varchar(255) not null,
+    payload text not null,
+    attempts integer not null,
+    created_at datetime(6) not null,
+    primary key (id)
+);
+
+create table outbox_message_seqs (
+    next_val bigint
+);
+
+insert into outbox_message_seqs values (1);
+
+create index ix_outbox_messages_event_type_id on outbox_messages (event_type, id);
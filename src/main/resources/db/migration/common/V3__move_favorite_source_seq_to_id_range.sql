@@ -0,0 +1,3 @@
+-- Every shard issues favorite source IDs from its own range, starting at its index shifted by 40 bits.
+-- The range start is 0 without sharding, and set per shard by FavoriteSourceShardFlywayMigrationStrategy.
+update favorite_source_seqs set next_val = ${favorite_source_id_range_start} where next_val < ${favorite_source_id_range_start};
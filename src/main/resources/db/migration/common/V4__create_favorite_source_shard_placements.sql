@@ -0,0 +1,8 @@
+-- Placements of the News API Keys pinned by the shard directory, only used on the first shard
+-- ("if not exists", as the shard directory created it itself before the migrations)
+create table if not exists favorite_source_shard_placements (
+    news_api_key varchar(255) not null,
+    shard varchar(64) not null,
+    target_shard varchar(64),
+    primary key (news_api_key)
+);
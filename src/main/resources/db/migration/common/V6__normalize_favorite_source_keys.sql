@@ -0,0 +1,41 @@
+-- Favorite sources reference their News API Key and source ID in dictionaries, instead of repeating them in every row and index entry
+create table api_keys (
+    id integer not null auto_increment,
+    news_api_key varchar(255) not null,
+    primary key (id)
+);
+
+create unique index uk_api_keys_news_api_key on api_keys (news_api_key);
+
+create table source_keys (
+    id integer not null auto_increment,
+    source_id varchar(255) not null,
+    primary key (id)
+);
+
+create unique index uk_source_keys_source_id on source_keys (source_id);
+
+insert into api_keys (news_api_key) select distinct news_api_key from favorite_sources;
+insert into source_keys (source_id) select distinct source_id from favorite_sources;
+
+-- The defaults only fill the existing rows until they are backfilled
+alter table favorite_sources add column api_key_id integer default 0 not null;
+alter table favorite_sources add column source_key_id integer default 0 not null;
+
+update favorite_sources
+set api_key_id = (select k.id from api_keys k where k.news_api_key = favorite_sources.news_api_key),
+    source_key_id = (select s.id from source_keys s where s.source_id = favorite_sources.source_id);
+
+alter table favorite_sources alter column api_key_id drop default;
+alter table favorite_sources alter column source_key_id drop default;
+
+drop index uk_favorite_sources_news_api_key_source_id on favorite_sources;
+drop index ix_favorite_sources_news_api_key_id on favorite_sources;
+drop index ix_favorite_sources_news_api_key_updated_at on favorite_sources;
+
+create unique index uk_favorite_sources_api_key_id_source_key_id on favorite_sources (api_key_id, source_key_id);
+create index ix_favorite_sources_api_key_id_id on favorite_sources (api_key_id, id);
+create index ix_favorite_sources_api_key_id_updated_at on favorite_sources (api_key_id, updated_at);
+
+alter table favorite_sources drop column news_api_key;
+alter table favorite_sources drop column source_id;
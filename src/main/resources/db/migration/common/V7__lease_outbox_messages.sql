@@ -0,0 +1,2 @@
+-- Outbox messages are leased to a worker while their events are consumed, outside of the transaction that claimed them
+alter table outbox_messages add column leased_until datetime(6);
@@ -0,0 +1,2 @@
+-- Schemas created by Hibernate before the migrations stored the payload as tinytext, limited to 255 bytes
+alter table outbox_messages modify payload text not null;
@@ -0,0 +1,71 @@
+package com.acme.catchup.platform;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The migrations are applied on an empty database, and Hibernate validates the entities against the schema they create,
+ * which the application no longer does on start. They also upgrade a database created by Hibernate before them.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-migration;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true"})
+class SchemaMigrationTests {
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsCreateTheSchemaOfTheEntities() {
+        var info = flyway.info();
+        assertThat(info.pending()).isEmpty();
+        assertThat(info.applied()).hasSize(info.all().length);
+        assertThat(info.current().getVersion().getVersion()).isEqualTo("7");
+    }
+
+    @Test
+    void migratingAgainAppliesNothing() {
+        assertThat(flyway.migrate().migrationsExecuted).isZero();
+    }
+
+    @Test
+    void aDatabaseCreatedByHibernateBeforeTheMigrationsIsUpgraded() {
+        var dataSource = new SingleConnectionDataSource("jdbc:h2:mem:hibernate-schema;DB_CLOSE_DELAY=-1", "sa", "", true);
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                create table favorite_sources (
+                    id bigint not null auto_increment,
+                    created_at datetime(6) not null,
+                    news_api_key varchar(255) not null,
+                    source_id varchar(255) not null,
+                    updated_at datetime(6) not null,
+                    primary key (id)
+                )""");
+        jdbcTemplate.update("""
+                insert into favorite_sources (news_api_key, source_id, created_at, updated_at)
+                values ('legacy-key', 'bbc-news', now(), now()), ('legacy-key', 'cnn', now(), now()),
+                       ('legacy-key', 'bbc-news', now(), now()), ('other-legacy-key', 'cnn', now(), now())""");
+
+        var info = Flyway.configure().configuration(flyway.getConfiguration()).dataSource(dataSource).load().migrate();
+
+        assertThat(info.success).isTrue();
+        assertThat(info.initialSchemaVersion).isEqualTo("0");
+        assertThat(info.targetSchemaVersion).isEqualTo("7");
+        assertThat(jdbcTemplate.queryForList("""
+                select concat(f.id, ':', k.news_api_key, ':', s.source_id) from favorite_sources f
+                join api_keys k on k.id = f.api_key_id join source_keys s on s.id = f.source_key_id order by f.id""", String.class))
+                .containsExactly("1:legacy-key:bbc-news", "2:legacy-key:cnn", "4:other-legacy-key:cnn");
+        assertThat(jdbcTemplate.queryForObject("select next_val from favorite_source_seqs", Long.class)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_messages", Long.class)).isZero();
+        dataSource.destroy();
+    }
+}
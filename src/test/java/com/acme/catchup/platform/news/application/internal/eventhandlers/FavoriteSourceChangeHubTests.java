@@ -0,0 +1,132 @@
+package com.acme.catchup.platform.news.application.internal.eventhandlers;
+
+import com.acme.catchup.platform.news.domain.exceptions.TooManyChangeSubscribersException;
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceChangesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FavoriteSourceChangeHubTests {
+    private static final String NEWS_API_KEY = "api-key";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FavoriteSourceChangeHub hub = new FavoriteSourceChangeHub(meterRegistry, 4, 8, Duration.ofMinutes(1),
+            100, Duration.ofMinutes(1));
+
+    @Test
+    void subscriberResumesAfterTheLastChangeItReceived() {
+        var first = new RecordingSubscriber(Long.MAX_VALUE);
+        hub.handle(new GetFavoriteSourceChangesByNewsApiKeyQuery(NEWS_API_KEY, null)).subscribe(first);
+        hub.consume(List.of(new FavoriteSourceCreatedEvent(NEWS_API_KEY, "bbc-news")));
+        first.dispose();
+        hub.consume(List.of(new FavoriteSourceCreatedEvent(NEWS_API_KEY, "cnn"),
+                new FavoriteSourceCreatedEvent("other-api-key", "abc-news")));
+
+        var resumed = new RecordingSubscriber(Long.MAX_VALUE);
+        hub.handle(new GetFavoriteSourceChangesByNewsApiKeyQuery(NEWS_API_KEY, first.changes.getFirst().id())).subscribe(resumed);
+
+        assertThat(first.changes).extracting(FavoriteSourceChange::sourceIds).containsExactly(List.of("bbc-news"));
+        assertThat(resumed.changes).extracting(FavoriteSourceChange::sourceIds).containsExactly(List.of("cnn"));
+    }
+
+    @Test
+    void subscriberResumingAfterAnUnknownChangeIsToldToResync() {
+        var resumed = new RecordingSubscriber(Long.MAX_VALUE);
+        hub.handle(new GetFavoriteSourceChangesByNewsApiKeyQuery(NEWS_API_KEY, "previous-run-42")).subscribe(resumed);
+
+        assertThat(resumed.changes).extracting(FavoriteSourceChange::type).containsExactly(FavoriteSourceChange.Type.RESYNC);
+    }
+
+    @Test
+    void slowSubscriberIsEvictedWithoutHoldingBackTheOthers() {
+        var slow = new RecordingSubscriber(0);
+        var fast = new RecordingSubscriber(Long.MAX_VALUE);
+        hub.handle(new GetFavoriteSourceChangesByNewsApiKeyQuery(NEWS_API_KEY, null)).subscribe(slow);
+        hub.handle(new GetFavoriteSourceChangesByNewsApiKeyQuery(NEWS_API_KEY, null)).subscribe(fast);
+
+        for (var i = 0; i < 10; i++) hub.consume(List.of(new FavoriteSourceCreatedEvent(NEWS_API_KEY, "source-" + i)));
+        slow.request(Long.MAX_VALUE);
+
+        assertThat(fast.changes).hasSize(10);
+        assertThat(slow.changes).hasSize(4);
+        assertThat(slow.completed).isTrue();
+        assertThat(meterRegistry.get("catchup.changes.evictions").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("catchup.changes.subscribers").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentSubscriptionsNeverExceedTheMaximumNumberOfSubscribers() throws InterruptedException {
+        var cappedMeterRegistry = new SimpleMeterRegistry();
+        var cappedHub = new FavoriteSourceChangeHub(cappedMeterRegistry, 4, 8, Duration.ofMinutes(1), 2, Duration.ofMinutes(1));
+        var changes = cappedHub.handle(new GetFavoriteSourceChangesByNewsApiKeyQuery(NEWS_API_KEY, null));
+        var subscribers = new CopyOnWriteArrayList<RecordingSubscriber>();
+        var start = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (var i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    var subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+                    subscribers.add(subscriber);
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    changes.subscribe(subscriber);
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(subscribers).filteredOn(subscriber -> subscriber.error == null).hasSize(2);
+        assertThat(subscribers).filteredOn(subscriber -> subscriber.error instanceof TooManyChangeSubscribersException).hasSize(6);
+        assertThat(cappedMeterRegistry.get("catchup.changes.subscribers").gauge().value()).isEqualTo(2);
+
+        subscribers.stream().filter(subscriber -> subscriber.error == null).findFirst().orElseThrow().dispose();
+        var replacement = new RecordingSubscriber(Long.MAX_VALUE);
+        changes.subscribe(replacement);
+        assertThat(replacement.error).isNull();
+        assertThat(cappedMeterRegistry.get("catchup.changes.subscribers").gauge().value()).isEqualTo(2);
+    }
+
+    private static final class RecordingSubscriber extends BaseSubscriber<FavoriteSourceChange> {
+        private final List<FavoriteSourceChange> changes = new CopyOnWriteArrayList<>();
+        private final long initialRequest;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            if (initialRequest > 0) request(initialRequest);
+        }
+
+        @Override
+        protected void hookOnNext(FavoriteSourceChange change) {
+            changes.add(change);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed = true;
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error = throwable;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.acme.catchup.platform.news.application.internal.eventhandlers;
+
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.shared.infrastructure.outbox.OutboxMessage;
+import com.acme.catchup.platform.shared.infrastructure.outbox.OutboxMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The outbox worker consumes the events of the messages it claims with no transaction held, and leaves the dead ones behind.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-worker;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "catchup.outbox.poll-interval=PT1H",
+        "catchup.outbox.max-attempts=3"})
+class FavoriteSourceCreatedOutboxWorkerTests {
+    private static final String EVENT_TYPE = FavoriteSourceCreatedEvent.class.getName();
+
+    @Autowired
+    private FavoriteSourceCreatedOutboxWorker worker;
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+    @Autowired
+    private RecordingConsumer consumer;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void emptyOutbox() {
+        outboxMessageRepository.deleteAll();
+        consumer.events.clear();
+        consumer.failing = false;
+    }
+
+    @Test
+    void aPoisonMessageIsDeadWithoutHoldingBackTheOthers() {
+        var poison = outboxMessageRepository.save(new OutboxMessage(EVENT_TYPE, "{\"newsApiKey\":"));
+        outboxMessageRepository.save(new OutboxMessage(EVENT_TYPE, "{\"newsApiKey\":\"outbox-key\",\"sourceId\":\"bbc-news\"}"));
+        var deadMessages = meterRegistry.counter("catchup.outbox.dead.messages").count();
+
+        worker.drain();
+
+        assertThat(consumer.events).containsExactly(new FavoriteSourceCreatedEvent("outbox-key", "bbc-news"));
+        assertThat(outboxMessageRepository.findAll()).singleElement().satisfies(message -> {
+            assertThat(message.getId()).isEqualTo(poison.getId());
+            assertThat(message.getAttempts()).isEqualTo(3);
+        });
+        assertThat(meterRegistry.counter("catchup.outbox.dead.messages").count()).isEqualTo(deadMessages + 1);
+
+        worker.drain();
+        assertThat(consumer.events).hasSize(1);
+    }
+
+    @Test
+    void aBatchThatFailsIsLeasedUntilItIsAttemptedAgain() {
+        outboxMessageRepository.save(new OutboxMessage(EVENT_TYPE, "{\"newsApiKey\":\"outbox-key\",\"sourceId\":\"cnn\"}"));
+        consumer.failing = true;
+
+        worker.drain();
+        worker.drain();
+
+        assertThat(consumer.events).hasSize(1);
+        assertThat(outboxMessageRepository.findAll()).singleElement().satisfies(message -> {
+            assertThat(message.getAttempts()).isEqualTo(1);
+            assertThat(message.getLeasedUntil()).isAfter(new Date());
+        });
+    }
+
+    @TestConfiguration
+    static class RecordingConsumerConfiguration {
+        @Bean
+        RecordingConsumer recordingConsumer() {
+            return new RecordingConsumer();
+        }
+    }
+
+    static class RecordingConsumer implements FavoriteSourceCreatedEventConsumer {
+        private final List<FavoriteSourceCreatedEvent> events = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public void consume(List<FavoriteSourceCreatedEvent> events) {
+            this.events.addAll(events);
+            if (failing) throw new IllegalStateException("Consumer failure");
+        }
+    }
+}
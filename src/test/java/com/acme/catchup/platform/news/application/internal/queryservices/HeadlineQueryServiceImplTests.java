@@ -0,0 +1,189 @@
+package com.acme.catchup.platform.news.application.internal.queryservices;
+
+import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetHeadlinesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.Article;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceQueryService;
+import com.acme.catchup.platform.news.domain.services.NewsArticleProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HeadlineQueryServiceImplTests {
+    private static final String NEWS_API_KEY = "api-key";
+
+    private final FavoriteSourceQueryService favoriteSourceQueryService = mock(FavoriteSourceQueryService.class);
+    private HeadlineQueryServiceImpl headlineQueryService;
+
+    @AfterEach
+    void closeService() {
+        if (headlineQueryService != null) headlineQueryService.close();
+    }
+
+    @Test
+    void headlinesAreMergedDeduplicatedAndSortedNewestFirst() {
+        favoriteSources("bbc-news", "cnn");
+        headlineQueryService = service(provider(1, sourceId -> switch (sourceId) {
+            case "bbc-news" -> List.of(article(sourceId, "https://example.com/a", 10), article(sourceId, "https://example.com/b", 30));
+            default -> List.of(article(sourceId, "https://example.com/b", 20), article(sourceId, "https://example.com/c", null),
+                    article(sourceId, "https://example.com/d", 20));
+        }), 4, Duration.ofSeconds(2), 100);
+
+        var headlines = headlineQueryService.handle(new GetHeadlinesByNewsApiKeyQuery(NEWS_API_KEY));
+
+        assertThat(headlines.articles()).extracting(Article::url)
+                .containsExactly("https://example.com/b", "https://example.com/d", "https://example.com/a", "https://example.com/c");
+        assertThat(headlines.failedSourceIds()).isEmpty();
+    }
+
+    @Test
+    void failingAndSlowSourcesAreReportedWithoutFailingTheHeadlines() {
+        favoriteSources("bbc-news", "cnn", "slow");
+        headlineQueryService = service(provider(1, sourceId -> switch (sourceId) {
+            case "bbc-news" -> List.of(article(sourceId, "https://example.com/a", 10));
+            case "cnn" -> throw new IllegalStateException("Provider unavailable");
+            default -> {
+                sleep(2_000);
+                yield List.of(article(sourceId, "https://example.com/z", 50));
+            }
+        }), 4, Duration.ofMillis(200), 100);
+
+        var headlines = headlineQueryService.handle(new GetHeadlinesByNewsApiKeyQuery(NEWS_API_KEY));
+
+        assertThat(headlines.articles()).extracting(Article::url).containsExactly("https://example.com/a");
+        assertThat(headlines.failedSourceIds()).containsExactly("cnn", "slow");
+    }
+
+    @Test
+    void fetchesAreBoundedByMaxConcurrency() {
+        favoriteSources("s1", "s2", "s3", "s4", "s5", "s6");
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        headlineQueryService = service(provider(1, sourceId -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(50);
+            inFlight.decrementAndGet();
+            return List.of(article(sourceId, "https://example.com/" + sourceId, 1));
+        }), 2, Duration.ofSeconds(5), 3);
+
+        var headlines = headlineQueryService.handle(new GetHeadlinesByNewsApiKeyQuery(NEWS_API_KEY));
+
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(headlines.articles()).hasSize(3);
+        assertThat(headlines.failedSourceIds()).isEmpty();
+    }
+
+    @Test
+    void timeoutsStartOnceTheFetchHoldsItsPermit() {
+        favoriteSources("s1", "s2", "s3", "s4");
+        headlineQueryService = service(provider(1, sourceId -> {
+            sleep(150);
+            return List.of(article(sourceId, "https://example.com/" + sourceId, 1));
+        }), 1, Duration.ofMillis(400), 100);
+
+        var headlines = headlineQueryService.handle(new GetHeadlinesByNewsApiKeyQuery(NEWS_API_KEY));
+
+        assertThat(headlines.articles()).hasSize(4);
+        assertThat(headlines.failedSourceIds()).isEmpty();
+    }
+
+    @Test
+    void fetchesThatTimeOutAreInterruptedAndReleaseTheirPermit() throws InterruptedException {
+        favoriteSources("slow", "next");
+        var interrupted = new CountDownLatch(1);
+        var fetched = new CopyOnWriteArrayList<String>();
+        headlineQueryService = service(provider(1, sourceId -> {
+            fetched.add(sourceId);
+            if (sourceId.equals("slow")) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+            return List.of(article(sourceId, "https://example.com/" + sourceId, 1));
+        }), 1, Duration.ofMillis(200), 100);
+
+        var headlines = headlineQueryService.handle(new GetHeadlinesByNewsApiKeyQuery(NEWS_API_KEY));
+
+        assertThat(headlines.articles()).extracting(Article::url).containsExactly("https://example.com/next");
+        assertThat(headlines.failedSourceIds()).containsExactly("slow");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(fetched).containsExactlyInAnyOrder("next", "slow");
+    }
+
+    @Test
+    void sourcesAreSortedAndBatchedIntoAsFewFetchesAsTheProviderAllows() {
+        favoriteSources("s5", "s3", "s1", "s4", "s2");
+        var batches = new CopyOnWriteArrayList<List<String>>();
+        headlineQueryService = service(new NewsArticleProvider() {
+            @Override
+            public List<Article> fetchTopHeadlines(String newsApiKey, List<String> sourceIds) {
+                batches.add(sourceIds);
+                return sourceIds.stream().map(sourceId -> article(sourceId, "https://example.com/" + sourceId, 1)).toList();
+            }
+
+            @Override
+            public int getMaxSourcesPerRequest() {
+                return 2;
+            }
+        }, 4, Duration.ofSeconds(2), 100);
+
+        var headlines = headlineQueryService.handle(new GetHeadlinesByNewsApiKeyQuery(NEWS_API_KEY));
+
+        assertThat(batches).containsExactlyInAnyOrder(List.of("s1", "s2"), List.of("s3", "s4"), List.of("s5"));
+        assertThat(headlines.articles()).hasSize(5);
+    }
+
+    private HeadlineQueryServiceImpl service(NewsArticleProvider provider, int maxConcurrency, Duration sourceTimeout, int maxArticles) {
+        return new HeadlineQueryServiceImpl(favoriteSourceQueryService, provider, maxConcurrency, sourceTimeout, maxArticles);
+    }
+
+    private static NewsArticleProvider provider(int maxSourcesPerRequest, Function<String, List<Article>> topHeadlinesBySourceId) {
+        return new NewsArticleProvider() {
+            @Override
+            public List<Article> fetchTopHeadlines(String newsApiKey, List<String> sourceIds) {
+                return sourceIds.stream().flatMap(sourceId -> topHeadlinesBySourceId.apply(sourceId).stream()).toList();
+            }
+
+            @Override
+            public int getMaxSourcesPerRequest() {
+                return maxSourcesPerRequest;
+            }
+        };
+    }
+
+    private void favoriteSources(String... sourceIds) {
+        var favoriteSources = java.util.Arrays.stream(sourceIds)
+                .map(sourceId -> new FavoriteSourceSummary(null, NEWS_API_KEY, sourceId, null))
+                .toList();
+        when(favoriteSourceQueryService.handle(any(GetAllFavoriteSourcesByNewsApiKeyQuery.class))).thenReturn(favoriteSources);
+    }
+
+    private static Article article(String sourceId, String url, Integer publishedAtSeconds) {
+        var publishedAt = publishedAtSeconds == null ? null : Instant.ofEpochSecond(publishedAtSeconds);
+        return new Article(sourceId, sourceId, null, "Title", null, url, null, publishedAt);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
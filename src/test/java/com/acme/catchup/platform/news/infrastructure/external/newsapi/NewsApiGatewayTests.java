@@ -0,0 +1,156 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class NewsApiGatewayTests {
+    private static final String ARTICLES_JSON = """
+            {"status":"ok","articles":[{"source":{"id":"bbc-news","name":"BBC News"},"title":"Title",
+            "url":"https://www.bbc.co.uk/news/1","publishedAt":"2024-10-01T10:00:00Z"}]}""";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CopyOnWriteArrayList<String> queries = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private volatile int status = 200;
+    private HttpServer server;
+
+    @BeforeEach
+    void startStubProvider() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/top-headlines", exchange -> {
+            requests.incrementAndGet();
+            queries.add(exchange.getRequestURI().getQuery());
+            sleep(200);
+            var body = ARTICLES_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubProvider() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void identicalRequestsInFlightAreCoalescedIntoOneCall() throws Exception {
+        var gateway = gateway(10);
+        var callers = Executors.newFixedThreadPool(8);
+        var results = new CopyOnWriteArrayList<Future<?>>();
+        for (int i = 0; i < 8; i++) {
+            var sourceIds = i % 2 == 0 ? List.of("cnn", "bbc-news") : List.of("bbc-news", "cnn");
+            results.add(callers.submit(() -> assertThat(gateway.fetchTopHeadlines("api-key", sourceIds)).hasSize(1)));
+        }
+        for (var result : results) result.get(5, TimeUnit.SECONDS);
+        callers.shutdown();
+
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(queries).singleElement().asString().contains("sources=bbc-news,cnn");
+        assertThat(meterRegistry.get("catchup.news-api.requests").tag("outcome", "coalesced").counter().count()).isEqualTo(7);
+    }
+
+    @Test
+    void requestsBeyondTheBudgetOfTheKeyAreRejected() {
+        var gateway = gateway(2);
+        gateway.fetchTopHeadlines("api-key", List.of("bbc-news"));
+        gateway.fetchTopHeadlines("api-key", List.of("cnn"));
+
+        assertThatThrownBy(() -> gateway.fetchTopHeadlines("api-key", List.of("the-verge")))
+                .isInstanceOf(NewsApiQuotaExceededException.class);
+        assertThat(gateway.fetchTopHeadlines("other-api-key", List.of("the-verge"))).hasSize(1);
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(gateway.remainingQuota("api-key")).isZero();
+        assertThat(gateway.remainingQuota("other-api-key")).isEqualTo(1);
+    }
+
+    @Test
+    void theLowestBudgetsAreReportedByTheFingerprintsOfTheirKeys() {
+        var gateway = gateway(3);
+        gateway.fetchTopHeadlines("api-key", List.of("bbc-news"));
+        gateway.fetchTopHeadlines("api-key", List.of("cnn"));
+        gateway.fetchTopHeadlines("other-api-key", List.of("cnn"));
+        gateway.fetchTopHeadlines("third-api-key", List.of("cnn"));
+
+        assertThat(gateway.quotaKeys()).isEqualTo(3);
+        var lowest = gateway.lowestRemainingQuotas(2);
+        assertThat(lowest).extracting(NewsApiGateway.RemainingQuota::keyFingerprint)
+                .startsWith(NewsApiGateway.fingerprint("api-key"))
+                .doesNotHaveDuplicates()
+                .allSatisfy(fingerprint -> assertThat(fingerprint).hasSize(16));
+        assertThat(lowest).extracting(NewsApiGateway.RemainingQuota::remaining)
+                .satisfiesExactly(remaining -> assertThat(remaining).isCloseTo(1, within(0.1)),
+                        remaining -> assertThat(remaining).isCloseTo(2, within(0.1)));
+    }
+
+    @Test
+    void tooManyRequestsFromTheProviderExhaustsTheBudget() {
+        var gateway = gateway(10);
+        status = 429;
+
+        assertThatThrownBy(() -> gateway.fetchTopHeadlines("api-key", List.of("bbc-news")))
+                .isInstanceOf(NewsApiQuotaExceededException.class);
+        assertThatThrownBy(() -> gateway.fetchTopHeadlines("api-key", List.of("cnn")))
+                .isInstanceOf(NewsApiQuotaExceededException.class);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void tooManySourcesForOneRequestAreRefused() {
+        var gateway = gateway(10);
+
+        assertThatThrownBy(() -> gateway.fetchTopHeadlines("api-key", List.of("a", "b", "c")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(requests.get()).isZero();
+    }
+
+    @Test
+    void budgetsAreKeptForAtMostMaxKeysWithoutTaggingMetricsByKey() {
+        var gateway = gateway(10, 2);
+        for (var apiKey : List.of("first-api-key", "second-api-key", "third-api-key", "fourth-api-key"))
+            gateway.fetchTopHeadlines(apiKey, List.of("bbc-news"));
+
+        assertThat(meterRegistry.get("catchup.news-api.quota.keys").gauge().value()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.getMeters()).allSatisfy(meter -> assertThat(meter.getId().getTag("key")).isNull());
+        assertThat(meterRegistry.get("catchup.news-api.requests").tag("outcome", "sent").counter().count()).isEqualTo(4);
+    }
+
+    private NewsApiGateway gateway(long quotaCapacity) {
+        return gateway(quotaCapacity, 100);
+    }
+
+    private NewsApiGateway gateway(long quotaCapacity, long quotaMaxKeys) {
+        var client = new NewsApiClient(RestClient.builder(), "http://localhost:" + server.getAddress().getPort(),
+                Duration.ofSeconds(1), Duration.ofSeconds(2), 100);
+        return new NewsApiGateway(client, meterRegistry, quotaCapacity, Duration.ofDays(1), quotaMaxKeys, 2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
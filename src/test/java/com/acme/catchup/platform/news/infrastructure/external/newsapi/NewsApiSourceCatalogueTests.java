@@ -0,0 +1,137 @@
+package com.acme.catchup.platform.news.infrastructure.external.newsapi;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsApiSourceCatalogueTests {
+    private static final String SOURCES_JSON = """
+            {"status":"ok","sources":[{"id":"bbc-news","name":"%s","description":"BBC News","url":"https://www.bbc.co.uk/news",
+            "category":"general","language":"en","country":"gb"}]}""";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile String sourceName = "BBC News";
+    private volatile long delayMillis = 200;
+    private volatile int status = 200;
+    private HttpServer server;
+
+    @BeforeEach
+    void startStubProvider() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/top-headlines/sources", exchange -> {
+            requests.incrementAndGet();
+            sleep(delayMillis);
+            var body = SOURCES_JSON.formatted(sourceName).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubProvider() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentColdLookupsAreCoalescedIntoOneFetch() throws Exception {
+        var catalogue = catalogue("api-key", Duration.ofHours(1));
+        var lookups = Executors.newFixedThreadPool(8);
+        var results = new CopyOnWriteArrayList<Future<?>>();
+        for (int i = 0; i < 8; i++)
+            results.add(lookups.submit(() -> assertThat(catalogue.findById("bbc-news")).isPresent()));
+        for (var result : results) result.get(5, TimeUnit.SECONDS);
+        lookups.shutdown();
+
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(catalogue.findById("unknown")).isEmpty();
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void staleCatalogueIsServedWhileItIsRefreshed() {
+        var catalogue = catalogue("api-key", Duration.ZERO);
+        assertThat(catalogue.findById("bbc-news")).hasValueSatisfying(source -> assertThat(source.name()).isEqualTo("BBC News"));
+        var version = catalogue.version();
+
+        sourceName = "BBC World News";
+        assertThat(catalogue.findById("bbc-news")).hasValueSatisfying(source -> assertThat(source.name()).isEqualTo("BBC News"));
+        catalogue.refresh().join();
+
+        assertThat(catalogue.findById("bbc-news")).hasValueSatisfying(source -> assertThat(source.name()).isEqualTo("BBC World News"));
+        assertThat(catalogue.version()).isNotEqualTo(version);
+    }
+
+    @Test
+    void coldLookupsWaitForTheSameFetchOnlyOnce() {
+        delayMillis = 2000;
+        var catalogue = catalogue("api-key", Duration.ofHours(1), Duration.ofMillis(100));
+
+        var startedAt = System.nanoTime();
+        for (int i = 0; i < 10; i++) assertThat(catalogue.findById("bbc-news")).isEmpty();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(500));
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failedFetchesAndUnknownSourceIdsDoNotRefreshBeforeTheMinRefreshInterval() {
+        status = 500;
+        var catalogue = catalogue("api-key", Duration.ofHours(1));
+        assertThat(catalogue.findById("bbc-news")).isEmpty();
+        assertThat(catalogue.findById("bbc-news")).isEmpty();
+        catalogue.refreshIfAbsent(List.of("bbc-news"));
+        assertThat(requests.get()).isEqualTo(1);
+
+        status = 200;
+        catalogue.refresh().join();
+        catalogue.refreshIfAbsent(List.of("unknown"));
+        catalogue.refreshIfAbsent(List.of("unknown"));
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void catalogueIsDisabledWithoutApiKey() {
+        var catalogue = catalogue("", Duration.ofHours(1));
+
+        assertThat(catalogue.findById("bbc-news")).isEmpty();
+        assertThat(requests.get()).isZero();
+    }
+
+    private NewsApiSourceCatalogue catalogue(String apiKey, Duration maxAge) {
+        return catalogue(apiKey, maxAge, Duration.ofSeconds(5));
+    }
+
+    private NewsApiSourceCatalogue catalogue(String apiKey, Duration maxAge, Duration coldFetchTimeout) {
+        var client = new NewsApiClient(RestClient.builder(), "http://localhost:" + server.getAddress().getPort(),
+                Duration.ofSeconds(1), Duration.ofSeconds(2), 20);
+        var gateway = new NewsApiGateway(client, new SimpleMeterRegistry(), 100, Duration.ofDays(1), 100, 20);
+        return new NewsApiSourceCatalogue(gateway, apiKey, maxAge, coldFetchTimeout, Duration.ofHours(1), executor);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.acme.catchup.platform.news.infrastructure.persistence.sharding;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.domain.model.queries.GetAllFavoriteSourcesByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourceByIdQuery;
+import com.acme.catchup.platform.news.domain.model.queries.GetFavoriteSourcesVersionByNewsApiKeyQuery;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourceSummary;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceCommandService;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceQueryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.open-in-view=false",
+        "spring.cache.type=none",
+        "catchup.sharding.enabled=true",
+        "catchup.sharding.directory-cache-ttl=PT0S",
+        "catchup.sharding.shards[0].name=shard-a",
+        "catchup.sharding.shards[0].url=jdbc:h2:mem:shard-a;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "catchup.sharding.shards[0].username=sa",
+        "catchup.sharding.shards[1].name=shard-b",
+        "catchup.sharding.shards[1].url=jdbc:h2:mem:shard-b;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "catchup.sharding.shards[1].username=sa"})
+class FavoriteSourceShardingTests {
+    @Autowired
+    private FavoriteSourceCommandService favoriteSourceCommandService;
+    @Autowired
+    private FavoriteSourceQueryService favoriteSourceQueryService;
+    @Autowired
+    private FavoriteSourceShardDirectory directory;
+    @Autowired
+    private FavoriteSourceShardMigrator migrator;
+    @Autowired
+    private FavoriteSourceShardRoutingDataSource routingDataSource;
+
+    @Test
+    void favoriteSourcesAreStoredOnTheShardOfTheirNewsApiKey() {
+        var newsApiKeys = IntStream.range(0, 20).mapToObj(i -> "stored-key-" + i).toList();
+        newsApiKeys.forEach(newsApiKey ->
+                favoriteSourceCommandService.handle(new CreateFavoriteSourcesCommand(newsApiKey, List.of("bbc-news", "cnn"))));
+
+        for (var newsApiKey : newsApiKeys) {
+            var shard = directory.ringShardFor(newsApiKey);
+            assertThat(countOn(shard, newsApiKey)).isEqualTo(2);
+            assertThat(countOn(otherShard(shard), newsApiKey)).isZero();
+
+            var favoriteSources = favoriteSourceQueryService.handle(new GetAllFavoriteSourcesByNewsApiKeyQuery(newsApiKey));
+            assertThat(favoriteSources).extracting(FavoriteSourceSummary::sourceId).containsExactlyInAnyOrder("bbc-news", "cnn");
+            assertThat(favoriteSourceQueryService.handle(new GetFavoriteSourceByIdQuery(favoriteSources.getFirst().id())))
+                    .hasValueSatisfying(favoriteSource -> assertThat(favoriteSource.newsApiKey()).isEqualTo(newsApiKey));
+            assertThat(favoriteSourceQueryService.handle(new GetFavoriteSourcesVersionByNewsApiKeyQuery(newsApiKey)).count()).isEqualTo(2);
+            if (shard.equals("shard-b"))
+                assertThat(favoriteSources).allSatisfy(favoriteSource -> assertThat(favoriteSource.id()).isGreaterThanOrEqualTo(1L << 40));
+        }
+        assertThat(newsApiKeys).extracting(directory::ringShardFor).contains("shard-a", "shard-b");
+    }
+
+    @Test
+    void aNewsApiKeyIsMovedToAnotherShardKeepingItsIds() throws InterruptedException {
+        var newsApiKey = "moved-key";
+        var created = favoriteSourceCommandService.handle(new CreateFavoriteSourcesCommand(newsApiKey, List.of("bbc-news", "cnn")));
+        var sourceShard = directory.ringShardFor(newsApiKey);
+        var targetShard = otherShard(sourceShard);
+
+        assertThat(migrator.move(newsApiKey, targetShard)).isEqualTo(2);
+
+        assertThat(countOn(sourceShard, newsApiKey)).isZero();
+        assertThat(countOn(targetShard, newsApiKey)).isEqualTo(2);
+        assertThat(favoriteSourceQueryService.handle(new GetAllFavoriteSourcesByNewsApiKeyQuery(newsApiKey)))
+                .extracting(FavoriteSourceSummary::id).containsExactlyInAnyOrderElementsOf(created.stream().map(FavoriteSource::getId).toList());
+        assertThat(favoriteSourceQueryService.handle(new GetFavoriteSourceByIdQuery(created.getFirst().getId()))).isPresent();
+
+        favoriteSourceCommandService.handle(new CreateFavoriteSourceCommand(newsApiKey, "the-verge"));
+        assertThat(countOn(targetShard, newsApiKey)).isEqualTo(3);
+    }
+
+    @Test
+    void writesAreRejectedWhileANewsApiKeyMoves() {
+        var newsApiKey = "moving-key";
+        favoriteSourceCommandService.handle(new CreateFavoriteSourceCommand(newsApiKey, "bbc-news"));
+        var shard = directory.ringShardFor(newsApiKey);
+        directory.markMoving(newsApiKey, otherShard(shard));
+        try {
+            assertThatThrownBy(() -> favoriteSourceCommandService.handle(new CreateFavoriteSourceCommand(newsApiKey, "cnn")))
+                    .isInstanceOf(TransientDataAccessResourceException.class);
+            assertThat(favoriteSourceQueryService.handle(new GetAllFavoriteSourcesByNewsApiKeyQuery(newsApiKey))).hasSize(1);
+        } finally {
+            directory.place(newsApiKey, shard);
+        }
+        favoriteSourceCommandService.handle(new CreateFavoriteSourceCommand(newsApiKey, "cnn"));
+        assertThat(countOn(shard, newsApiKey)).isEqualTo(2);
+    }
+
+    @Test
+    void addingAShardOnlyMovesTheKeysItTakesOver() {
+        var ring = new ShardRing(List.of("shard-a", "shard-b"), 128);
+        var grownRing = new ShardRing(List.of("shard-a", "shard-b", "shard-c"), 128);
+        var newsApiKeys = IntStream.range(0, 10_000).mapToObj(i -> "key-" + i).toList();
+
+        var moved = newsApiKeys.stream().filter(newsApiKey -> !ring.shardFor(newsApiKey).equals(grownRing.shardFor(newsApiKey))).toList();
+
+        assertThat(moved).allSatisfy(newsApiKey -> assertThat(grownRing.shardFor(newsApiKey)).isEqualTo("shard-c"));
+        assertThat(moved.size()).isBetween(2_500, 4_200);
+    }
+
+    private int countOn(String shard, String newsApiKey) {
+        return new JdbcTemplate(routingDataSource.getShards().get(shard))
+                .queryForObject("select count(*) from favorite_sources f join api_keys k on k.id = f.api_key_id where k.news_api_key = ?", Integer.class, newsApiKey);
+    }
+
+    private static String otherShard(String shard) {
+        return shard.equals("shard-a") ? "shard-b" : "shard-a";
+    }
+}
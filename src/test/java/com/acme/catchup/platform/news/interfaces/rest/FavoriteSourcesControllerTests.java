@@ -0,0 +1,419 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.news.domain.model.aggregates.FavoriteSource;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourcesCommand;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceCommandService;
+import com.acme.catchup.platform.news.infrastructure.persistence.jpa.FavoriteSourceRepository;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourcesResultResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourcesImportProgressResource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The servlet profile serves the favorite sources API with the controller, on JPA, with its caches.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:servlet-api;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "catchup.outbox.poll-interval=PT1H",
+        "catchup.changes.max-subscribers=1",
+        "catchup.changes.heartbeat-interval=PT0.1S",
+        "catchup.import.chunk-size=2"})
+class FavoriteSourcesControllerTests {
+    private static final String PATH = "/api/v1/favorite-sources";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private FavoriteSourceRepository favoriteSourceRepository;
+    @Autowired
+    private FavoriteSourceCommandService favoriteSourceCommandService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void creatingAFavoriteSourceEvictsTheCachedFavoriteSourcesOfItsKey() {
+        create("cache-key", "bbc-news");
+        getAll("cache-key").hasSize(1);
+        assertThat(cacheManager.getCache("favoriteSourcesByNewsApiKey").get("cache-key")).isNotNull();
+
+        create("cache-key", "cnn");
+        assertThat(cacheManager.getCache("favoriteSourcesByNewsApiKey").get("cache-key")).isNull();
+        getAll("cache-key").hasSize(2);
+    }
+
+    @Test
+    void theCachedFavoriteSourcesOfAKeyAreEvictedOnlyOnceTheCreationCommits() {
+        create("commit-key", "bbc-news");
+        getAll("commit-key").hasSize(1);
+        var cache = cacheManager.getCache("favoriteSourcesByNewsApiKey");
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            favoriteSourceCommandService.handle(new CreateFavoriteSourceCommand("commit-key", "cnn"));
+            assertThat(cache.get("commit-key")).isNotNull();
+            status.setRollbackOnly();
+        });
+        assertThat(cache.get("commit-key")).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            favoriteSourceCommandService.handle(new CreateFavoriteSourceCommand("commit-key", "cnn"));
+            assertThat(cache.get("commit-key")).isNotNull();
+        });
+        assertThat(cache.get("commit-key")).isNull();
+        getAll("commit-key").hasSize(2);
+    }
+
+    @Test
+    void theStatementsOfARequestAreRecordedOnceForTheRequestWhateverExecutesThem() {
+        create("statements-key", "statements-source");
+
+        var statements = awaitSummary(meterRegistry, "POST", PATH);
+        assertThat(statements.count()).isGreaterThanOrEqualTo(1);
+        assertThat(statements.max()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void creatingAnExistingFavoriteSourceIsAConflict() {
+        var created = create("duplicate-key", "bbc-news");
+
+        webTestClient.post().uri(PATH).bodyValue(Map.of("newsApiKey", "duplicate-key", "sourceId", "bbc-news"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+        getAll("duplicate-key").contains(created).hasSize(1);
+    }
+
+    @Test
+    void favoriteSourcesAreCreatedInBatchesSkippingTheExistingOnes() {
+        create("batch-key", "cnn");
+        getAll("batch-key").hasSize(1);
+
+        var result = webTestClient.post().uri(PATH + "/batch")
+                .bodyValue(Map.of("newsApiKey", "batch-key", "sourceIds", new String[]{"cnn", "abc-news", "bbc-news", "abc-news"}))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CreateFavoriteSourcesResultResource.class).returnResult().getResponseBody();
+        assertThat(result).isNotNull();
+        assertThat(result.created()).extracting(FavoriteSourceResource::sourceId).containsExactly("abc-news", "bbc-news");
+        assertThat(result.rejected()).hasSize(2);
+        assertThat(cacheManager.getCache("favoriteSourcesByNewsApiKey").get("batch-key")).isNull();
+        getAll("batch-key").hasSize(3);
+
+        webTestClient.post().uri(PATH + "/batch").bodyValue(Map.of("newsApiKey", "batch-key", "sourceIds", new String[]{"cnn"}))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void batchesWithBlankOrTooManySourceIdsAreBadRequests() {
+        webTestClient.post().uri(PATH + "/batch").bodyValue(Map.of("newsApiKey", "invalid-batch-key", "sourceIds", Arrays.asList("cnn", null)))
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.post().uri(PATH + "/batch").bodyValue(Map.of("newsApiKey", "invalid-batch-key", "sourceIds", new String[]{"cnn", " "}))
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.post().uri(PATH + "/batch")
+                .bodyValue(Map.of("newsApiKey", "invalid-batch-key",
+                        "sourceIds", Collections.nCopies(CreateFavoriteSourcesCommand.MAX_SOURCE_IDS + 1, "cnn")))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void sourceIdsLongerThanTheirColumnAreBadRequestsInsteadOfConflicts() {
+        var tooLongSourceId = "s".repeat(CreateFavoriteSourceCommand.MAX_LENGTH + 1);
+
+        webTestClient.post().uri(PATH).bodyValue(Map.of("newsApiKey", "too-long-key", "sourceId", tooLongSourceId))
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.post().uri(PATH + "/batch").bodyValue(Map.of("newsApiKey", "too-long-key", "sourceIds", List.of("cnn", tooLongSourceId)))
+                .exchange()
+                .expectStatus().isBadRequest();
+        create("too-long-key", "s".repeat(CreateFavoriteSourceCommand.MAX_LENGTH));
+    }
+
+    @Test
+    void favoriteSourcesArePagedAfterACursorAndStreamedAsOneJsonObjectPerLine() {
+        var first = create("page-key", "abc-news");
+        var second = create("page-key", "bbc-news");
+        var third = create("page-key", "cnn");
+
+        var firstPage = webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "page-key").queryParam("limit", "2").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.LINK, "<.*after=" + second.id() + ".*limit=2.*>; rel=\"next\"")
+                .expectBodyList(FavoriteSourceResource.class).returnResult();
+        assertThat(firstPage.getResponseBody()).containsExactly(first, second);
+        var nextPage = firstPage.getResponseHeaders().getFirst(HttpHeaders.LINK).replaceAll("^<(.*)>.*$", "$1");
+        webTestClient.get().uri(URI.create(nextPage))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.LINK)
+                .expectBodyList(FavoriteSourceResource.class).isEqualTo(List.of(third));
+
+        var streamed = webTestClient.get().uri(uri -> uri.path(PATH + "/stream").queryParam("newsApiKey", "page-key").queryParam("after", first.id()).build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody();
+        assertThat(streamed).isNotNull();
+        assertThat(streamed.split("\n")).hasSize(2).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+        assertThat(streamed).contains("\"sourceId\":\"bbc-news\"", "\"sourceId\":\"cnn\"").doesNotContain("abc-news");
+    }
+
+    @Test
+    void conditionalRequestsAreNotModifiedUntilAFavoriteSourceIsCreated() {
+        var created = create("conditional-key", "bbc-news");
+        var eTag = webTestClient.get().uri(PATH + "/{id}", created.id())
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(FavoriteSourceResource.class).getResponseHeaders().getETag();
+        webTestClient.get().uri(PATH + "/{id}", created.id()).header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        var listETag = getAll("conditional-key").returnResult().getResponseHeaders().getETag();
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "conditional-key").build())
+                .header(HttpHeaders.IF_NONE_MATCH, listETag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        create("conditional-key", "cnn");
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "conditional-key").build())
+                .header(HttpHeaders.IF_NONE_MATCH, listETag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.ETAG, newETag -> assertThat(newETag).isNotEqualTo(listETag))
+                .expectBodyList(FavoriteSourceResource.class).hasSize(2);
+    }
+
+    @Test
+    void aCachedListOlderThanItsVersionIsReadAgain() {
+        create("stale-key", "bbc-news");
+        var staleFavoriteSources = getAll("stale-key").returnResult().getResponseBody();
+        var cachedFavoriteSources = cacheManager.getCache("favoriteSourcesByNewsApiKey").get("stale-key").get();
+        create("stale-key", "cnn");
+        cacheManager.getCache("favoriteSourcesByNewsApiKey").put("stale-key", cachedFavoriteSources);
+
+        getAll("stale-key").hasSize(2).contains(staleFavoriteSources.getFirst());
+        assertThat((List<?>) cacheManager.getCache("favoriteSourcesByNewsApiKey").get("stale-key").get()).hasSize(2);
+    }
+
+    @Test
+    void cachedFavoriteSourcesAreServedWithTheirCachedVersionWithoutQueries() {
+        create("cached-version-key", "bbc-news");
+        var listETag = getAll("cached-version-key").returnResult().getResponseHeaders().getETag();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var executedQueries = statistics.getQueryExecutionCount();
+
+        getAll("cached-version-key").hasSize(1);
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "cached-version-key").build())
+                .header(HttpHeaders.IF_NONE_MATCH, listETag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(executedQueries);
+    }
+
+    @Test
+    void favoriteSourcesAreReadAsProjectionsWithoutOpenInView() {
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+        var created = create("projection-key", "bbc-news");
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var loadedEntities = statistics.getEntityLoadCount();
+        var executedQueries = statistics.getQueryExecutionCount();
+
+        getAll("projection-key").hasSize(1);
+        webTestClient.get().uri(PATH + "/{id}", created.id())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "projection-key").queryParam("sourceId", "bbc-news").build())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "projection-key").queryParam("limit", "10").build())
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(statistics.getQueryExecutionCount()).isGreaterThan(executedQueries);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loadedEntities);
+    }
+
+    @Test
+    void favoriteSourcesCreatedByOtherInstancesAreFound() {
+        favoriteSourceRepository.save(new FavoriteSource(new CreateFavoriteSourceCommand("other-instance-key", "bbc-news")));
+
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "other-instance-key").queryParam("sourceId", "bbc-news").build())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.post().uri(PATH).bodyValue(Map.of("newsApiKey", "other-instance-key", "sourceId", "bbc-news"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void subscriptionsBeyondTheMaximumNumberOfSubscribersAreRefused() {
+        var subscribed = webTestClient.get().uri(uri -> uri.path(PATH + "/changes").queryParam("newsApiKey", "changes-key").build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class);
+        try {
+            webTestClient.get().uri(uri -> uri.path(PATH + "/changes").queryParam("newsApiKey", "changes-key").build())
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .exchange()
+                    .expectStatus().isEqualTo(503)
+                    .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "5");
+        } finally {
+            subscribed.getResponseBody().subscribe().dispose();
+        }
+    }
+
+    @Test
+    void favoriteSourcesExportedAsNdjsonOrCsvAreImportedBack() {
+        var progress = importRows(MediaType.APPLICATION_NDJSON, 0, """
+                {"newsApiKey":"round-trip-key","sourceId":"cnn"}
+                {"newsApiKey":"round-trip-key","sourceId":"abc-news"}
+                {"newsApiKey":"round-trip-key","sourceId":"cnn"}
+                {"newsApiKey":"round-trip-key","sourceId":"bbc-news"}
+                """);
+        assertThat(progress).containsExactly(new FavoriteSourcesImportProgressResource(2, 2, 0, false, null),
+                new FavoriteSourcesImportProgressResource(4, 3, 1, false, null),
+                new FavoriteSourcesImportProgressResource(4, 3, 1, true, null));
+
+        var ndjson = export("round-trip-key", MediaType.APPLICATION_NDJSON);
+        assertThat(ndjson.lines()).hasSize(3).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+        assertThat(ndjson).endsWith("}\n");
+        var csv = export("round-trip-key", TEXT_CSV);
+        assertThat(csv.lines().toList()).hasSize(4).first().isEqualTo("id,newsApiKey,sourceId");
+
+        assertThat(importRows(MediaType.APPLICATION_NDJSON, 0, ndjson).getLast())
+                .isEqualTo(new FavoriteSourcesImportProgressResource(3, 0, 3, true, null));
+        assertThat(importRows(TEXT_CSV, 0, csv).getLast())
+                .isEqualTo(new FavoriteSourcesImportProgressResource(3, 0, 3, true, null));
+        assertThat(export("round-trip-key", TEXT_CSV)).isEqualTo(csv);
+    }
+
+    @Test
+    void malformedRowsEndTheImportWithoutCommittingTheirChunk() {
+        var progress = importRows(MediaType.APPLICATION_NDJSON, 0, """
+                {"newsApiKey":"malformed-key","sourceId":"cnn"}
+                {"newsApiKey":"malformed-key","sourceId":
+                {"newsApiKey":"malformed-key","sourceId":"bbc-news"}
+                """);
+        assertThat(progress).containsExactly(
+                new FavoriteSourcesImportProgressResource(0, 0, 0, false, "Row 2 is not a valid favorite source"));
+
+        progress = importRows(TEXT_CSV, 0, """
+                newsApiKey,sourceId
+                malformed-key,cnn
+                malformed-key,
+                """);
+        assertThat(progress).containsExactly(
+                new FavoriteSourcesImportProgressResource(0, 0, 0, false, "Row 2 is not a valid favorite source"));
+        assertThat(export("malformed-key", MediaType.APPLICATION_NDJSON)).isNullOrEmpty();
+    }
+
+    @Test
+    void anImportFailingWithinAChunkKeepsTheCommittedChunksAndResumesFromItsOffset() {
+        var rows = """
+                {"newsApiKey":"partial-key","sourceId":"abc-news"}
+                {"newsApiKey":"partial-key","sourceId":"bbc-news"}
+                {"newsApiKey":"partial-key","sourceId":"cnn"}
+                {"newsApiKey":"partial-key","sourceId":" "}
+                {"newsApiKey":"partial-key","sourceId":"fox-news"}
+                """;
+        var progress = importRows(MediaType.APPLICATION_NDJSON, 0, rows);
+        assertThat(progress).containsExactly(new FavoriteSourcesImportProgressResource(2, 2, 0, false, null),
+                new FavoriteSourcesImportProgressResource(2, 2, 0, false, "Row 4 is not a valid favorite source"));
+        getAll("partial-key").hasSize(2);
+
+        var resumed = importRows(MediaType.APPLICATION_NDJSON, progress.getLast().offset(), rows.replace("\" \"", "\"nbc-news\""));
+        assertThat(resumed.getLast()).isEqualTo(new FavoriteSourcesImportProgressResource(5, 3, 0, true, null));
+        getAll("partial-key").hasSize(5);
+    }
+
+    private List<FavoriteSourcesImportProgressResource> importRows(MediaType mediaType, long offset, String rows) {
+        return webTestClient.post().uri(uri -> uri.path(PATH + "/import").queryParam("offset", offset).build())
+                .contentType(mediaType)
+                .bodyValue(rows)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(FavoriteSourcesImportProgressResource.class)
+                .getResponseBody().collectList().block();
+    }
+
+    private String export(String newsApiKey, MediaType mediaType) {
+        return webTestClient.get().uri(uri -> uri.path(PATH + "/stream").queryParam("newsApiKey", newsApiKey).build())
+                .accept(mediaType)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(mediaType)
+                .expectBody(String.class).returnResult().getResponseBody();
+    }
+
+    private FavoriteSourceResource create(String newsApiKey, String sourceId) {
+        return webTestClient.post().uri(PATH).bodyValue(Map.of("newsApiKey", newsApiKey, "sourceId", sourceId))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(FavoriteSourceResource.class).returnResult().getResponseBody();
+    }
+
+    /**
+     * Waits for the statements of the requests of a method and URI pattern, which are recorded once the response is written.
+     */
+    static DistributionSummary awaitSummary(MeterRegistry meterRegistry, String method, String uri) {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            var summary = meterRegistry.find("catchup.request.statements").tags("method", method, "uri", uri).summary();
+            if (summary != null || System.nanoTime() > deadline) {
+                assertThat(summary).isNotNull();
+                return summary;
+            }
+            LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+        }
+    }
+
+    private WebTestClient.ListBodySpec<FavoriteSourceResource> getAll(String newsApiKey) {
+        return webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", newsApiKey).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(FavoriteSourceResource.class);
+    }
+}
@@ -0,0 +1,227 @@
+package com.acme.catchup.platform.news.interfaces.rest;
+
+import com.acme.catchup.platform.news.domain.model.commands.CreateFavoriteSourceCommand;
+import com.acme.catchup.platform.news.domain.services.FavoriteSourceCommandService;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.CreateFavoriteSourcesResultResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourceResource;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourcesImportProgressResource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The reactive profile serves the favorite sources API with the functional routes, on R2DBC, against the schema of the migrations.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-api;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-api?options=DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.cache.type=none",
+        "catchup.outbox.poll-interval=PT1H",
+        "catchup.import.chunk-size=2"})
+@ActiveProfiles("reactive")
+class FavoriteSourcesRouterTests {
+    private static final String PATH = "/api/v1/favorite-sources";
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private FavoriteSourceCommandService favoriteSourceCommandService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void favoriteSourcesAreCreatedAndReadThroughTheRoutes() {
+        var created = webTestClient.post().uri(PATH).bodyValue(Map.of("newsApiKey", "router-key", "sourceId", "bbc-news"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(FavoriteSourceResource.class).returnResult().getResponseBody();
+        assertThat(created).isNotNull();
+        assertThat(created.sourceId()).isEqualTo("bbc-news");
+        assertThat(FavoriteSourcesControllerTests.awaitSummary(meterRegistry, "POST", PATH).max()).isGreaterThan(0);
+
+        webTestClient.post().uri(PATH).bodyValue(Map.of("newsApiKey", "router-key", "sourceId", "bbc-news"))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        var eTag = webTestClient.get().uri(PATH + "/{id}", created.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(FavoriteSourceResource.class).isEqualTo(created)
+                .returnResult().getResponseHeaders().getETag();
+        webTestClient.get().uri(PATH + "/{id}", created.id()).header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+        webTestClient.get().uri(PATH + "/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "router-key").queryParam("sourceId", "bbc-news").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(FavoriteSourceResource.class).isEqualTo(created);
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "missing-key").build())
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.get().uri(PATH)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void favoriteSourcesAreCreatedInBatchesWithTheirOutboxMessages() {
+        var outboxMessages = countOutboxMessages();
+        webTestClient.post().uri(PATH).bodyValue(Map.of("newsApiKey", "batch-key", "sourceId", "cnn"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        var result = webTestClient.post().uri(PATH + "/batch")
+                .bodyValue(Map.of("newsApiKey", "batch-key", "sourceIds", new String[]{"cnn", "abc-news", "bbc-news", "abc-news"}))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CreateFavoriteSourcesResultResource.class).returnResult().getResponseBody();
+        assertThat(result).isNotNull();
+        assertThat(result.created()).extracting(FavoriteSourceResource::sourceId).containsExactly("abc-news", "bbc-news");
+        assertThat(result.rejected()).hasSize(2);
+        assertThat(countOutboxMessages()).isEqualTo(outboxMessages + 3);
+
+        webTestClient.post().uri(PATH + "/batch").bodyValue(Map.of("newsApiKey", "batch-key", "sourceIds", new String[]{"cnn"}))
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "batch-key").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBodyList(FavoriteSourceResource.class).hasSize(3);
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "batch-key").queryParam("limit", "2").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.LINK, ".*after=\\d+.*limit=2.*rel=\"next\"")
+                .expectBodyList(FavoriteSourceResource.class).hasSize(2);
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "batch-key").queryParam("limit", "0").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+        var streamed = webTestClient.get().uri(uri -> uri.path(PATH + "/stream").queryParam("newsApiKey", "batch-key").build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(FavoriteSourceResource.class)
+                .getResponseBody().collectList().block();
+        assertThat(streamed).extracting(FavoriteSourceResource::sourceId).containsExactly("cnn", "abc-news", "bbc-news");
+    }
+
+    @Test
+    void reactiveAndJpaWritesShareTheSequenceOfIds() {
+        var reactiveIds = webTestClient.post().uri(PATH + "/batch")
+                .bodyValue(Map.of("newsApiKey", "shared-sequence-key", "sourceIds", new String[]{"a", "b", "c"}))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CreateFavoriteSourcesResultResource.class).returnResult().getResponseBody()
+                .created().stream().map(FavoriteSourceResource::id).toList();
+        var jpaId = favoriteSourceCommandService.handle(new CreateFavoriteSourceCommand("shared-sequence-key", "d")).orElseThrow().getId();
+
+        assertThat(reactiveIds).doesNotContain(jpaId);
+        webTestClient.get().uri(PATH + "/{id}", jpaId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(FavoriteSourceResource.class).value(resource -> assertThat(resource.sourceId()).isEqualTo("d"));
+    }
+
+    @Test
+    void favoriteSourcesAreReadAndWrittenInTheNegotiatedWireFormat() {
+        var created = webTestClient.post().uri(PATH)
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(new CreateFavoriteSourceResource("wire-format-key", "bbc-news"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(FavoriteSourceResource.class).returnResult().getResponseBody();
+        assertThat(created).isNotNull();
+        assertThat(created.sourceId()).isEqualTo("bbc-news");
+
+        webTestClient.get().uri(uri -> uri.path(PATH).queryParam("newsApiKey", "wire-format-key").build())
+                .accept(MediaType.parseMediaType("application/x-jackson-smile"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/x-jackson-smile")
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBodyList(FavoriteSourceResource.class).contains(created).hasSize(1);
+        webTestClient.get().uri(PATH + "/{id}", created.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(FavoriteSourceResource.class).isEqualTo(created);
+    }
+
+    @Test
+    void favoriteSourcesAreImportedInChunksAndExportedFromAnOffset() {
+        var rows = """
+                {"newsApiKey":"import-key","sourceId":"cnn"}
+                {"newsApiKey":"import-key","sourceId":"abc-news"}
+                {"newsApiKey":"import-key","sourceId":"cnn"}
+                {"newsApiKey":"other-import-key","sourceId":"cnn"}
+                {"newsApiKey":"import-key","sourceId":"bbc-news"}
+                """;
+        var progress = webTestClient.post().uri(PATH + "/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(rows)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(FavoriteSourcesImportProgressResource.class)
+                .getResponseBody().collectList().block();
+        assertThat(progress).extracting(FavoriteSourcesImportProgressResource::offset).containsExactly(2L, 3L, 4L, 5L, 5L);
+        assertThat(progress.getLast()).isEqualTo(new FavoriteSourcesImportProgressResource(5, 4, 1, true, null));
+
+        var exported = webTestClient.get().uri(uri -> uri.path(PATH + "/stream").queryParam("newsApiKey", "import-key").build())
+                .accept(MediaType.parseMediaType("text/csv"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.parseMediaType("text/csv"))
+                .expectBody(String.class).returnResult().getResponseBody();
+        assertThat(exported).isNotNull();
+        var exportedRows = exported.lines().toList();
+        assertThat(exportedRows).hasSize(4).first().isEqualTo("id,newsApiKey,sourceId");
+        assertThat(exportedRows.get(3)).endsWith(",import-key,bbc-news");
+        var firstId = exportedRows.get(1).substring(0, exportedRows.get(1).indexOf(','));
+        webTestClient.get().uri(uri -> uri.path(PATH + "/stream").queryParam("newsApiKey", "import-key").queryParam("after", firstId).build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(FavoriteSourceResource.class).hasSize(2);
+
+        var resumed = webTestClient.post().uri(uri -> uri.path(PATH + "/import").queryParam("offset", "1").build())
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(exported + "0,import-key,\n")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(FavoriteSourcesImportProgressResource.class)
+                .getResponseBody().collectList().block();
+        assertThat(resumed).containsExactly(new FavoriteSourcesImportProgressResource(3, 0, 2, false, null),
+                new FavoriteSourcesImportProgressResource(3, 0, 2, false, "Row 4 is not a valid favorite source"));
+    }
+
+    private int countOutboxMessages() {
+        var count = jdbcTemplate.queryForObject("select count(*) from outbox_messages", Integer.class);
+        return count == null ? 0 : count;
+    }
+}
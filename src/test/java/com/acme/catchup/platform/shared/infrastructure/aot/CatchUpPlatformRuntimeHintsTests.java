@@ -0,0 +1,44 @@
+package com.acme.catchup.platform.shared.infrastructure.aot;
+
+import com.acme.catchup.platform.news.domain.model.events.FavoriteSourceCreatedEvent;
+import com.acme.catchup.platform.news.domain.model.valueobjects.FavoriteSourcesVersion;
+import com.acme.catchup.platform.news.infrastructure.external.newsapi.NewsApiSourcesResponse;
+import com.acme.catchup.platform.news.interfaces.rest.resources.FavoriteSourcesImportProgressResource;
+import com.acme.catchup.platform.shared.infrastructure.persistence.jpa.monitoring.JdbcStatementMetricsSessionEventListener;
+import com.acme.catchup.platform.shared.infrastructure.persistence.jpa.strategy.SnakeCasePhysicalNamingStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatchUpPlatformRuntimeHintsTests {
+    private final RuntimeHints hints = new RuntimeHints();
+
+    CatchUpPlatformRuntimeHintsTests() {
+        new CatchUpPlatformRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void classesNamedInHibernatePropertiesCanBeInstantiated() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(SnakeCasePhysicalNamingStrategy.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(JdbcStatementMetricsSessionEventListener.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void constructorExpressionClassCanBeInstantiated() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(FavoriteSourcesVersion.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void jsonTypesOutsideOfSpringMvcAreBound() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(NewsApiSourcesResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(FavoriteSourceCreatedEvent.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(FavoriteSourcesImportProgressResource.class)).accepts(hints);
+    }
+}
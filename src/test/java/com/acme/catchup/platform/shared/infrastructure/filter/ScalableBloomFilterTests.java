@@ -0,0 +1,39 @@
+package com.acme.catchup.platform.shared.infrastructure.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScalableBloomFilterTests {
+
+    @Test
+    void addedStringsMightBeContained() {
+        var filter = new ScalableBloomFilter(1_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("key-" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("key-" + i))).isTrue();
+        assertThat(filter.size()).isLessThanOrEqualTo(10_000).isGreaterThan(9_900);
+    }
+
+    @Test
+    void falsePositivesStayUnderTheRateWhenTheFilterGrows() {
+        var filter = new ScalableBloomFilter(1_000, 0.01);
+        IntStream.range(0, 20_000).forEach(i -> filter.put("key-" + i));
+
+        var falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("missing-" + i)).count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.01);
+    }
+
+    @Test
+    void filterSizedForItsContentsHasASingleBitArray() {
+        var filter = new ScalableBloomFilter(10_000, 0.01);
+        var bytes = filter.bitArrayBytes();
+        IntStream.range(0, 10_000).forEach(i -> filter.put("key-" + i));
+
+        assertThat(filter.bitArrayBytes()).isEqualTo(bytes);
+        assertThat(bytes).isLessThan(15_000);
+    }
+}
@@ -0,0 +1,82 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.jpa.strategy;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+
+import static io.github.encryptorcode.pluralize.Pluralize.pluralize;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnakeCasePhysicalNamingStrategyTests {
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_éÉßıİ";
+    private static final List<String> EDGE_CASES = List.of("FavoriteSource", "newsApiKey", "sourceId", "createdAt", "id", "ID",
+            "URLSource", "aB", "aBC", "aBcD", "abC", "A", "a", "_a_B", "a1B", "aÉ", "éB", "category", "news", "address", "person",
+            "OutboxMessage", "favorite_source_seq", "`FavoriteSource`", "\"newsApiKey\"", "İstanbulKey", "ıB");
+
+    private final Locale defaultLocale = Locale.getDefault();
+
+    @AfterEach
+    void restoreLocale() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"en", "tr"})
+    void physicalNamesMatchTheRegexStrategyByteForByte(String locale) {
+        Locale.setDefault(Locale.forLanguageTag(locale));
+        var strategy = new SnakeCasePhysicalNamingStrategy();
+        var identifiers = identifiers();
+
+        for (int pass = 0; pass < 2; pass++)
+            for (var identifier : identifiers) {
+                assertSameName(identifier, strategy.toPhysicalTableName(identifier, null), RegexStrategy.toPhysicalTableName(identifier));
+                assertSameName(identifier, strategy.toPhysicalColumnName(identifier, null), RegexStrategy.toSnakeCase(identifier));
+                assertSameName(identifier, strategy.toPhysicalSequenceName(identifier, null), RegexStrategy.toSnakeCase(identifier));
+                assertSameName(identifier, strategy.toPhysicalSchemaName(identifier, null), RegexStrategy.toSnakeCase(identifier));
+                assertSameName(identifier, strategy.toPhysicalCatalogName(identifier, null), RegexStrategy.toSnakeCase(identifier));
+            }
+        assertThat(strategy.toPhysicalTableName(null, null)).isNull();
+        assertThat(strategy.toPhysicalColumnName(null, null)).isNull();
+    }
+
+    private static void assertSameName(Identifier logical, Identifier actual, Identifier expected) {
+        assertThat(actual.getText()).as(logical.getText()).isEqualTo(expected.getText());
+        assertThat(actual.isQuoted()).as(logical.getText()).isEqualTo(expected.isQuoted());
+    }
+
+    private static List<Identifier> identifiers() {
+        var random = new Random(42);
+        var identifiers = new ArrayList<Identifier>();
+        EDGE_CASES.forEach(text -> identifiers.add(Identifier.toIdentifier(text)));
+        for (int i = 0; i < 4000; i++) {
+            var text = new StringBuilder();
+            for (int j = 1 + random.nextInt(24); j > 0; j--) text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            identifiers.add(Identifier.toIdentifier(text.toString(), random.nextInt(10) == 0));
+        }
+        return identifiers;
+    }
+
+    /**
+     * The strategy as it was before its names were memoized, as the reference for the physical names.
+     */
+    private static final class RegexStrategy {
+        static Identifier toPhysicalTableName(Identifier identifier) {
+            return toSnakeCase(map(identifier, text -> Identifier.toIdentifier(pluralize(text))));
+        }
+
+        static Identifier toSnakeCase(Identifier identifier) {
+            return map(identifier, text -> Identifier.toIdentifier(text.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase()));
+        }
+
+        private static Identifier map(Identifier identifier, Function<String, Identifier> mapping) {
+            return identifier == null ? null : mapping.apply(identifier.getText());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.acme.catchup.platform.shared.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTests {
+    private final Map<String, Duration> lags = new ConcurrentHashMap<>();
+    private ReplicaRoutingDataSource routingDataSource;
+    private DataSource dataSource;
+
+    @AfterEach
+    void closeDataSources() throws Exception {
+        if (routingDataSource != null) routingDataSource.close();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromTheReplicaAndEverythingElseFromThePrimary() {
+        var jdbcTemplate = jdbcTemplate(routingDataSource(ReplicaSelection.ROUND_ROBIN, "replica-a"));
+        var transactionTemplate = transactionTemplate();
+
+        assertThat(readNode(transactionTemplate, jdbcTemplate, true)).isEqualTo("replica-a");
+        assertThat(readNode(transactionTemplate, jdbcTemplate, false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("select name from node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void pinnedReadsStayOnThePrimary() {
+        var jdbcTemplate = jdbcTemplate(routingDataSource(ReplicaSelection.ROUND_ROBIN, "replica-a"));
+        var transactionTemplate = transactionTemplate();
+        var readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+        readYourWrites.recordWrite("written-key");
+
+        assertThat(readNode(transactionTemplate, () -> readYourWrites.read("written-key",
+                () -> jdbcTemplate.queryForObject("select name from node", String.class)))).isEqualTo("primary");
+        assertThat(readNode(transactionTemplate, () -> readYourWrites.read("other-key",
+                () -> jdbcTemplate.queryForObject("select name from node", String.class)))).isEqualTo("replica-a");
+    }
+
+    @Test
+    void replicasOverTheLagToleranceAreSkipped() {
+        var jdbcTemplate = jdbcTemplate(routingDataSource(ReplicaSelection.ROUND_ROBIN, "replica-a", "replica-b"));
+        var transactionTemplate = transactionTemplate();
+
+        lags.put("replica-a", Duration.ofSeconds(30));
+        routingDataSource.checkReplicationLag();
+        assertThat(readNode(transactionTemplate, jdbcTemplate, true)).isEqualTo("replica-b");
+        assertThat(readNode(transactionTemplate, jdbcTemplate, true)).isEqualTo("replica-b");
+
+        lags.remove("replica-b");
+        routingDataSource.checkReplicationLag();
+        assertThat(readNode(transactionTemplate, jdbcTemplate, true)).isEqualTo("primary");
+
+        lags.put("replica-a", Duration.ofSeconds(1));
+        routingDataSource.checkReplicationLag();
+        assertThat(readNode(transactionTemplate, jdbcTemplate, true)).isEqualTo("replica-a");
+    }
+
+    @Test
+    void roundRobinSelectionAlternatesBetweenReplicas() {
+        var jdbcTemplate = jdbcTemplate(routingDataSource(ReplicaSelection.ROUND_ROBIN, "replica-a", "replica-b"));
+        var transactionTemplate = transactionTemplate();
+
+        assertThat(readNode(transactionTemplate, jdbcTemplate, true)).isEqualTo("replica-a");
+        assertThat(readNode(transactionTemplate, jdbcTemplate, true)).isEqualTo("replica-b");
+        assertThat(readNode(transactionTemplate, jdbcTemplate, true)).isEqualTo("replica-a");
+    }
+
+    @Test
+    void leastConnectionsSelectionPicksTheLeastBusyReplica() throws SQLException {
+        routingDataSource(ReplicaSelection.LEAST_CONNECTIONS, "replica-a", "replica-b");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (var first = routingDataSource.getConnection()) {
+            try (var second = routingDataSource.getConnection()) {
+                assertThat(node(first)).isEqualTo("replica-a");
+                assertThat(node(second)).isEqualTo("replica-b");
+            }
+            try (var third = routingDataSource.getConnection()) {
+                assertThat(node(third)).isEqualTo("replica-b");
+            }
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private DataSource routingDataSource(ReplicaSelection selection, String... replicaNames) {
+        var replicas = new LinkedHashMap<String, DataSource>();
+        for (var replicaName : replicaNames) {
+            replicas.put(replicaName, database(replicaName));
+            lags.put(replicaName, Duration.ZERO);
+        }
+        routingDataSource = new ReplicaRoutingDataSource(database("primary"), replicas, selection, Duration.ofSeconds(2),
+                connection -> Optional.ofNullable(lags.get(node(connection))));
+        routingDataSource.afterPropertiesSet();
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        return dataSource;
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private static JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    private static DataSource database(String name) {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(32))");
+        jdbcTemplate.execute("delete from node");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private String readNode(TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate, boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private String readNode(TransactionTemplate transactionTemplate, Supplier<String> read) {
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> read.get());
+    }
+
+    private static String node(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement(); var resultSet = statement.executeQuery("select name from node")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}